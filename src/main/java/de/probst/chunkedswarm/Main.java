@@ -2,6 +2,8 @@ package de.probst.chunkedswarm;
 
 import de.probst.chunkedswarm.net.netty.app.NettyDistributor;
 import de.probst.chunkedswarm.net.netty.app.NettyForwarder;
+import de.probst.chunkedswarm.net.netty.handler.delivery.DiscardingBlockListener;
+import de.probst.chunkedswarm.net.netty.util.ReassemblyBufferPool;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 
@@ -29,6 +31,10 @@ public class Main {
                                                                 eventLoopGroup,
                                                                 new InetSocketAddress(1337));
 
+            // All local forwarders share the same reassembly memory
+            ReassemblyBufferPool reassemblyBufferPool =
+                    new ReassemblyBufferPool(NettyForwarder.DEFAULT_REASSEMBLY_MEMORY_CAP);
+
             Map<Integer, NettyForwarder> portsToForwarders = new HashMap<>();
             Consumer<Boolean> createForwarder = local -> {
                 for (int i = 0; i < 100; i++) {
@@ -39,7 +45,9 @@ public class Main {
                     NettyForwarder f = new NettyForwarder(eventLoopGroup,
                                                           new InetSocketAddress(20000 + i),
                                                           new InetSocketAddress(local ? "localhost" : "kr0e.no-ip.info",
-                                                                                1337));
+                                                                                1337),
+                                                          reassemblyBufferPool,
+                                                          new DiscardingBlockListener());
                     f.getInitFuture().addListener(fut -> {
                         if (!fut.isSuccess()) {
                             System.out.println("Peer " + k + " connection result: " + fut.cause());
@@ -95,7 +103,7 @@ public class Main {
                     //createForwarder.run();
                 } else if (c == 'p') {
 
-                    distributor.distribute(buf.duplicate(), seq, 0, Duration.ofSeconds(10));
+                    distributor.distribute(buf.duplicate(), seq++, 0, Duration.ofSeconds(10));
                 }
             }
 
@@ -1,14 +1,18 @@
 package de.probst.chunkedswarm.net.netty.app;
 
+import de.probst.chunkedswarm.net.netty.handler.capacity.UploadCapacityHandler;
 import de.probst.chunkedswarm.net.netty.handler.connection.AcknowledgeConnectionsHandler;
 import de.probst.chunkedswarm.net.netty.handler.discovery.SwarmIDRegistrationHandler;
 import de.probst.chunkedswarm.net.netty.handler.exception.ExceptionHandler;
 import de.probst.chunkedswarm.net.netty.handler.group.ChannelGroupHandler;
+import de.probst.chunkedswarm.net.netty.handler.latency.LatencyHandler;
 import de.probst.chunkedswarm.net.netty.handler.push.PushHandler;
 import de.probst.chunkedswarm.net.netty.handler.push.event.PushRequestEvent;
 import de.probst.chunkedswarm.net.netty.util.CloseableChannelGroup;
 import de.probst.chunkedswarm.net.netty.util.NettyUtil;
+import de.probst.chunkedswarm.util.HashAlgorithm;
 import de.probst.chunkedswarm.util.SwarmIDManager;
+import de.probst.chunkedswarm.util.TopologyManager;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -28,6 +32,8 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author Christopher Probst <christopher.probst@hhu.de>
@@ -37,12 +43,24 @@ public final class NettyDistributor implements Closeable {
 
     public static final int MAX_FORWARDER_FRAME_SIZE = 1024 * 1024 * 400;
     public static final int BACKLOG = 256;
+    public static final int DEFAULT_MAX_IN_FLIGHT_BLOCKS = 4;
+    public static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 1024L * 1024 * 1024;
+    public static final double DEFAULT_MAX_EGRESS_FACTOR = PushHandler.SCALED_EGRESS_FACTOR;
+    public static final int DEFAULT_MAX_DEGREE = 63;
 
     private final SwarmIDManager swarmIDManager;
+    private final TopologyManager topologyManager;
     private final UUID masterUUID;
     private final EventLoopGroup bossEventLoopGroup;
     private final EventLoopGroup eventLoopGroup;
     private final SocketAddress socketAddress;
+    private final HashAlgorithm hashAlgorithm;
+    private final Executor hashExecutor;
+    private final PushHandler.ChunkLayout chunkLayout;
+    private final int maxInFlightBlocks;
+    private final long maxInFlightBytes;
+    private final double maxEgressFactor;
+    private final int maxSequenceLag;
     private final ChannelGroup allChannels;
     private final Channel acceptorChannel;
 
@@ -59,7 +77,15 @@ public final class NettyDistributor implements Closeable {
                            protected void initChannel(ServerChannel ch) throws Exception {
 
                                // The parent channel is used for pushing data
-                               ch.pipeline().addLast(new PushHandler(masterUUID));
+                               ch.pipeline().addLast(new PushHandler(masterUUID,
+                                                                           hashAlgorithm,
+                                                                           hashExecutor,
+                                                                           chunkLayout,
+                                                                           topologyManager,
+                                                                           maxInFlightBlocks,
+                                                                           maxInFlightBytes,
+                                                                           maxEgressFactor,
+                                                                           maxSequenceLag));
 
                                // Handle exception logic
                                ch.pipeline().addLast(new ExceptionHandler("DistributorAcceptor"));
@@ -76,11 +102,19 @@ public final class NettyDistributor implements Closeable {
                                ch.pipeline().addLast(new ChannelGroupHandler(allChannels));
 
                                // Handle swarm id management
-                               ch.pipeline().addLast(new SwarmIDRegistrationHandler(allChannels, swarmIDManager));
+                               ch.pipeline().addLast(new SwarmIDRegistrationHandler(allChannels,
+                                                                                    swarmIDManager,
+                                                                                    topologyManager));
 
                                // Handle connection acknowledgements
                                ch.pipeline().addLast(new AcknowledgeConnectionsHandler());
 
+                               // Handle upload capacity reports
+                               ch.pipeline().addLast(new UploadCapacityHandler());
+
+                               // Handle round trip time reports
+                               ch.pipeline().addLast(new LatencyHandler(topologyManager));
+
                                // Handle exception logic
                                ch.pipeline().addLast(new ExceptionHandler("DistributorToForwarder"));
                            }
@@ -101,15 +135,65 @@ public final class NettyDistributor implements Closeable {
     public NettyDistributor(EventLoopGroup bossEventLoopGroup,
                             EventLoopGroup eventLoopGroup,
                             SocketAddress socketAddress) {
+        this(bossEventLoopGroup,
+             eventLoopGroup,
+             socketAddress,
+             HashAlgorithm.SHA1,
+             ForkJoinPool.commonPool(),
+             PushHandler.ChunkLayout.Uniform,
+             DEFAULT_MAX_IN_FLIGHT_BLOCKS,
+             DEFAULT_MAX_IN_FLIGHT_BYTES,
+             DEFAULT_MAX_EGRESS_FACTOR,
+             DEFAULT_MAX_DEGREE,
+             TopologyManager.Mode.Flat,
+             PushHandler.UNLIMITED_SEQUENCE_LAG);
+    }
+
+    public NettyDistributor(EventLoopGroup bossEventLoopGroup,
+                            EventLoopGroup eventLoopGroup,
+                            SocketAddress socketAddress,
+                            HashAlgorithm hashAlgorithm,
+                            Executor hashExecutor,
+                            PushHandler.ChunkLayout chunkLayout,
+                            int maxInFlightBlocks,
+                            long maxInFlightBytes,
+                            double maxEgressFactor,
+                            int maxDegree,
+                            TopologyManager.Mode topologyMode,
+                            int maxSequenceLag) {
         Objects.requireNonNull(bossEventLoopGroup);
         Objects.requireNonNull(eventLoopGroup);
         Objects.requireNonNull(socketAddress);
+        Objects.requireNonNull(hashAlgorithm);
+        Objects.requireNonNull(hashExecutor);
+        Objects.requireNonNull(chunkLayout);
+        Objects.requireNonNull(topologyMode);
+
+        if (maxInFlightBlocks <= 0) {
+            throw new IllegalArgumentException("maxInFlightBlocks <= 0");
+        } else if (maxInFlightBytes <= 0) {
+            throw new IllegalArgumentException("maxInFlightBytes <= 0");
+        } else if (maxEgressFactor != PushHandler.SCALED_EGRESS_FACTOR && !(maxEgressFactor >= 1)) {
+            throw new IllegalArgumentException("maxEgressFactor != SCALED_EGRESS_FACTOR && !(maxEgressFactor >= 1)");
+        } else if (maxDegree <= 0) {
+            throw new IllegalArgumentException("maxDegree <= 0");
+        } else if (maxSequenceLag < 0) {
+            throw new IllegalArgumentException("maxSequenceLag < 0");
+        }
 
         // Init attributes
         swarmIDManager = new SwarmIDManager();
+        topologyManager = new TopologyManager(maxDegree, topologyMode);
         this.bossEventLoopGroup = bossEventLoopGroup;
         this.eventLoopGroup = eventLoopGroup;
         this.socketAddress = socketAddress;
+        this.hashAlgorithm = hashAlgorithm;
+        this.hashExecutor = hashExecutor;
+        this.chunkLayout = chunkLayout;
+        this.maxInFlightBlocks = maxInFlightBlocks;
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.maxEgressFactor = maxEgressFactor;
+        this.maxSequenceLag = maxSequenceLag;
         allChannels = new CloseableChannelGroup(eventLoopGroup.next());
 
         // Create master uuid and blacklist this uuid
@@ -148,8 +232,38 @@ public final class NettyDistributor implements Closeable {
         return initChannelPromise;
     }
 
-    public void distribute(ByteBuffer payload, int sequence, int priority, Duration duration) {
-        acceptorChannel.pipeline().fireUserEventTriggered(new PushRequestEvent(payload, sequence, priority, duration));
+    public ChannelFuture distribute(ByteBuffer payload, int sequence, int priority, Duration duration) {
+        return distribute(payload, sequence, priority, duration, 0);
+    }
+
+    /**
+     * Distributes the payload to the swarm.
+     * <p>
+     * Only a limited number of blocks is in flight at the same time. The returned
+     * future completes, when the block enters the in-flight window. Producers should
+     * wait for it before distributing the next block.
+     * <p>
+     * If the parity ratio is positive, this share of all chunks is used for
+     * Reed-Solomon parity chunks. Receivers can decode the block from any
+     * chunks, as long as they got as many chunks as there are data chunks.
+     * <p>
+     * If the sequence lag is limited, blocks further behind the latest sequence are
+     * superseded. The returned future of a superseded block fails with a
+     * CancellationException, if it did not enter the in-flight window yet.
+     */
+    public ChannelFuture distribute(ByteBuffer payload,
+                                    int sequence,
+                                    int priority,
+                                    Duration duration,
+                                    double parityRatio) {
+        ChannelPromise admissionPromise = acceptorChannel.newPromise();
+        acceptorChannel.pipeline().fireUserEventTriggered(new PushRequestEvent(payload,
+                                                                               sequence,
+                                                                               priority,
+                                                                               duration,
+                                                                               parityRatio,
+                                                                               admissionPromise));
+        return admissionPromise;
     }
 
     public ChannelGroupFuture closeAsync() {
@@ -1,13 +1,21 @@
 package de.probst.chunkedswarm.net.netty.app;
 
+import de.probst.chunkedswarm.net.netty.handler.capacity.UploadCapacityReportHandler;
 import de.probst.chunkedswarm.net.netty.handler.connection.CollectorConnectionHandler;
 import de.probst.chunkedswarm.net.netty.handler.connection.ForwarderConnectionsHandler;
+import de.probst.chunkedswarm.net.netty.handler.delivery.BlockDeliveryHandler;
+import de.probst.chunkedswarm.net.netty.handler.delivery.BlockListener;
+import de.probst.chunkedswarm.net.netty.handler.delivery.DiscardingBlockListener;
 import de.probst.chunkedswarm.net.netty.handler.discovery.SwarmIDCollectionHandler;
 import de.probst.chunkedswarm.net.netty.handler.exception.ExceptionHandler;
 import de.probst.chunkedswarm.net.netty.handler.forwarding.ForwardingHandler;
 import de.probst.chunkedswarm.net.netty.handler.group.ChannelGroupHandler;
+import de.probst.chunkedswarm.net.netty.handler.latency.LatencyProbeHandler;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.ReassemblyHandler;
+import de.probst.chunkedswarm.net.netty.handler.tier.ClusterHeadHandler;
 import de.probst.chunkedswarm.net.netty.util.CloseableChannelGroup;
 import de.probst.chunkedswarm.net.netty.util.NettyUtil;
+import de.probst.chunkedswarm.net.netty.util.ReassemblyBufferPool;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
@@ -26,6 +34,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.net.SocketAddress;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author Christopher Probst <christopher.probst@hhu.de>
@@ -36,11 +45,14 @@ public final class NettyForwarder implements Closeable {
     public static final int MAX_DISTRIBUTOR_FRAME_SIZE = 1024 * 1024 * 400;
     public static final int MAX_COLLECTOR_FRAME_SIZE = 1024 * 1024 * 400;
     public static final int BACKLOG = 256;
+    public static final long DEFAULT_REASSEMBLY_MEMORY_CAP = 1024L * 1024 * 1024;
 
     private final EventLoopGroup eventLoopGroup;
     private final SocketAddress collectorAcceptorAddress;
     private final Channel distributorChannel;
     private final ChannelGroup collectorChannels, allChannels;
+    private final ReassemblyBufferPool reassemblyBufferPool;
+    private final BlockListener blockListener;
 
     // Represents the result of initialization
     private final ChannelPromise initChannelPromise;
@@ -101,9 +113,24 @@ public final class NettyForwarder implements Closeable {
                          ch.pipeline()
                            .addLast(new ForwarderConnectionsHandler(allChannels, eventLoopGroup));
 
+                         // Reassemble blocks from pushed and forwarded chunks
+                         ch.pipeline().addLast(new ReassemblyHandler(reassemblyBufferPool, ForkJoinPool.commonPool()));
+
+                         // Push reassembled blocks to the own cluster, if this forwarder is a cluster head
+                         ch.pipeline().addLast(new ClusterHeadHandler(ForkJoinPool.commonPool()));
+
+                         // Deliver reassembled blocks on demand
+                         ch.pipeline().addLast(new BlockDeliveryHandler(blockListener));
+
                          // Handle push messages, by forwarding them to all forwarder channels
                          ch.pipeline().addLast(new ForwardingHandler());
 
+                         // Report the forwarding throughput to the distributor
+                         ch.pipeline().addLast(new UploadCapacityReportHandler());
+
+                         // Measure the round trip times requested by the distributor
+                         ch.pipeline().addLast(new LatencyProbeHandler(eventLoopGroup));
+
                          // Handle exception logic
                          ch.pipeline().addLast(new ExceptionHandler("ForwarderToDistributor"));
                      }
@@ -124,13 +151,40 @@ public final class NettyForwarder implements Closeable {
     public NettyForwarder(EventLoopGroup eventLoopGroup,
                           SocketAddress collectorAcceptorAddress,
                           SocketAddress distributorAddress) {
+        this(eventLoopGroup,
+             collectorAcceptorAddress,
+             distributorAddress,
+             new ReassemblyBufferPool(DEFAULT_REASSEMBLY_MEMORY_CAP),
+             new DiscardingBlockListener());
+    }
+
+    public NettyForwarder(EventLoopGroup eventLoopGroup,
+                          SocketAddress collectorAcceptorAddress,
+                          SocketAddress distributorAddress,
+                          ReassemblyBufferPool reassemblyBufferPool) {
+        this(eventLoopGroup,
+             collectorAcceptorAddress,
+             distributorAddress,
+             reassemblyBufferPool,
+             new DiscardingBlockListener());
+    }
+
+    public NettyForwarder(EventLoopGroup eventLoopGroup,
+                          SocketAddress collectorAcceptorAddress,
+                          SocketAddress distributorAddress,
+                          ReassemblyBufferPool reassemblyBufferPool,
+                          BlockListener blockListener) {
         Objects.requireNonNull(eventLoopGroup);
         Objects.requireNonNull(collectorAcceptorAddress);
         Objects.requireNonNull(distributorAddress);
+        Objects.requireNonNull(reassemblyBufferPool);
+        Objects.requireNonNull(blockListener);
 
         // Init attributes
         this.eventLoopGroup = eventLoopGroup;
         this.collectorAcceptorAddress = collectorAcceptorAddress;
+        this.reassemblyBufferPool = reassemblyBufferPool;
+        this.blockListener = blockListener;
         collectorChannels = new DefaultChannelGroup(eventLoopGroup.next());
         allChannels = new CloseableChannelGroup(eventLoopGroup.next());
 
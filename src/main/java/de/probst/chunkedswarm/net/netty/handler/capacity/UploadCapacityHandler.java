@@ -0,0 +1,65 @@
+package de.probst.chunkedswarm.net.netty.handler.capacity;
+
+import de.probst.chunkedswarm.net.netty.handler.capacity.event.UploadCapacityEvent;
+import de.probst.chunkedswarm.net.netty.handler.capacity.message.UploadCapacityMessage;
+import de.probst.chunkedswarm.net.netty.handler.discovery.event.SwarmIDAcquisitionEvent;
+import de.probst.chunkedswarm.util.SwarmID;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * Handler sends to parent channel:
+ * - UploadCapacityEvent
+ * <p>
+ * Handler listens to:
+ * - SwarmIDAcquisitionEvent
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 02.09.15
+ */
+public final class UploadCapacityHandler extends ChannelHandlerAdapter {
+
+    // The channel handler context
+    private ChannelHandlerContext ctx;
+
+    // The local swarm id
+    private SwarmID localSwarmID;
+
+    private void fireUploadCapacityEvent(UploadCapacityMessage msg) {
+        // Reports before the registration can not be assigned
+        if (localSwarmID == null) {
+            return;
+        }
+
+        Channel parent = ctx.channel().parent();
+        if (parent == null) {
+            throw new IllegalStateException("parent == null");
+        }
+
+        parent.pipeline().fireUserEventTriggered(new UploadCapacityEvent(localSwarmID, msg.getBytesPerSecond()));
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof SwarmIDAcquisitionEvent) {
+            localSwarmID = ((SwarmIDAcquisitionEvent) evt).getSwarmID();
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof UploadCapacityMessage) {
+            fireUploadCapacityEvent((UploadCapacityMessage) msg);
+        } else {
+            super.channelRead(ctx, msg);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package de.probst.chunkedswarm.net.netty.handler.capacity;
+
+import de.probst.chunkedswarm.net.netty.handler.capacity.message.UploadCapacityMessage;
+import de.probst.chunkedswarm.net.netty.handler.forwarding.ForwardingTracker;
+import de.probst.chunkedswarm.net.netty.handler.forwarding.event.ForwardingCompletedEvent;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+
+import java.time.Duration;
+
+/**
+ * Measures the forwarding throughput and reports it to the distributor.
+ * <p>
+ * Handler listens to:
+ * - ForwardingCompletedEvent
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 02.09.15
+ */
+public final class UploadCapacityReportHandler extends ChannelHandlerAdapter {
+
+    public static final Duration REPORT_INTERVAL = Duration.ofSeconds(1);
+
+    // The weight of a new throughput sample
+    public static final double SMOOTHING_FACTOR = 0.25;
+
+    // The smoothed forwarding throughput
+    private double bytesPerSecond = -1;
+
+    // The time of the last report
+    private long lastReportTime = System.nanoTime() - REPORT_INTERVAL.toNanos();
+
+    private void handleForwardingCompletedEvent(ChannelHandlerContext ctx, ForwardingCompletedEvent evt) {
+        ForwardingTracker forwardingTracker = evt.getForwardingTracker();
+        long ageNanos = Math.max(1, forwardingTracker.getAge().toNanos());
+
+        // Expired and failed writes did not contribute to the throughput
+        long forwardedBytes = (long) forwardingTracker.getChunkHeader().getSize() *
+                              forwardingTracker.getChannelFutureTracker().getSuccessfulChannels().size();
+        double sample = forwardedBytes * 1e9 / ageNanos;
+        bytesPerSecond = bytesPerSecond < 0 ? sample : bytesPerSecond + SMOOTHING_FACTOR * (sample - bytesPerSecond);
+
+        // Do not flood the distributor
+        long now = System.nanoTime();
+        if (now - lastReportTime < REPORT_INTERVAL.toNanos()) {
+            return;
+        }
+        lastReportTime = now;
+
+        ctx.writeAndFlush(new UploadCapacityMessage((long) bytesPerSecond))
+           .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof ForwardingCompletedEvent) {
+            handleForwardingCompletedEvent(ctx, (ForwardingCompletedEvent) evt);
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+}
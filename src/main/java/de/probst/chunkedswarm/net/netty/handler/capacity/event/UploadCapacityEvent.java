@@ -0,0 +1,56 @@
+package de.probst.chunkedswarm.net.netty.handler.capacity.event;
+
+import de.probst.chunkedswarm.util.SwarmID;
+
+import java.util.Objects;
+
+/**
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 02.09.15
+ */
+public final class UploadCapacityEvent {
+
+    private final SwarmID swarmID;
+    private final long bytesPerSecond;
+
+    public UploadCapacityEvent(SwarmID swarmID, long bytesPerSecond) {
+        Objects.requireNonNull(swarmID);
+        this.swarmID = swarmID;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    public SwarmID getSwarmID() {
+        return swarmID;
+    }
+
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        UploadCapacityEvent that = (UploadCapacityEvent) o;
+
+        if (bytesPerSecond != that.bytesPerSecond) return false;
+        return swarmID.equals(that.swarmID);
+
+    }
+
+    @Override
+    public int hashCode() {
+        int result = swarmID.hashCode();
+        result = 31 * result + (int) (bytesPerSecond ^ (bytesPerSecond >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "UploadCapacityEvent{" +
+               "swarmID=" + swarmID +
+               ", bytesPerSecond=" + bytesPerSecond +
+               '}';
+    }
+}
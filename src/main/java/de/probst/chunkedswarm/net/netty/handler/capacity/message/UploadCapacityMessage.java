@@ -0,0 +1,47 @@
+package de.probst.chunkedswarm.net.netty.handler.capacity.message;
+
+import java.io.Serializable;
+
+/**
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 02.09.15
+ */
+public final class UploadCapacityMessage implements Serializable {
+
+    // The measured forwarding throughput
+    private final long bytesPerSecond;
+
+    public UploadCapacityMessage(long bytesPerSecond) {
+        if (bytesPerSecond < 0) {
+            throw new IllegalArgumentException("bytesPerSecond < 0");
+        }
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        UploadCapacityMessage that = (UploadCapacityMessage) o;
+
+        return bytesPerSecond == that.bytesPerSecond;
+
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (bytesPerSecond ^ (bytesPerSecond >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "UploadCapacityMessage{" +
+               "bytesPerSecond=" + bytesPerSecond +
+               '}';
+    }
+}
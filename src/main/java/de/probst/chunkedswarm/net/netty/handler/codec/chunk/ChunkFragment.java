@@ -0,0 +1,59 @@
+package de.probst.chunkedswarm.net.netty.handler.codec.chunk;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+import io.netty.buffer.Unpooled;
+
+/**
+ * A part of a chunk frame.
+ * <p>
+ * All fragments of a frame share the same stream id,
+ * the receiver reassembles the frame after the last fragment.
+ * An aborted fragment tells the receiver to drop an unfinished frame.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 01.09.15
+ */
+public final class ChunkFragment extends DefaultByteBufHolder {
+
+    private final int streamID;
+    private final boolean last;
+    private final boolean aborted;
+
+    public static ChunkFragment aborted(int streamID) {
+        return new ChunkFragment(Unpooled.EMPTY_BUFFER, streamID, false, true);
+    }
+
+    ChunkFragment(ByteBuf fragment, int streamID, boolean last) {
+        this(fragment, streamID, last, false);
+    }
+
+    ChunkFragment(ByteBuf fragment, int streamID, boolean last, boolean aborted) {
+        super(fragment);
+        this.streamID = streamID;
+        this.last = last;
+        this.aborted = aborted;
+    }
+
+    public int getStreamID() {
+        return streamID;
+    }
+
+    public boolean isLast() {
+        return last;
+    }
+
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkFragment{" +
+               "fragment=" + content() +
+               ", streamID=" + streamID +
+               ", last=" + last +
+               ", aborted=" + aborted +
+               '}';
+    }
+}
@@ -0,0 +1,65 @@
+package de.probst.chunkedswarm.net.netty.handler.codec.chunk;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+
+/**
+ * An already encoded chunk message.
+ * <p>
+ * Frames can be written to many channels, while
+ * the chunk message is only encoded once.
+ * <p>
+ * Large frames are written as fragments, so
+ * frames of different blocks can be interleaved.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 25.08.15
+ */
+public final class ChunkFrame extends DefaultByteBufHolder {
+
+    private final int priority;
+    private final int sequence;
+
+    ChunkFrame(ByteBuf frame, int priority, int sequence) {
+        super(frame);
+        this.priority = priority;
+        this.sequence = sequence;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public boolean hasRemainingFragments() {
+        return content().isReadable();
+    }
+
+    /**
+     * Reads the next fragment of at most maxFragmentSize bytes.
+     */
+    public ChunkFragment readFragment(int streamID, int maxFragmentSize) {
+        if (maxFragmentSize <= 0) {
+            throw new IllegalArgumentException("maxFragmentSize <= 0");
+        }
+
+        ByteBuf fragment = content().readSlice(Math.min(maxFragmentSize, content().readableBytes())).retain();
+        return new ChunkFragment(fragment, streamID, !content().isReadable());
+    }
+
+    public ChunkFrame retainedDuplicate() {
+        return new ChunkFrame(content().duplicate().retain(), priority, sequence);
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkFrame{" +
+               "frame=" + content() +
+               ", priority=" + priority +
+               ", sequence=" + sequence +
+               '}';
+    }
+}
@@ -0,0 +1,329 @@
+package de.probst.chunkedswarm.net.netty.handler.codec.chunk;
+
+import de.probst.chunkedswarm.net.netty.handler.forwarding.message.ChunkForwardingMessage;
+import de.probst.chunkedswarm.net.netty.handler.push.message.ChunkPushMessage;
+import de.probst.chunkedswarm.util.BlockHeader;
+import de.probst.chunkedswarm.util.ChunkHeader;
+import de.probst.chunkedswarm.util.Hash;
+import de.probst.chunkedswarm.util.HashAlgorithm;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.MessageToMessageCodec;
+import io.netty.handler.codec.TooLongFrameException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes chunk messages into binary frames without copying the payload.
+ * <p>
+ * Every frame starts with a frame type. Protobuf frames are passed through,
+ * so this codec has to sit between the framing and the protobuf codec.
+ * <p>
+ * Chunk frames can be split into fragments, which are reassembled here.
+ * Reassembled frames are bound by the same maximum frame size as whole frames
+ * and all unfinished frames together may not take more than twice of it.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 24.08.15
+ */
+public final class ChunkMessageCodec extends MessageToMessageCodec<ByteBuf, Object> {
+
+    public static final byte PROTOBUF_FRAME = 0;
+    public static final byte CHUNK_PUSH_FRAME = 1;
+    public static final byte CHUNK_FORWARDING_FRAME = 2;
+    public static final byte CHUNK_FRAGMENT_FRAME = 3;
+
+    // Bare forwarding messages do not know the priority of their block
+    public static final int DEFAULT_PRIORITY = 0;
+
+    // The hash length and the size of a chunk in the block header
+    private static final int CHUNK_ENTRY_MIN_SIZE = 6;
+
+    // Flags of chunk fragments
+    public static final byte FRAGMENT_LAST = 1;
+    public static final byte FRAGMENT_ABORTED = 2;
+
+    // Only frames of more important blocks interrupt a fragmented frame, the scheduler never exceeds this
+    public static final int MAX_FRAGMENTED_FRAMES = 16;
+
+    // Bounds the overhead of tiny fragments, larger frames are consolidated
+    public static final int MAX_FRAGMENT_COMPONENTS = 1024;
+
+    private static void writeHash(ByteBuf out, Hash hash) {
+        out.writeShort(hash.getBytes().length);
+        out.writeBytes(hash.getBytes());
+    }
+
+    private static Hash readHash(ByteBuf in) {
+        byte[] bytes = new byte[in.readUnsignedShort()];
+        in.readBytes(bytes);
+        return new Hash(bytes);
+    }
+
+    private static void writeChunkHeader(ByteBuf out, ChunkHeader chunkHeader) {
+        out.writeInt(chunkHeader.getSequence());
+        out.writeInt(chunkHeader.getChunkIndex());
+        out.writeInt(chunkHeader.getSize());
+    }
+
+    private static ChunkHeader readChunkHeader(ByteBuf in) {
+        return new ChunkHeader(in.readInt(), in.readInt(), in.readInt());
+    }
+
+    private static void writeBlockHeader(ByteBuf out, BlockHeader blockHeader) {
+        out.writeByte(blockHeader.getHashAlgorithm().getID());
+        writeHash(out, blockHeader.getHash());
+        out.writeInt(blockHeader.getChunkCount());
+        out.writeInt(blockHeader.getDataChunkCount());
+        for (int i = 0; i < blockHeader.getChunkCount(); i++) {
+            writeHash(out, blockHeader.getChunkHashes().get(i));
+            out.writeInt(blockHeader.getChunkSize(i));
+        }
+        out.writeInt(blockHeader.getSequence());
+        out.writeInt(blockHeader.getPriority());
+        out.writeInt(blockHeader.getSize());
+        out.writeLong(blockHeader.getDuration().getSeconds());
+        out.writeInt(blockHeader.getDuration().getNano());
+    }
+
+    private static BlockHeader readBlockHeader(ByteBuf in) {
+        HashAlgorithm hashAlgorithm = HashAlgorithm.fromID(in.readByte());
+        Hash hash = readHash(in);
+        int chunkCount = in.readInt();
+        int dataChunkCount = in.readInt();
+
+        // Every chunk needs at least the hash length and its size
+        if (chunkCount < 0 || chunkCount > in.readableBytes() / CHUNK_ENTRY_MIN_SIZE) {
+            throw new CorruptedFrameException("Invalid chunk count: " + chunkCount);
+        } else if (dataChunkCount < 0 || dataChunkCount > chunkCount) {
+            throw new CorruptedFrameException("Invalid data chunk count: " + dataChunkCount);
+        }
+        List<Hash> chunkHashes = new ArrayList<>(chunkCount);
+        List<Integer> chunkSizes = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunkHashes.add(readHash(in));
+            chunkSizes.add(in.readInt());
+        }
+        int sequence = in.readInt();
+        int priority = in.readInt();
+        int size = in.readInt();
+        Duration duration = Duration.ofSeconds(in.readLong(), in.readInt());
+        return new BlockHeader(hashAlgorithm,
+                               hash,
+                               chunkHashes,
+                               chunkSizes,
+                               dataChunkCount,
+                               sequence,
+                               priority,
+                               size,
+                               duration);
+    }
+
+    private static ByteBuf readChunkPayload(ByteBuf in, ChunkHeader chunkHeader) {
+        if (in.readableBytes() != chunkHeader.getSize()) {
+            throw new CorruptedFrameException("in.readableBytes() != chunkHeader.getSize()");
+        }
+
+        // Slice the payload, the frame itself is released by the codec
+        return in.readSlice(chunkHeader.getSize()).retain();
+    }
+
+    private static ByteBuf encodeChunkPushMessage(ByteBufAllocator alloc, ChunkPushMessage msg) {
+        ByteBuf header = alloc.buffer();
+        header.writeByte(CHUNK_PUSH_FRAME);
+        writeChunkHeader(header, msg.getChunkHeader());
+        writeBlockHeader(header, msg.getBlockHeader());
+        return Unpooled.wrappedBuffer(header, msg.getChunkPayload());
+    }
+
+    private static ByteBuf encodeChunkForwardingMessage(ByteBufAllocator alloc, ChunkForwardingMessage msg) {
+        ByteBuf header = alloc.buffer();
+        header.writeByte(CHUNK_FORWARDING_FRAME);
+        writeChunkHeader(header, msg.getChunkHeader());
+        writeHash(header, msg.getBlockHash());
+        return Unpooled.wrappedBuffer(header, msg.getChunkPayload());
+    }
+
+    /**
+     * Encodes the message into a frame, which can be written to many channels.
+     * The frame takes over the reference of the message.
+     */
+    public static ChunkFrame encodeFrame(ByteBufAllocator alloc, ChunkPushMessage msg) {
+        return new ChunkFrame(encodeChunkPushMessage(alloc, msg),
+                              msg.getBlockHeader().getPriority(),
+                              msg.getBlockHeader().getSequence());
+    }
+
+    /**
+     * Encodes the message into a frame, which can be written to many channels.
+     * The frame takes over the reference of the message.
+     */
+    public static ChunkFrame encodeFrame(ByteBufAllocator alloc, ChunkForwardingMessage msg, int priority) {
+        return new ChunkFrame(encodeChunkForwardingMessage(alloc, msg), priority, msg.getChunkHeader().getSequence());
+    }
+
+    private final int maxFrameSize;
+    private final long maxFragmentedBytes;
+
+    // Fragments of frames, which are not complete yet, by stream id
+    private final Map<Integer, CompositeByteBuf> fragmentedFrames = new HashMap<>();
+
+    // The size of all fragments of unfinished frames
+    private long fragmentedBytes;
+
+    private void releaseFragmentedFrames() {
+        fragmentedFrames.values().forEach(CompositeByteBuf::release);
+        fragmentedFrames.clear();
+        fragmentedBytes = 0;
+    }
+
+    private CompositeByteBuf removeFragmentedFrame(int streamID) {
+        CompositeByteBuf frame = fragmentedFrames.remove(streamID);
+        if (frame != null) {
+            fragmentedBytes -= frame.readableBytes();
+        }
+        return frame;
+    }
+
+    private void decodeChunkFragment(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) throws Exception {
+        int streamID = msg.readInt();
+        byte flags = msg.readByte();
+
+        // The sender failed the frame, so drop what we have got so far
+        if ((flags & FRAGMENT_ABORTED) != 0) {
+            CompositeByteBuf frame = removeFragmentedFrame(streamID);
+            if (frame != null) {
+                frame.release();
+            }
+            return;
+        }
+
+        CompositeByteBuf frame = fragmentedFrames.get(streamID);
+        if (frame == null) {
+            if (fragmentedFrames.size() >= MAX_FRAGMENTED_FRAMES) {
+                throw new CorruptedFrameException("fragmentedFrames.size() >= MAX_FRAGMENTED_FRAMES");
+            }
+            frame = ctx.alloc().compositeBuffer(MAX_FRAGMENT_COMPONENTS);
+            fragmentedFrames.put(streamID, frame);
+        }
+
+        // Fragments must not bypass the maximum frame size
+        int fragmentSize = msg.readableBytes();
+        if (frame.readableBytes() + (long) fragmentSize > maxFrameSize) {
+            throw new TooLongFrameException("Fragmented frame exceeds " + maxFrameSize + " bytes");
+        }
+        if (fragmentedBytes + fragmentSize > maxFragmentedBytes) {
+            throw new TooLongFrameException("Fragmented frames exceed " + maxFragmentedBytes + " bytes");
+        }
+
+        // Collect the fragment without copying
+        ByteBuf fragment = msg.readSlice(fragmentSize).retain();
+        frame.addComponent(fragment);
+        frame.writerIndex(frame.writerIndex() + fragmentSize);
+        fragmentedBytes += fragmentSize;
+
+        if ((flags & FRAGMENT_LAST) == 0) {
+            return;
+        }
+
+        // Decode the reassembled frame
+        removeFragmentedFrame(streamID);
+        try {
+            if (!frame.isReadable()) {
+                throw new CorruptedFrameException("Empty fragmented frame");
+            } else if (frame.getByte(frame.readerIndex()) == CHUNK_FRAGMENT_FRAME) {
+                throw new CorruptedFrameException("Nested chunk fragment");
+            }
+            decode(ctx, frame, out);
+        } finally {
+            frame.release();
+        }
+    }
+
+    public ChunkMessageCodec(int maxFrameSize) {
+        if (maxFrameSize <= 0) {
+            throw new IllegalArgumentException("maxFrameSize <= 0");
+        }
+        this.maxFrameSize = maxFrameSize;
+        maxFragmentedBytes = 2L * maxFrameSize;
+    }
+
+    @Override
+    public boolean acceptOutboundMessage(Object msg) throws Exception {
+        return msg instanceof ByteBuf ||
+               msg instanceof ChunkFrame ||
+               msg instanceof ChunkFragment ||
+               msg instanceof ChunkPushMessage ||
+               msg instanceof ChunkForwardingMessage;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) throws Exception {
+        byte frameType = msg.readByte();
+        switch (frameType) {
+            case PROTOBUF_FRAME:
+                out.add(msg.retain());
+                break;
+            case CHUNK_PUSH_FRAME: {
+                ChunkHeader chunkHeader = readChunkHeader(msg);
+                BlockHeader blockHeader = readBlockHeader(msg);
+                out.add(new ChunkPushMessage(blockHeader, chunkHeader, readChunkPayload(msg, chunkHeader)));
+                break;
+            }
+            case CHUNK_FORWARDING_FRAME: {
+                ChunkHeader chunkHeader = readChunkHeader(msg);
+                Hash blockHash = readHash(msg);
+                out.add(new ChunkForwardingMessage(chunkHeader, blockHash, readChunkPayload(msg, chunkHeader)));
+                break;
+            }
+            case CHUNK_FRAGMENT_FRAME:
+                decodeChunkFragment(ctx, msg, out);
+                break;
+            default:
+                throw new CorruptedFrameException("Unknown frame type: " + frameType);
+        }
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
+        if (msg instanceof ByteBuf) {
+            ByteBuf header = ctx.alloc().buffer(1);
+            header.writeByte(PROTOBUF_FRAME);
+            out.add(Unpooled.wrappedBuffer(header, ((ByteBuf) msg).retain()));
+        } else if (msg instanceof ChunkFrame) {
+            out.add(((ChunkFrame) msg).content().retain());
+        } else if (msg instanceof ChunkFragment) {
+            ChunkFragment chunkFragment = (ChunkFragment) msg;
+            ByteBuf header = ctx.alloc().buffer(6);
+            header.writeByte(CHUNK_FRAGMENT_FRAME);
+            header.writeInt(chunkFragment.getStreamID());
+            header.writeByte((chunkFragment.isLast() ? FRAGMENT_LAST : 0) |
+                             (chunkFragment.isAborted() ? FRAGMENT_ABORTED : 0));
+            out.add(Unpooled.wrappedBuffer(header, chunkFragment.content().retain()));
+        } else if (msg instanceof ChunkPushMessage) {
+            out.add(encodeChunkPushMessage(ctx.alloc(), ((ChunkPushMessage) msg).retain()));
+        } else {
+            out.add(encodeChunkForwardingMessage(ctx.alloc(), ((ChunkForwardingMessage) msg).retain()));
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        releaseFragmentedFrames();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        releaseFragmentedFrames();
+        super.handlerRemoved(ctx);
+    }
+}
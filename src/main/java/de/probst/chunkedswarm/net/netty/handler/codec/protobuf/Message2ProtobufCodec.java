@@ -3,33 +3,304 @@ package de.probst.chunkedswarm.net.netty.handler.codec.protobuf;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Message;
 import de.probst.chunkedswarm.io.util.IOUtil;
+import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg;
 import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand;
 import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType;
+import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg;
+import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg;
 import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg;
+import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg;
+import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg;
+import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg;
+import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg;
+import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg;
+import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg;
+import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg;
+import de.probst.chunkedswarm.net.netty.handler.connection.message.AcknowledgeNeighboursMessage;
+import de.probst.chunkedswarm.net.netty.handler.connection.message.SetForwarderSwarmIDMessage;
+import de.probst.chunkedswarm.net.netty.handler.discovery.message.SetCollectorAddressMessage;
+import de.probst.chunkedswarm.net.netty.handler.discovery.message.SetLocalSwarmIDMessage;
+import de.probst.chunkedswarm.net.netty.handler.discovery.message.UpdateNeighboursMessage;
+import de.probst.chunkedswarm.net.netty.handler.push.message.SupersessionMessage;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.message.ChunkMapMessage;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.message.ChunkRequestMessage;
+import de.probst.chunkedswarm.util.Hash;
+import de.probst.chunkedswarm.util.SwarmID;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageCodec;
 
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 /**
+ * Control messages with a native protobuf schema are encoded natively,
+ * everything else falls back to java serialization.
+ *
  * @author Christopher Probst <christopher.probst@hhu.de>
  * @version 1.0, 21.08.15
  */
-public final class Message2ProtobufCodec extends MessageToMessageCodec<Message, Object> {
+public final class Message2ProtobufCodec extends MessageToMessageCodec<Message, Serializable> {
+
+    private static boolean isNative(SocketAddress address) {
+        return address instanceof InetSocketAddress && !((InetSocketAddress) address).isUnresolved();
+    }
+
+    private static boolean isNative(Collection<SwarmID> swarmIDs) {
+        return swarmIDs.stream().map(SwarmID::getAddress).allMatch(Message2ProtobufCodec::isNative);
+    }
+
+    private static ByteString toByteString(UUID uuid) {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(16);
+        byteBuffer.putLong(uuid.getMostSignificantBits());
+        byteBuffer.putLong(uuid.getLeastSignificantBits());
+        byteBuffer.flip();
+        return ByteString.copyFrom(byteBuffer);
+    }
+
+    private static UUID toUUID(ByteString byteString) {
+        if (byteString.size() != 16) {
+            throw new IllegalArgumentException("byteString.size() != 16");
+        }
+        ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
+        return new UUID(byteBuffer.getLong(), byteBuffer.getLong());
+    }
+
+    private static Set<UUID> toUUIDs(List<ByteString> byteStrings) {
+        Set<UUID> uuids = new HashSet<>();
+        byteStrings.forEach(b -> uuids.add(toUUID(b)));
+        return uuids;
+    }
+
+    private static ByteString toByteString(Hash hash) {
+        return ByteString.copyFrom(hash.getBytes());
+    }
+
+    private static ByteString toByteString(BitSet bitSet) {
+        return ByteString.copyFrom(bitSet.toByteArray());
+    }
+
+    private static Hash toHash(ByteString byteString) {
+        return new Hash(byteString.toByteArray());
+    }
+
+    private static BitSet toBitSet(ByteString byteString) {
+        return BitSet.valueOf(byteString.asReadOnlyByteBuffer());
+    }
+
+    private static InetSocketAddress toSocketAddress(ByteString address, int port) throws UnknownHostException {
+        return new InetSocketAddress(InetAddress.getByAddress(address.toByteArray()), port);
+    }
+
+    private static SocketAddressMsg toSocketAddressMsg(SocketAddress address) {
+        InetSocketAddress inetSocketAddress = (InetSocketAddress) address;
+        return SocketAddressMsg.newBuilder()
+                               .setAddress(ByteString.copyFrom(inetSocketAddress.getAddress().getAddress()))
+                               .setPort(inetSocketAddress.getPort())
+                               .build();
+    }
+
+    private static SwarmIDMsg toSwarmIDMsg(SwarmID swarmID) {
+        InetSocketAddress inetSocketAddress = (InetSocketAddress) swarmID.getAddress();
+        return SwarmIDMsg.newBuilder()
+                         .setUuid(toByteString(swarmID.getUUID()))
+                         .setAddress(ByteString.copyFrom(inetSocketAddress.getAddress().getAddress()))
+                         .setPort(inetSocketAddress.getPort())
+                         .build();
+    }
+
+    private static SwarmID toSwarmID(SwarmIDMsg swarmIDMsg) throws UnknownHostException {
+        return new SwarmID(toUUID(swarmIDMsg.getUuid()), toSocketAddress(swarmIDMsg.getAddress(),
+                                                                          swarmIDMsg.getPort()));
+    }
+
+    private static Set<SwarmID> toSwarmIDs(List<SwarmIDMsg> swarmIDMsgs) throws UnknownHostException {
+        Set<SwarmID> swarmIDs = new HashSet<>();
+        for (SwarmIDMsg swarmIDMsg : swarmIDMsgs) {
+            swarmIDs.add(toSwarmID(swarmIDMsg));
+        }
+        return swarmIDs;
+    }
+
+    private static Optional<BaseCommand> encodeNative(Serializable msg) {
+        if (msg instanceof SetCollectorAddressMessage) {
+            SetCollectorAddressMessage m = (SetCollectorAddressMessage) msg;
+            if (!isNative(m.getCollectorAddress())) {
+                return Optional.empty();
+            }
+            SetCollectorAddressMsg cmd = SetCollectorAddressMsg.newBuilder()
+                                                               .setCollectorAddress(toSocketAddressMsg(
+                                                                       m.getCollectorAddress()))
+                                                               .build();
+            return Optional.of(BaseCommand.newBuilder()
+                                          .setType(CommandType.SET_COLLECTOR_ADDRESS_MSG)
+                                          .setExtension(SetCollectorAddressMsg.cmd, cmd)
+                                          .build());
+        } else if (msg instanceof SetLocalSwarmIDMessage) {
+            SetLocalSwarmIDMessage m = (SetLocalSwarmIDMessage) msg;
+            if (!isNative(m.getLocalSwarmID().getAddress())) {
+                return Optional.empty();
+            }
+            SetLocalSwarmIDMsg cmd = SetLocalSwarmIDMsg.newBuilder()
+                                                       .setLocalSwarmId(toSwarmIDMsg(m.getLocalSwarmID()))
+                                                       .build();
+            return Optional.of(BaseCommand.newBuilder()
+                                          .setType(CommandType.SET_LOCAL_SWARM_ID_MSG)
+                                          .setExtension(SetLocalSwarmIDMsg.cmd, cmd)
+                                          .build());
+        } else if (msg instanceof SetForwarderSwarmIDMessage) {
+            SetForwarderSwarmIDMessage m = (SetForwarderSwarmIDMessage) msg;
+            if (!isNative(m.getForwarderSwarmID().getAddress())) {
+                return Optional.empty();
+            }
+            SetForwarderSwarmIDMsg cmd = SetForwarderSwarmIDMsg.newBuilder()
+                                                               .setForwarderSwarmId(toSwarmIDMsg(
+                                                                       m.getForwarderSwarmID()))
+                                                               .build();
+            return Optional.of(BaseCommand.newBuilder()
+                                          .setType(CommandType.SET_FORWARDER_SWARM_ID_MSG)
+                                          .setExtension(SetForwarderSwarmIDMsg.cmd, cmd)
+                                          .build());
+        } else if (msg instanceof UpdateNeighboursMessage) {
+            UpdateNeighboursMessage m = (UpdateNeighboursMessage) msg;
+            if (!isNative(m.getAddNeighbours()) || !isNative(m.getRemoveNeighbours())) {
+                return Optional.empty();
+            }
+            UpdateNeighboursMsg.Builder cmd = UpdateNeighboursMsg.newBuilder();
+            m.getAddNeighbours().forEach(s -> cmd.addAddNeighbours(toSwarmIDMsg(s)));
+            m.getRemoveNeighbours().forEach(s -> cmd.addRemoveNeighbours(toSwarmIDMsg(s)));
+            return Optional.of(BaseCommand.newBuilder()
+                                          .setType(CommandType.UPDATE_NEIGHBOURS_MSG)
+                                          .setExtension(UpdateNeighboursMsg.cmd, cmd.build())
+                                          .build());
+        } else if (msg instanceof AcknowledgeNeighboursMessage) {
+            AcknowledgeNeighboursMessage m = (AcknowledgeNeighboursMessage) msg;
+            AcknowledgeNeighboursMsg.Builder cmd = AcknowledgeNeighboursMsg.newBuilder();
+            m.getAddedOutboundNeighbours().forEach(u -> cmd.addAddedOutboundNeighbours(toByteString(u)));
+            m.getRemovedOutboundNeighbours().forEach(u -> cmd.addRemovedOutboundNeighbours(toByteString(u)));
+            m.getAddedInboundNeighbours().forEach(u -> cmd.addAddedInboundNeighbours(toByteString(u)));
+            m.getRemovedInboundNeighbours().forEach(u -> cmd.addRemovedInboundNeighbours(toByteString(u)));
+            return Optional.of(BaseCommand.newBuilder()
+                                          .setType(CommandType.ACKNOWLEDGE_NEIGHBOURS_MSG)
+                                          .setExtension(AcknowledgeNeighboursMsg.cmd, cmd.build())
+                                          .build());
+        } else if (msg instanceof ChunkMapMessage) {
+            ChunkMapMessage m = (ChunkMapMessage) msg;
+            ChunkMapMsg cmd = ChunkMapMsg.newBuilder()
+                                         .setSequence(m.getSequence())
+                                         .setBlockHash(toByteString(m.getBlockHash()))
+                                         .setChunks(toByteString(m.getChunks()))
+                                         .build();
+            return Optional.of(BaseCommand.newBuilder()
+                                          .setType(CommandType.CHUNK_MAP_MSG)
+                                          .setExtension(ChunkMapMsg.cmd, cmd)
+                                          .build());
+        } else if (msg instanceof ChunkRequestMessage) {
+            ChunkRequestMessage m = (ChunkRequestMessage) msg;
+            ChunkRequestMsg cmd = ChunkRequestMsg.newBuilder()
+                                                 .setSequence(m.getSequence())
+                                                 .setBlockHash(toByteString(m.getBlockHash()))
+                                                 .setChunks(toByteString(m.getChunks()))
+                                                 .build();
+            return Optional.of(BaseCommand.newBuilder()
+                                          .setType(CommandType.CHUNK_REQUEST_MSG)
+                                          .setExtension(ChunkRequestMsg.cmd, cmd)
+                                          .build());
+        } else if (msg instanceof SupersessionMessage) {
+            SupersessionMessage m = (SupersessionMessage) msg;
+            SupersessionMsg cmd = SupersessionMsg.newBuilder().setLowestSequence(m.getLowestSequence()).build();
+            return Optional.of(BaseCommand.newBuilder()
+                                          .setType(CommandType.SUPERSESSION_MSG)
+                                          .setExtension(SupersessionMsg.cmd, cmd)
+                                          .build());
+        }
+
+        return Optional.empty();
+    }
 
     @Override
     protected void decode(ChannelHandlerContext ctx, Message msg, List<Object> out) throws Exception {
-        ProtoMessages.BaseCommand baseCommand = (BaseCommand) msg;
-        if (baseCommand.getType() != CommandType.SERIAL_MSG) {
-            throw new IllegalArgumentException("Wrong message type");
+        BaseCommand baseCommand = (BaseCommand) msg;
+        switch (baseCommand.getType()) {
+            case SERIAL_MSG: {
+                SerializableMsg cmd = baseCommand.getExtension(SerializableMsg.cmd);
+                out.add(IOUtil.deserialize(cmd.getPayload().toByteArray()));
+                break;
+            }
+            case SET_COLLECTOR_ADDRESS_MSG: {
+                SetCollectorAddressMsg cmd = baseCommand.getExtension(SetCollectorAddressMsg.cmd);
+                out.add(new SetCollectorAddressMessage(toSocketAddress(cmd.getCollectorAddress().getAddress(),
+                                                                       cmd.getCollectorAddress().getPort())));
+                break;
+            }
+            case SET_LOCAL_SWARM_ID_MSG: {
+                SetLocalSwarmIDMsg cmd = baseCommand.getExtension(SetLocalSwarmIDMsg.cmd);
+                out.add(new SetLocalSwarmIDMessage(toSwarmID(cmd.getLocalSwarmId())));
+                break;
+            }
+            case SET_FORWARDER_SWARM_ID_MSG: {
+                SetForwarderSwarmIDMsg cmd = baseCommand.getExtension(SetForwarderSwarmIDMsg.cmd);
+                out.add(new SetForwarderSwarmIDMessage(toSwarmID(cmd.getForwarderSwarmId())));
+                break;
+            }
+            case UPDATE_NEIGHBOURS_MSG: {
+                UpdateNeighboursMsg cmd = baseCommand.getExtension(UpdateNeighboursMsg.cmd);
+                out.add(new UpdateNeighboursMessage(toSwarmIDs(cmd.getAddNeighboursList()),
+                                                    toSwarmIDs(cmd.getRemoveNeighboursList())));
+                break;
+            }
+            case ACKNOWLEDGE_NEIGHBOURS_MSG: {
+                AcknowledgeNeighboursMsg cmd = baseCommand.getExtension(AcknowledgeNeighboursMsg.cmd);
+                out.add(new AcknowledgeNeighboursMessage(toUUIDs(cmd.getAddedOutboundNeighboursList()),
+                                                         toUUIDs(cmd.getRemovedOutboundNeighboursList()),
+                                                         toUUIDs(cmd.getAddedInboundNeighboursList()),
+                                                         toUUIDs(cmd.getRemovedInboundNeighboursList())));
+                break;
+            }
+            case CHUNK_MAP_MSG: {
+                ChunkMapMsg cmd = baseCommand.getExtension(ChunkMapMsg.cmd);
+                out.add(new ChunkMapMessage(cmd.getSequence(),
+                                            toHash(cmd.getBlockHash()),
+                                            toBitSet(cmd.getChunks())));
+                break;
+            }
+            case CHUNK_REQUEST_MSG: {
+                ChunkRequestMsg cmd = baseCommand.getExtension(ChunkRequestMsg.cmd);
+                out.add(new ChunkRequestMessage(cmd.getSequence(),
+                                                toHash(cmd.getBlockHash()),
+                                                toBitSet(cmd.getChunks())));
+                break;
+            }
+            case SUPERSESSION_MSG: {
+                SupersessionMsg cmd = baseCommand.getExtension(SupersessionMsg.cmd);
+                out.add(new SupersessionMessage(cmd.getLowestSequence()));
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Wrong message type");
         }
-
-        SerializableMsg serializableMsg = baseCommand.getExtension(SerializableMsg.cmd);
-        out.add(IOUtil.deserialize(serializableMsg.getPayload().toByteArray()));
     }
 
     @Override
-    protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
+    protected void encode(ChannelHandlerContext ctx, Serializable msg, List<Object> out) throws Exception {
+        // Prefer the native schema
+        Optional<BaseCommand> nativeCommand = encodeNative(msg);
+        if (nativeCommand.isPresent()) {
+            out.add(nativeCommand.get());
+            return;
+        }
+
+        // Fallback to java serialization
         byte[] arr = IOUtil.serialize(msg);
 
         SerializableMsg serializableMsg = ProtoMessages.SerializableMsg.newBuilder()
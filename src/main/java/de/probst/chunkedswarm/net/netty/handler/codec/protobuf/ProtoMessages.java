@@ -4,1106 +4,7580 @@
 package de.probst.chunkedswarm.net.netty.handler.codec.protobuf;
 
 public final class ProtoMessages {
-    private ProtoMessages() {
-    }
-
-    public static void registerAllExtensions(
-            com.google.protobuf.ExtensionRegistry registry) {
-        registry.add(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.cmd);
-    }
-
-    public interface BaseCommandOrBuilder extends
-            // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand)
-            com.google.protobuf.GeneratedMessage.
-                    ExtendableMessageOrBuilder<BaseCommand> {
-
-        /**
-         * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
-         */
-        boolean hasType();
-
-        /**
-         * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
-         */
-        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType getType();
-    }
+  private ProtoMessages() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registry.add(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.cmd);
+    registry.add(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.cmd);
+    registry.add(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.cmd);
+    registry.add(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.cmd);
+    registry.add(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.cmd);
+    registry.add(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.cmd);
+    registry.add(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.cmd);
+    registry.add(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.cmd);
+    registry.add(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.cmd);
+  }
+  public interface BaseCommandOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand)
+      com.google.protobuf.GeneratedMessage.
+          ExtendableMessageOrBuilder<BaseCommand> {
 
     /**
-     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand}
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
      */
-    public static final class BaseCommand extends
-            com.google.protobuf.GeneratedMessage.ExtendableMessage<
-                    BaseCommand> implements
-            // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand)
-            BaseCommandOrBuilder {
-        // Use BaseCommand.newBuilder() to construct.
-        private BaseCommand(com.google.protobuf.GeneratedMessage.ExtendableBuilder<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand, ?> builder) {
-            super(builder);
-            this.unknownFields = builder.getUnknownFields();
-        }
-
-        private BaseCommand(boolean noInit) {
-            this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance();
-        }
-
-        private static final BaseCommand defaultInstance;
-
-        public static BaseCommand getDefaultInstance() {
-            return defaultInstance;
-        }
+    boolean hasType();
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType getType();
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand}
+   */
+  public static final class BaseCommand extends
+      com.google.protobuf.GeneratedMessage.ExtendableMessage<
+        BaseCommand> implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand)
+      BaseCommandOrBuilder {
+    // Use BaseCommand.newBuilder() to construct.
+    private BaseCommand(com.google.protobuf.GeneratedMessage.ExtendableBuilder<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand, ?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private BaseCommand(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-        public BaseCommand getDefaultInstanceForType() {
-            return defaultInstance;
-        }
+    private static final BaseCommand defaultInstance;
+    public static BaseCommand getDefaultInstance() {
+      return defaultInstance;
+    }
 
-        private final com.google.protobuf.UnknownFieldSet unknownFields;
+    public BaseCommand getDefaultInstanceForType() {
+      return defaultInstance;
+    }
 
-        @java.lang.Override
-        public final com.google.protobuf.UnknownFieldSet
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
         getUnknownFields() {
-            return this.unknownFields;
-        }
-
-        private BaseCommand(
-                com.google.protobuf.CodedInputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            initFields();
-            int mutable_bitField0_ = 0;
-            com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-                    com.google.protobuf.UnknownFieldSet.newBuilder();
-            try {
-                boolean done = false;
-                while (!done) {
-                    int tag = input.readTag();
-                    switch (tag) {
-                        case 0:
-                            done = true;
-                            break;
-                        default: {
-                            if (!parseUnknownField(input, unknownFields,
-                                                   extensionRegistry, tag)) {
-                                done = true;
-                            }
-                            break;
-                        }
-                        case 8: {
-                            int rawValue = input.readEnum();
-                            de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType value = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType
-                                    .valueOf(rawValue);
-                            if (value == null) {
-                                unknownFields.mergeVarintField(1, rawValue);
-                            } else {
-                                bitField0_ |= 0x00000001;
-                                type_ = value;
-                            }
-                            break;
-                        }
-                    }
-                }
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-                throw e.setUnfinishedMessage(this);
-            } catch (java.io.IOException e) {
-                throw new com.google.protobuf.InvalidProtocolBufferException(
-                        e.getMessage()).setUnfinishedMessage(this);
-            } finally {
-                this.unknownFields = unknownFields.build();
-                makeExtensionsImmutable();
+      return this.unknownFields;
+    }
+    private BaseCommand(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType value = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                type_ = value;
+              }
+              break;
             }
+          }
         }
-
-        public static final com.google.protobuf.Descriptors.Descriptor
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-            return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor;
-        }
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor;
+    }
 
-        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-            return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_fieldAccessorTable
-                    .ensureFieldAccessorsInitialized(
-                            de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.class,
-                            de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.Builder.class);
-        }
-
-        public static com.google.protobuf.Parser<BaseCommand> PARSER =
-                new com.google.protobuf.AbstractParser<BaseCommand>() {
-                    public BaseCommand parsePartialFrom(
-                            com.google.protobuf.CodedInputStream input,
-                            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                            throws com.google.protobuf.InvalidProtocolBufferException {
-                        return new BaseCommand(input, extensionRegistry);
-                    }
-                };
-
-        @java.lang.Override
-        public com.google.protobuf.Parser<BaseCommand> getParserForType() {
-            return PARSER;
-        }
-
-        /**
-         * Protobuf enum {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType}
-         */
-        public enum CommandType
-                implements com.google.protobuf.ProtocolMessageEnum {
-            /**
-             * <code>SERIAL_MSG = 1;</code>
-             */
-            SERIAL_MSG(0, 1),;
-
-            /**
-             * <code>SERIAL_MSG = 1;</code>
-             */
-            public static final int SERIAL_MSG_VALUE = 1;
-
-
-            public final int getNumber() {
-                return value;
-            }
-
-            public static CommandType valueOf(int value) {
-                switch (value) {
-                    case 1:
-                        return SERIAL_MSG;
-                    default:
-                        return null;
-                }
-            }
-
-            public static com.google.protobuf.Internal.EnumLiteMap<CommandType>
-            internalGetValueMap() {
-                return internalValueMap;
-            }
-
-            private static com.google.protobuf.Internal.EnumLiteMap<CommandType>
-                    internalValueMap =
-                    new com.google.protobuf.Internal.EnumLiteMap<CommandType>() {
-                        public CommandType findValueByNumber(int number) {
-                            return CommandType.valueOf(number);
-                        }
-                    };
-
-            public final com.google.protobuf.Descriptors.EnumValueDescriptor
-            getValueDescriptor() {
-                return getDescriptor().getValues().get(index);
-            }
-
-            public final com.google.protobuf.Descriptors.EnumDescriptor
-            getDescriptorForType() {
-                return getDescriptor();
-            }
-
-            public static final com.google.protobuf.Descriptors.EnumDescriptor
-            getDescriptor() {
-                return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.getDescriptor()
-                                                                                                        .getEnumTypes()
-                                                                                                        .get(0);
-            }
-
-            private static final CommandType[] VALUES = values();
-
-            public static CommandType valueOf(
-                    com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-                if (desc.getType() != getDescriptor()) {
-                    throw new java.lang.IllegalArgumentException(
-                            "EnumValueDescriptor is not for this type.");
-                }
-                return VALUES[desc.getIndex()];
-            }
-
-            private final int index;
-            private final int value;
-
-            private CommandType(int index, int value) {
-                this.index = index;
-                this.value = value;
-            }
-
-            // @@protoc_insertion_point(enum_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType)
-        }
-
-        private int bitField0_;
-        public static final int TYPE_FIELD_NUMBER = 1;
-        private de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType type_;
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.Builder.class);
+    }
 
-        /**
-         * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
-         */
-        public boolean hasType() {
-            return ((bitField0_ & 0x00000001) == 0x00000001);
-        }
+    public static com.google.protobuf.Parser<BaseCommand> PARSER =
+        new com.google.protobuf.AbstractParser<BaseCommand>() {
+      public BaseCommand parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BaseCommand(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BaseCommand> getParserForType() {
+      return PARSER;
+    }
 
-        /**
-         * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
-         */
-        public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType getType() {
-            return type_;
+    /**
+     * Protobuf enum {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType}
+     */
+    public enum CommandType
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>SERIAL_MSG = 1;</code>
+       */
+      SERIAL_MSG(0, 1),
+      /**
+       * <code>SET_COLLECTOR_ADDRESS_MSG = 2;</code>
+       */
+      SET_COLLECTOR_ADDRESS_MSG(1, 2),
+      /**
+       * <code>SET_LOCAL_SWARM_ID_MSG = 3;</code>
+       */
+      SET_LOCAL_SWARM_ID_MSG(2, 3),
+      /**
+       * <code>UPDATE_NEIGHBOURS_MSG = 4;</code>
+       */
+      UPDATE_NEIGHBOURS_MSG(3, 4),
+      /**
+       * <code>SET_FORWARDER_SWARM_ID_MSG = 5;</code>
+       */
+      SET_FORWARDER_SWARM_ID_MSG(4, 5),
+      /**
+       * <code>ACKNOWLEDGE_NEIGHBOURS_MSG = 6;</code>
+       */
+      ACKNOWLEDGE_NEIGHBOURS_MSG(5, 6),
+      /**
+       * <code>CHUNK_MAP_MSG = 7;</code>
+       */
+      CHUNK_MAP_MSG(6, 7),
+      /**
+       * <code>CHUNK_REQUEST_MSG = 8;</code>
+       */
+      CHUNK_REQUEST_MSG(7, 8),
+      /**
+       * <code>SUPERSESSION_MSG = 9;</code>
+       */
+      SUPERSESSION_MSG(8, 9),
+      ;
+
+      /**
+       * <code>SERIAL_MSG = 1;</code>
+       */
+      public static final int SERIAL_MSG_VALUE = 1;
+      /**
+       * <code>SET_COLLECTOR_ADDRESS_MSG = 2;</code>
+       */
+      public static final int SET_COLLECTOR_ADDRESS_MSG_VALUE = 2;
+      /**
+       * <code>SET_LOCAL_SWARM_ID_MSG = 3;</code>
+       */
+      public static final int SET_LOCAL_SWARM_ID_MSG_VALUE = 3;
+      /**
+       * <code>UPDATE_NEIGHBOURS_MSG = 4;</code>
+       */
+      public static final int UPDATE_NEIGHBOURS_MSG_VALUE = 4;
+      /**
+       * <code>SET_FORWARDER_SWARM_ID_MSG = 5;</code>
+       */
+      public static final int SET_FORWARDER_SWARM_ID_MSG_VALUE = 5;
+      /**
+       * <code>ACKNOWLEDGE_NEIGHBOURS_MSG = 6;</code>
+       */
+      public static final int ACKNOWLEDGE_NEIGHBOURS_MSG_VALUE = 6;
+      /**
+       * <code>CHUNK_MAP_MSG = 7;</code>
+       */
+      public static final int CHUNK_MAP_MSG_VALUE = 7;
+      /**
+       * <code>CHUNK_REQUEST_MSG = 8;</code>
+       */
+      public static final int CHUNK_REQUEST_MSG_VALUE = 8;
+      /**
+       * <code>SUPERSESSION_MSG = 9;</code>
+       */
+      public static final int SUPERSESSION_MSG_VALUE = 9;
+
+
+      public final int getNumber() { return value; }
+
+      public static CommandType valueOf(int value) {
+        switch (value) {
+          case 1: return SERIAL_MSG;
+          case 2: return SET_COLLECTOR_ADDRESS_MSG;
+          case 3: return SET_LOCAL_SWARM_ID_MSG;
+          case 4: return UPDATE_NEIGHBOURS_MSG;
+          case 5: return SET_FORWARDER_SWARM_ID_MSG;
+          case 6: return ACKNOWLEDGE_NEIGHBOURS_MSG;
+          case 7: return CHUNK_MAP_MSG;
+          case 8: return CHUNK_REQUEST_MSG;
+          case 9: return SUPERSESSION_MSG;
+          default: return null;
         }
-
-        private void initFields() {
-            type_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType.SERIAL_MSG;
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<CommandType>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static com.google.protobuf.Internal.EnumLiteMap<CommandType>
+          internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<CommandType>() {
+              public CommandType findValueByNumber(int number) {
+                return CommandType.valueOf(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final CommandType[] VALUES = values();
+
+      public static CommandType valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
         }
+        return VALUES[desc.getIndex()];
+      }
 
-        private byte memoizedIsInitialized = -1;
+      private final int index;
+      private final int value;
 
-        public final boolean isInitialized() {
-            byte isInitialized = memoizedIsInitialized;
-            if (isInitialized == 1) return true;
-            if (isInitialized == 0) return false;
+      private CommandType(int index, int value) {
+        this.index = index;
+        this.value = value;
+      }
 
-            if (!hasType()) {
-                memoizedIsInitialized = 0;
-                return false;
-            }
-            if (!extensionsAreInitialized()) {
-                memoizedIsInitialized = 0;
-                return false;
-            }
-            memoizedIsInitialized = 1;
-            return true;
-        }
-
-        public void writeTo(com.google.protobuf.CodedOutputStream output)
-                throws java.io.IOException {
-            getSerializedSize();
-            com.google.protobuf.GeneratedMessage
-                    .ExtendableMessage<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand>.ExtensionWriter extensionWriter =
-                    newExtensionWriter();
-            if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                output.writeEnum(1, type_.getNumber());
-            }
-            extensionWriter.writeUntil(536870912, output);
-            getUnknownFields().writeTo(output);
-        }
+      // @@protoc_insertion_point(enum_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType)
+    }
 
-        private int memoizedSerializedSize = -1;
+    private int bitField0_;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType type_;
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
+     */
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType getType() {
+      return type_;
+    }
 
-        public int getSerializedSize() {
-            int size = memoizedSerializedSize;
-            if (size != -1) return size;
+    private void initFields() {
+      type_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType.SERIAL_MSG;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!extensionsAreInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-            size = 0;
-            if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                size += com.google.protobuf.CodedOutputStream
-                        .computeEnumSize(1, type_.getNumber());
-            }
-            size += extensionsSerializedSize();
-            size += getUnknownFields().getSerializedSize();
-            memoizedSerializedSize = size;
-            return size;
-        }
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      com.google.protobuf.GeneratedMessage
+        .ExtendableMessage<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand>.ExtensionWriter extensionWriter =
+          newExtensionWriter();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, type_.getNumber());
+      }
+      extensionWriter.writeUntil(536870912, output);
+      getUnknownFields().writeTo(output);
+    }
 
-        private static final long serialVersionUID = 0L;
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, type_.getNumber());
+      }
+      size += extensionsSerializedSize();
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
 
-        @java.lang.Override
-        protected java.lang.Object writeReplace()
-                throws java.io.ObjectStreamException {
-            return super.writeReplace();
-        }
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
-                com.google.protobuf.ByteString data)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data);
-        }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
-                com.google.protobuf.ByteString data,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data, extensionRegistry);
-        }
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(byte[] data)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data);
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.ExtendableBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand, Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommandOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
-
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
-                byte[] data,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data, extensionRegistry);
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        type_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType.SERIAL_MSG;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(java.io.InputStream input)
-                throws java.io.IOException {
-            return PARSER.parseFrom(input);
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
-                java.io.InputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws java.io.IOException {
-            return PARSER.parseFrom(input, extensionRegistry);
+        result.type_ = type_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
         }
+      }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseDelimitedFrom(
-                java.io.InputStream input)
-                throws java.io.IOException {
-            return PARSER.parseDelimitedFrom(input);
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.getDefaultInstance()) return this;
+        if (other.hasType()) {
+          setType(other.getType());
         }
-
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseDelimitedFrom(
-                java.io.InputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws java.io.IOException {
-            return PARSER.parseDelimitedFrom(input, extensionRegistry);
+        this.mergeExtensionFields(other);
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasType()) {
+          
+          return false;
         }
-
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
-                com.google.protobuf.CodedInputStream input)
-                throws java.io.IOException {
-            return PARSER.parseFrom(input);
+        if (!extensionsAreInitialized()) {
+          
+          return false;
         }
-
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parseFrom(
-                com.google.protobuf.CodedInputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws java.io.IOException {
-            return PARSER.parseFrom(input, extensionRegistry);
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
-
-        public static Builder newBuilder() {
-            return Builder.create();
+        return this;
+      }
+      private int bitField0_;
+
+      private de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType type_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType.SERIAL_MSG;
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType getType() {
+        return type_;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
+       */
+      public Builder setType(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
+        bitField0_ |= 0x00000001;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType.SERIAL_MSG;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand)
+    }
 
-        public Builder newBuilderForType() {
-            return newBuilder();
-        }
+    static {
+      defaultInstance = new BaseCommand(true);
+      defaultInstance.initFields();
+    }
 
-        public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand prototype) {
-            return newBuilder().mergeFrom(prototype);
-        }
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand)
+  }
 
-        public Builder toBuilder() {
-            return newBuilder(this);
-        }
+  public interface SerializableMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg)
+      com.google.protobuf.MessageOrBuilder {
 
-        @java.lang.Override
-        protected Builder newBuilderForType(
-                com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-            Builder builder = new Builder(parent);
-            return builder;
-        }
+    /**
+     * <code>required bytes payload = 1;</code>
+     */
+    boolean hasPayload();
+    /**
+     * <code>required bytes payload = 1;</code>
+     */
+    com.google.protobuf.ByteString getPayload();
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg}
+   */
+  public static final class SerializableMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg)
+      SerializableMsgOrBuilder {
+    // Use SerializableMsg.newBuilder() to construct.
+    private SerializableMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SerializableMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-        /**
-         * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand}
-         */
-        public static final class Builder extends
-                com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-                        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand, Builder> implements
-                // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand)
-                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommandOrBuilder {
-            public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-                return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor;
-            }
+    private static final SerializableMsg defaultInstance;
+    public static SerializableMsg getDefaultInstance() {
+      return defaultInstance;
+    }
 
-            protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-                return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_fieldAccessorTable
-                        .ensureFieldAccessorsInitialized(
-                                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.class,
-                                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.Builder.class);
-            }
+    public SerializableMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
 
-            // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.newBuilder()
-            private Builder() {
-                maybeForceBuilderInitialization();
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SerializableMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
             }
-
-            private Builder(
-                    com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-                super(parent);
-                maybeForceBuilderInitialization();
+            case 10: {
+              bitField0_ |= 0x00000001;
+              payload_ = input.readBytes();
+              break;
             }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor;
+    }
 
-            private void maybeForceBuilderInitialization() {
-                if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-                }
-            }
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.Builder.class);
+    }
 
-            private static Builder create() {
-                return new Builder();
-            }
+    public static com.google.protobuf.Parser<SerializableMsg> PARSER =
+        new com.google.protobuf.AbstractParser<SerializableMsg>() {
+      public SerializableMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SerializableMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SerializableMsg> getParserForType() {
+      return PARSER;
+    }
 
-            public Builder clear() {
-                super.clear();
-                type_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType.SERIAL_MSG;
-                bitField0_ = (bitField0_ & ~0x00000001);
-                return this;
-            }
+    private int bitField0_;
+    public static final int PAYLOAD_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString payload_;
+    /**
+     * <code>required bytes payload = 1;</code>
+     */
+    public boolean hasPayload() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required bytes payload = 1;</code>
+     */
+    public com.google.protobuf.ByteString getPayload() {
+      return payload_;
+    }
 
-            public Builder clone() {
-                return create().mergeFrom(buildPartial());
-            }
+    private void initFields() {
+      payload_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasPayload()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-            public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-                return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor;
-            }
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, payload_);
+      }
+      getUnknownFields().writeTo(output);
+    }
 
-            public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand getDefaultInstanceForType() {
-                return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.getDefaultInstance();
-            }
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, payload_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
 
-            public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand build() {
-                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand result = buildPartial();
-                if (!result.isInitialized()) {
-                    throw newUninitializedMessageException(result);
-                }
-                return result;
-            }
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
 
-            public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand buildPartial() {
-                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand(
-                        this);
-                int from_bitField0_ = bitField0_;
-                int to_bitField0_ = 0;
-                if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-                    to_bitField0_ |= 0x00000001;
-                }
-                result.type_ = type_;
-                result.bitField0_ = to_bitField0_;
-                onBuilt();
-                return result;
-            }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
 
-            public Builder mergeFrom(com.google.protobuf.Message other) {
-                if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand) {
-                    return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand) other);
-                } else {
-                    super.mergeFrom(other);
-                    return this;
-                }
-            }
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
 
-            public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand other) {
-                if (other ==
-                    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.getDefaultInstance())
-                    return this;
-                if (other.hasType()) {
-                    setType(other.getType());
-                }
-                this.mergeExtensionFields(other);
-                this.mergeUnknownFields(other.getUnknownFields());
-                return this;
-            }
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        payload_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.payload_ = payload_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
 
-            public final boolean isInitialized() {
-                if (!hasType()) {
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.getDefaultInstance()) return this;
+        if (other.hasPayload()) {
+          setPayload(other.getPayload());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasPayload()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes payload = 1;</code>
+       */
+      public boolean hasPayload() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required bytes payload = 1;</code>
+       */
+      public com.google.protobuf.ByteString getPayload() {
+        return payload_;
+      }
+      /**
+       * <code>required bytes payload = 1;</code>
+       */
+      public Builder setPayload(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes payload = 1;</code>
+       */
+      public Builder clearPayload() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        payload_ = getDefaultInstance().getPayload();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg)
+    }
 
-                    return false;
-                }
-                if (!extensionsAreInitialized()) {
+    static {
+      defaultInstance = new SerializableMsg(true);
+      defaultInstance.initFields();
+    }
 
-                    return false;
-                }
-                return true;
-            }
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg)
+    public static final int CMD_FIELD_NUMBER = 101;
+    /**
+     * <code>extend .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand,
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg> cmd = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.getDefaultInstance(),
+          0,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.class,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.getDefaultInstance());
+  }
+
+  public interface SocketAddressMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg)
+      com.google.protobuf.MessageOrBuilder {
 
-            public Builder mergeFrom(
-                    com.google.protobuf.CodedInputStream input,
-                    com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                    throws java.io.IOException {
-                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand parsedMessage = null;
-                try {
-                    parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-                } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-                    parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand) e
-                            .getUnfinishedMessage();
-                    throw e;
-                } finally {
-                    if (parsedMessage != null) {
-                        mergeFrom(parsedMessage);
-                    }
-                }
-                return this;
-            }
+    /**
+     * <code>required bytes address = 1;</code>
+     */
+    boolean hasAddress();
+    /**
+     * <code>required bytes address = 1;</code>
+     */
+    com.google.protobuf.ByteString getAddress();
 
-            private int bitField0_;
+    /**
+     * <code>required uint32 port = 2;</code>
+     */
+    boolean hasPort();
+    /**
+     * <code>required uint32 port = 2;</code>
+     */
+    int getPort();
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg}
+   *
+   * <pre>
+   * Raw ip address bytes (4 or 16) and port
+   * </pre>
+   */
+  public static final class SocketAddressMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg)
+      SocketAddressMsgOrBuilder {
+    // Use SocketAddressMsg.newBuilder() to construct.
+    private SocketAddressMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SocketAddressMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-            private de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType type_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType.SERIAL_MSG;
+    private static final SocketAddressMsg defaultInstance;
+    public static SocketAddressMsg getDefaultInstance() {
+      return defaultInstance;
+    }
 
-            /**
-             * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
-             */
-            public boolean hasType() {
-                return ((bitField0_ & 0x00000001) == 0x00000001);
-            }
+    public SocketAddressMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
 
-            /**
-             * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
-             */
-            public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType getType() {
-                return type_;
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SocketAddressMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
             }
-
-            /**
-             * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
-             */
-            public Builder setType(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType value) {
-                if (value == null) {
-                    throw new NullPointerException();
-                }
-                bitField0_ |= 0x00000001;
-                type_ = value;
-                onChanged();
-                return this;
+            case 10: {
+              bitField0_ |= 0x00000001;
+              address_ = input.readBytes();
+              break;
             }
-
-            /**
-             * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand.CommandType type = 1;</code>
-             */
-            public Builder clearType() {
-                bitField0_ = (bitField0_ & ~0x00000001);
-                type_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand.CommandType.SERIAL_MSG;
-                onChanged();
-                return this;
+            case 16: {
+              bitField0_ |= 0x00000002;
+              port_ = input.readUInt32();
+              break;
             }
-
-            // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand)
+          }
         }
-
-        static {
-            defaultInstance = new BaseCommand(true);
-            defaultInstance.initFields();
-        }
-
-        // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SocketAddressMsg_descriptor;
     }
 
-    public interface SerializableMsgOrBuilder extends
-            // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg)
-            com.google.protobuf.MessageOrBuilder {
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SocketAddressMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.Builder.class);
+    }
 
-        /**
-         * <code>required bytes payload = 1;</code>
-         */
-        boolean hasPayload();
+    public static com.google.protobuf.Parser<SocketAddressMsg> PARSER =
+        new com.google.protobuf.AbstractParser<SocketAddressMsg>() {
+      public SocketAddressMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SocketAddressMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SocketAddressMsg> getParserForType() {
+      return PARSER;
+    }
 
-        /**
-         * <code>required bytes payload = 1;</code>
-         */
-        com.google.protobuf.ByteString getPayload();
+    private int bitField0_;
+    public static final int ADDRESS_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString address_;
+    /**
+     * <code>required bytes address = 1;</code>
+     */
+    public boolean hasAddress() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required bytes address = 1;</code>
+     */
+    public com.google.protobuf.ByteString getAddress() {
+      return address_;
     }
 
+    public static final int PORT_FIELD_NUMBER = 2;
+    private int port_;
     /**
-     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg}
+     * <code>required uint32 port = 2;</code>
      */
-    public static final class SerializableMsg extends
-            com.google.protobuf.GeneratedMessage implements
-            // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg)
-            SerializableMsgOrBuilder {
-        // Use SerializableMsg.newBuilder() to construct.
-        private SerializableMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-            super(builder);
-            this.unknownFields = builder.getUnknownFields();
-        }
+    public boolean hasPort() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required uint32 port = 2;</code>
+     */
+    public int getPort() {
+      return port_;
+    }
 
-        private SerializableMsg(boolean noInit) {
-            this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance();
-        }
+    private void initFields() {
+      address_ = com.google.protobuf.ByteString.EMPTY;
+      port_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasAddress()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPort()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-        private static final SerializableMsg defaultInstance;
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, address_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt32(2, port_);
+      }
+      getUnknownFields().writeTo(output);
+    }
 
-        public static SerializableMsg getDefaultInstance() {
-            return defaultInstance;
-        }
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, address_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, port_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
 
-        public SerializableMsg getDefaultInstanceForType() {
-            return defaultInstance;
-        }
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
 
-        private final com.google.protobuf.UnknownFieldSet unknownFields;
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
 
-        @java.lang.Override
-        public final com.google.protobuf.UnknownFieldSet
-        getUnknownFields() {
-            return this.unknownFields;
-        }
-
-        private SerializableMsg(
-                com.google.protobuf.CodedInputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            initFields();
-            int mutable_bitField0_ = 0;
-            com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-                    com.google.protobuf.UnknownFieldSet.newBuilder();
-            try {
-                boolean done = false;
-                while (!done) {
-                    int tag = input.readTag();
-                    switch (tag) {
-                        case 0:
-                            done = true;
-                            break;
-                        default: {
-                            if (!parseUnknownField(input, unknownFields,
-                                                   extensionRegistry, tag)) {
-                                done = true;
-                            }
-                            break;
-                        }
-                        case 10: {
-                            bitField0_ |= 0x00000001;
-                            payload_ = input.readBytes();
-                            break;
-                        }
-                    }
-                }
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-                throw e.setUnfinishedMessage(this);
-            } catch (java.io.IOException e) {
-                throw new com.google.protobuf.InvalidProtocolBufferException(
-                        e.getMessage()).setUnfinishedMessage(this);
-            } finally {
-                this.unknownFields = unknownFields.build();
-                makeExtensionsImmutable();
-            }
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg}
+     *
+     * <pre>
+     * Raw ip address bytes (4 or 16) and port
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SocketAddressMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SocketAddressMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
-
-        public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-            return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor;
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        address_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        port_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SocketAddressMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-
-        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-            return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_fieldAccessorTable
-                    .ensureFieldAccessorsInitialized(
-                            de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.class,
-                            de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.Builder.class);
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-
-        public static com.google.protobuf.Parser<SerializableMsg> PARSER =
-                new com.google.protobuf.AbstractParser<SerializableMsg>() {
-                    public SerializableMsg parsePartialFrom(
-                            com.google.protobuf.CodedInputStream input,
-                            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                            throws com.google.protobuf.InvalidProtocolBufferException {
-                        return new SerializableMsg(input, extensionRegistry);
-                    }
-                };
-
-        @java.lang.Override
-        public com.google.protobuf.Parser<SerializableMsg> getParserForType() {
-            return PARSER;
+        result.address_ = address_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
         }
-
-        private int bitField0_;
-        public static final int PAYLOAD_FIELD_NUMBER = 1;
-        private com.google.protobuf.ByteString payload_;
-
-        /**
-         * <code>required bytes payload = 1;</code>
-         */
-        public boolean hasPayload() {
-            return ((bitField0_ & 0x00000001) == 0x00000001);
+        result.port_ = port_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
         }
+      }
 
-        /**
-         * <code>required bytes payload = 1;</code>
-         */
-        public com.google.protobuf.ByteString getPayload() {
-            return payload_;
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.getDefaultInstance()) return this;
+        if (other.hasAddress()) {
+          setAddress(other.getAddress());
         }
-
-        private void initFields() {
-            payload_ = com.google.protobuf.ByteString.EMPTY;
+        if (other.hasPort()) {
+          setPort(other.getPort());
         }
-
-        private byte memoizedIsInitialized = -1;
-
-        public final boolean isInitialized() {
-            byte isInitialized = memoizedIsInitialized;
-            if (isInitialized == 1) return true;
-            if (isInitialized == 0) return false;
-
-            if (!hasPayload()) {
-                memoizedIsInitialized = 0;
-                return false;
-            }
-            memoizedIsInitialized = 1;
-            return true;
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasAddress()) {
+          
+          return false;
         }
-
-        public void writeTo(com.google.protobuf.CodedOutputStream output)
-                throws java.io.IOException {
-            getSerializedSize();
-            if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                output.writeBytes(1, payload_);
-            }
-            getUnknownFields().writeTo(output);
+        if (!hasPort()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString address_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes address = 1;</code>
+       */
+      public boolean hasAddress() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required bytes address = 1;</code>
+       */
+      public com.google.protobuf.ByteString getAddress() {
+        return address_;
+      }
+      /**
+       * <code>required bytes address = 1;</code>
+       */
+      public Builder setAddress(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        address_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes address = 1;</code>
+       */
+      public Builder clearAddress() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        address_ = getDefaultInstance().getAddress();
+        onChanged();
+        return this;
+      }
+
+      private int port_ ;
+      /**
+       * <code>required uint32 port = 2;</code>
+       */
+      public boolean hasPort() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required uint32 port = 2;</code>
+       */
+      public int getPort() {
+        return port_;
+      }
+      /**
+       * <code>required uint32 port = 2;</code>
+       */
+      public Builder setPort(int value) {
+        bitField0_ |= 0x00000002;
+        port_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 port = 2;</code>
+       */
+      public Builder clearPort() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        port_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg)
+    }
 
-        private int memoizedSerializedSize = -1;
+    static {
+      defaultInstance = new SocketAddressMsg(true);
+      defaultInstance.initFields();
+    }
 
-        public int getSerializedSize() {
-            int size = memoizedSerializedSize;
-            if (size != -1) return size;
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg)
+  }
 
-            size = 0;
-            if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                size += com.google.protobuf.CodedOutputStream
-                        .computeBytesSize(1, payload_);
-            }
-            size += getUnknownFields().getSerializedSize();
-            memoizedSerializedSize = size;
-            return size;
+  public interface SwarmIDMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required bytes uuid = 1;</code>
+     */
+    boolean hasUuid();
+    /**
+     * <code>required bytes uuid = 1;</code>
+     */
+    com.google.protobuf.ByteString getUuid();
+
+    /**
+     * <code>required bytes address = 2;</code>
+     */
+    boolean hasAddress();
+    /**
+     * <code>required bytes address = 2;</code>
+     */
+    com.google.protobuf.ByteString getAddress();
+
+    /**
+     * <code>required uint32 port = 3;</code>
+     */
+    boolean hasPort();
+    /**
+     * <code>required uint32 port = 3;</code>
+     */
+    int getPort();
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg}
+   *
+   * <pre>
+   * Raw uuid bytes (16), raw ip address bytes (4 or 16) and port
+   * </pre>
+   */
+  public static final class SwarmIDMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg)
+      SwarmIDMsgOrBuilder {
+    // Use SwarmIDMsg.newBuilder() to construct.
+    private SwarmIDMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SwarmIDMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SwarmIDMsg defaultInstance;
+    public static SwarmIDMsg getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SwarmIDMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SwarmIDMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              uuid_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              address_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              port_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SwarmIDMsg_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SwarmIDMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SwarmIDMsg> PARSER =
+        new com.google.protobuf.AbstractParser<SwarmIDMsg>() {
+      public SwarmIDMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SwarmIDMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SwarmIDMsg> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int UUID_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString uuid_;
+    /**
+     * <code>required bytes uuid = 1;</code>
+     */
+    public boolean hasUuid() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required bytes uuid = 1;</code>
+     */
+    public com.google.protobuf.ByteString getUuid() {
+      return uuid_;
+    }
+
+    public static final int ADDRESS_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString address_;
+    /**
+     * <code>required bytes address = 2;</code>
+     */
+    public boolean hasAddress() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bytes address = 2;</code>
+     */
+    public com.google.protobuf.ByteString getAddress() {
+      return address_;
+    }
+
+    public static final int PORT_FIELD_NUMBER = 3;
+    private int port_;
+    /**
+     * <code>required uint32 port = 3;</code>
+     */
+    public boolean hasPort() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required uint32 port = 3;</code>
+     */
+    public int getPort() {
+      return port_;
+    }
+
+    private void initFields() {
+      uuid_ = com.google.protobuf.ByteString.EMPTY;
+      address_ = com.google.protobuf.ByteString.EMPTY;
+      port_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasUuid()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasAddress()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPort()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, uuid_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, address_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt32(3, port_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, uuid_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, address_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, port_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg}
+     *
+     * <pre>
+     * Raw uuid bytes (16), raw ip address bytes (4 or 16) and port
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SwarmIDMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SwarmIDMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        uuid_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        address_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        port_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SwarmIDMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.uuid_ = uuid_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.address_ = address_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.port_ = port_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance()) return this;
+        if (other.hasUuid()) {
+          setUuid(other.getUuid());
+        }
+        if (other.hasAddress()) {
+          setAddress(other.getAddress());
+        }
+        if (other.hasPort()) {
+          setPort(other.getPort());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasUuid()) {
+          
+          return false;
+        }
+        if (!hasAddress()) {
+          
+          return false;
+        }
+        if (!hasPort()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString uuid_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes uuid = 1;</code>
+       */
+      public boolean hasUuid() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required bytes uuid = 1;</code>
+       */
+      public com.google.protobuf.ByteString getUuid() {
+        return uuid_;
+      }
+      /**
+       * <code>required bytes uuid = 1;</code>
+       */
+      public Builder setUuid(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        uuid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes uuid = 1;</code>
+       */
+      public Builder clearUuid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        uuid_ = getDefaultInstance().getUuid();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString address_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes address = 2;</code>
+       */
+      public boolean hasAddress() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bytes address = 2;</code>
+       */
+      public com.google.protobuf.ByteString getAddress() {
+        return address_;
+      }
+      /**
+       * <code>required bytes address = 2;</code>
+       */
+      public Builder setAddress(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        address_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes address = 2;</code>
+       */
+      public Builder clearAddress() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        address_ = getDefaultInstance().getAddress();
+        onChanged();
+        return this;
+      }
+
+      private int port_ ;
+      /**
+       * <code>required uint32 port = 3;</code>
+       */
+      public boolean hasPort() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required uint32 port = 3;</code>
+       */
+      public int getPort() {
+        return port_;
+      }
+      /**
+       * <code>required uint32 port = 3;</code>
+       */
+      public Builder setPort(int value) {
+        bitField0_ |= 0x00000004;
+        port_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 port = 3;</code>
+       */
+      public Builder clearPort() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        port_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg)
+    }
+
+    static {
+      defaultInstance = new SwarmIDMsg(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg)
+  }
+
+  public interface SetCollectorAddressMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetCollectorAddressMsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+     */
+    boolean hasCollectorAddress();
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg getCollectorAddress();
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsgOrBuilder getCollectorAddressOrBuilder();
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetCollectorAddressMsg}
+   */
+  public static final class SetCollectorAddressMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetCollectorAddressMsg)
+      SetCollectorAddressMsgOrBuilder {
+    // Use SetCollectorAddressMsg.newBuilder() to construct.
+    private SetCollectorAddressMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SetCollectorAddressMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SetCollectorAddressMsg defaultInstance;
+    public static SetCollectorAddressMsg getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SetCollectorAddressMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SetCollectorAddressMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = collectorAddress_.toBuilder();
+              }
+              collectorAddress_ = input.readMessage(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(collectorAddress_);
+                collectorAddress_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetCollectorAddressMsg_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetCollectorAddressMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SetCollectorAddressMsg> PARSER =
+        new com.google.protobuf.AbstractParser<SetCollectorAddressMsg>() {
+      public SetCollectorAddressMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SetCollectorAddressMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SetCollectorAddressMsg> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int COLLECTOR_ADDRESS_FIELD_NUMBER = 1;
+    private de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg collectorAddress_;
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+     */
+    public boolean hasCollectorAddress() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg getCollectorAddress() {
+      return collectorAddress_;
+    }
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsgOrBuilder getCollectorAddressOrBuilder() {
+      return collectorAddress_;
+    }
+
+    private void initFields() {
+      collectorAddress_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasCollectorAddress()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getCollectorAddress().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, collectorAddress_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, collectorAddress_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetCollectorAddressMsg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetCollectorAddressMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetCollectorAddressMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetCollectorAddressMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getCollectorAddressFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (collectorAddressBuilder_ == null) {
+          collectorAddress_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.getDefaultInstance();
+        } else {
+          collectorAddressBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetCollectorAddressMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (collectorAddressBuilder_ == null) {
+          result.collectorAddress_ = collectorAddress_;
+        } else {
+          result.collectorAddress_ = collectorAddressBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.getDefaultInstance()) return this;
+        if (other.hasCollectorAddress()) {
+          mergeCollectorAddress(other.getCollectorAddress());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasCollectorAddress()) {
+          
+          return false;
+        }
+        if (!getCollectorAddress().isInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg collectorAddress_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsgOrBuilder> collectorAddressBuilder_;
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+       */
+      public boolean hasCollectorAddress() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg getCollectorAddress() {
+        if (collectorAddressBuilder_ == null) {
+          return collectorAddress_;
+        } else {
+          return collectorAddressBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+       */
+      public Builder setCollectorAddress(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg value) {
+        if (collectorAddressBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          collectorAddress_ = value;
+          onChanged();
+        } else {
+          collectorAddressBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+       */
+      public Builder setCollectorAddress(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.Builder builderForValue) {
+        if (collectorAddressBuilder_ == null) {
+          collectorAddress_ = builderForValue.build();
+          onChanged();
+        } else {
+          collectorAddressBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+       */
+      public Builder mergeCollectorAddress(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg value) {
+        if (collectorAddressBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              collectorAddress_ != de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.getDefaultInstance()) {
+            collectorAddress_ =
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.newBuilder(collectorAddress_).mergeFrom(value).buildPartial();
+          } else {
+            collectorAddress_ = value;
+          }
+          onChanged();
+        } else {
+          collectorAddressBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+       */
+      public Builder clearCollectorAddress() {
+        if (collectorAddressBuilder_ == null) {
+          collectorAddress_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.getDefaultInstance();
+          onChanged();
+        } else {
+          collectorAddressBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.Builder getCollectorAddressBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getCollectorAddressFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsgOrBuilder getCollectorAddressOrBuilder() {
+        if (collectorAddressBuilder_ != null) {
+          return collectorAddressBuilder_.getMessageOrBuilder();
+        } else {
+          return collectorAddress_;
+        }
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SocketAddressMsg collector_address = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsgOrBuilder> 
+          getCollectorAddressFieldBuilder() {
+        if (collectorAddressBuilder_ == null) {
+          collectorAddressBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SocketAddressMsgOrBuilder>(
+                  getCollectorAddress(),
+                  getParentForChildren(),
+                  isClean());
+          collectorAddress_ = null;
+        }
+        return collectorAddressBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetCollectorAddressMsg)
+    }
+
+    static {
+      defaultInstance = new SetCollectorAddressMsg(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetCollectorAddressMsg)
+    public static final int CMD_FIELD_NUMBER = 102;
+    /**
+     * <code>extend .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand,
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg> cmd = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.getDefaultInstance(),
+          0,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.class,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetCollectorAddressMsg.getDefaultInstance());
+  }
+
+  public interface SetLocalSwarmIDMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetLocalSwarmIDMsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+     */
+    boolean hasLocalSwarmId();
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getLocalSwarmId();
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getLocalSwarmIdOrBuilder();
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetLocalSwarmIDMsg}
+   */
+  public static final class SetLocalSwarmIDMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetLocalSwarmIDMsg)
+      SetLocalSwarmIDMsgOrBuilder {
+    // Use SetLocalSwarmIDMsg.newBuilder() to construct.
+    private SetLocalSwarmIDMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SetLocalSwarmIDMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SetLocalSwarmIDMsg defaultInstance;
+    public static SetLocalSwarmIDMsg getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SetLocalSwarmIDMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SetLocalSwarmIDMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = localSwarmId_.toBuilder();
+              }
+              localSwarmId_ = input.readMessage(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(localSwarmId_);
+                localSwarmId_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetLocalSwarmIDMsg_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetLocalSwarmIDMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SetLocalSwarmIDMsg> PARSER =
+        new com.google.protobuf.AbstractParser<SetLocalSwarmIDMsg>() {
+      public SetLocalSwarmIDMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SetLocalSwarmIDMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SetLocalSwarmIDMsg> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int LOCAL_SWARM_ID_FIELD_NUMBER = 1;
+    private de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg localSwarmId_;
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+     */
+    public boolean hasLocalSwarmId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getLocalSwarmId() {
+      return localSwarmId_;
+    }
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getLocalSwarmIdOrBuilder() {
+      return localSwarmId_;
+    }
+
+    private void initFields() {
+      localSwarmId_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasLocalSwarmId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getLocalSwarmId().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, localSwarmId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, localSwarmId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetLocalSwarmIDMsg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetLocalSwarmIDMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetLocalSwarmIDMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetLocalSwarmIDMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getLocalSwarmIdFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (localSwarmIdBuilder_ == null) {
+          localSwarmId_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance();
+        } else {
+          localSwarmIdBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetLocalSwarmIDMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (localSwarmIdBuilder_ == null) {
+          result.localSwarmId_ = localSwarmId_;
+        } else {
+          result.localSwarmId_ = localSwarmIdBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.getDefaultInstance()) return this;
+        if (other.hasLocalSwarmId()) {
+          mergeLocalSwarmId(other.getLocalSwarmId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasLocalSwarmId()) {
+          
+          return false;
+        }
+        if (!getLocalSwarmId().isInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg localSwarmId_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> localSwarmIdBuilder_;
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+       */
+      public boolean hasLocalSwarmId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getLocalSwarmId() {
+        if (localSwarmIdBuilder_ == null) {
+          return localSwarmId_;
+        } else {
+          return localSwarmIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+       */
+      public Builder setLocalSwarmId(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg value) {
+        if (localSwarmIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          localSwarmId_ = value;
+          onChanged();
+        } else {
+          localSwarmIdBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+       */
+      public Builder setLocalSwarmId(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder builderForValue) {
+        if (localSwarmIdBuilder_ == null) {
+          localSwarmId_ = builderForValue.build();
+          onChanged();
+        } else {
+          localSwarmIdBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+       */
+      public Builder mergeLocalSwarmId(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg value) {
+        if (localSwarmIdBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              localSwarmId_ != de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance()) {
+            localSwarmId_ =
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.newBuilder(localSwarmId_).mergeFrom(value).buildPartial();
+          } else {
+            localSwarmId_ = value;
+          }
+          onChanged();
+        } else {
+          localSwarmIdBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+       */
+      public Builder clearLocalSwarmId() {
+        if (localSwarmIdBuilder_ == null) {
+          localSwarmId_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance();
+          onChanged();
+        } else {
+          localSwarmIdBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder getLocalSwarmIdBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getLocalSwarmIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getLocalSwarmIdOrBuilder() {
+        if (localSwarmIdBuilder_ != null) {
+          return localSwarmIdBuilder_.getMessageOrBuilder();
+        } else {
+          return localSwarmId_;
+        }
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg local_swarm_id = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> 
+          getLocalSwarmIdFieldBuilder() {
+        if (localSwarmIdBuilder_ == null) {
+          localSwarmIdBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder>(
+                  getLocalSwarmId(),
+                  getParentForChildren(),
+                  isClean());
+          localSwarmId_ = null;
+        }
+        return localSwarmIdBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetLocalSwarmIDMsg)
+    }
+
+    static {
+      defaultInstance = new SetLocalSwarmIDMsg(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetLocalSwarmIDMsg)
+    public static final int CMD_FIELD_NUMBER = 103;
+    /**
+     * <code>extend .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand,
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg> cmd = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.getDefaultInstance(),
+          0,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.class,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetLocalSwarmIDMsg.getDefaultInstance());
+  }
+
+  public interface UpdateNeighboursMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.UpdateNeighboursMsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+     */
+    java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> 
+        getAddNeighboursList();
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getAddNeighbours(int index);
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+     */
+    int getAddNeighboursCount();
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+     */
+    java.util.List<? extends de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> 
+        getAddNeighboursOrBuilderList();
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getAddNeighboursOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+     */
+    java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> 
+        getRemoveNeighboursList();
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getRemoveNeighbours(int index);
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+     */
+    int getRemoveNeighboursCount();
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+     */
+    java.util.List<? extends de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> 
+        getRemoveNeighboursOrBuilderList();
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getRemoveNeighboursOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.UpdateNeighboursMsg}
+   */
+  public static final class UpdateNeighboursMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.UpdateNeighboursMsg)
+      UpdateNeighboursMsgOrBuilder {
+    // Use UpdateNeighboursMsg.newBuilder() to construct.
+    private UpdateNeighboursMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private UpdateNeighboursMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final UpdateNeighboursMsg defaultInstance;
+    public static UpdateNeighboursMsg getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public UpdateNeighboursMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private UpdateNeighboursMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                addNeighbours_ = new java.util.ArrayList<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              addNeighbours_.add(input.readMessage(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.PARSER, extensionRegistry));
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                removeNeighbours_ = new java.util.ArrayList<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              removeNeighbours_.add(input.readMessage(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          addNeighbours_ = java.util.Collections.unmodifiableList(addNeighbours_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          removeNeighbours_ = java.util.Collections.unmodifiableList(removeNeighbours_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_UpdateNeighboursMsg_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_UpdateNeighboursMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<UpdateNeighboursMsg> PARSER =
+        new com.google.protobuf.AbstractParser<UpdateNeighboursMsg>() {
+      public UpdateNeighboursMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UpdateNeighboursMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpdateNeighboursMsg> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int ADD_NEIGHBOURS_FIELD_NUMBER = 1;
+    private java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> addNeighbours_;
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+     */
+    public java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> getAddNeighboursList() {
+      return addNeighbours_;
+    }
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+     */
+    public java.util.List<? extends de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> 
+        getAddNeighboursOrBuilderList() {
+      return addNeighbours_;
+    }
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+     */
+    public int getAddNeighboursCount() {
+      return addNeighbours_.size();
+    }
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getAddNeighbours(int index) {
+      return addNeighbours_.get(index);
+    }
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getAddNeighboursOrBuilder(
+        int index) {
+      return addNeighbours_.get(index);
+    }
+
+    public static final int REMOVE_NEIGHBOURS_FIELD_NUMBER = 2;
+    private java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> removeNeighbours_;
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+     */
+    public java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> getRemoveNeighboursList() {
+      return removeNeighbours_;
+    }
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+     */
+    public java.util.List<? extends de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> 
+        getRemoveNeighboursOrBuilderList() {
+      return removeNeighbours_;
+    }
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+     */
+    public int getRemoveNeighboursCount() {
+      return removeNeighbours_.size();
+    }
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getRemoveNeighbours(int index) {
+      return removeNeighbours_.get(index);
+    }
+    /**
+     * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getRemoveNeighboursOrBuilder(
+        int index) {
+      return removeNeighbours_.get(index);
+    }
+
+    private void initFields() {
+      addNeighbours_ = java.util.Collections.emptyList();
+      removeNeighbours_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getAddNeighboursCount(); i++) {
+        if (!getAddNeighbours(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getRemoveNeighboursCount(); i++) {
+        if (!getRemoveNeighbours(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < addNeighbours_.size(); i++) {
+        output.writeMessage(1, addNeighbours_.get(i));
+      }
+      for (int i = 0; i < removeNeighbours_.size(); i++) {
+        output.writeMessage(2, removeNeighbours_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < addNeighbours_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, addNeighbours_.get(i));
+      }
+      for (int i = 0; i < removeNeighbours_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, removeNeighbours_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.UpdateNeighboursMsg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.UpdateNeighboursMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_UpdateNeighboursMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_UpdateNeighboursMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getAddNeighboursFieldBuilder();
+          getRemoveNeighboursFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (addNeighboursBuilder_ == null) {
+          addNeighbours_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          addNeighboursBuilder_.clear();
+        }
+        if (removeNeighboursBuilder_ == null) {
+          removeNeighbours_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          removeNeighboursBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_UpdateNeighboursMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg(this);
+        int from_bitField0_ = bitField0_;
+        if (addNeighboursBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            addNeighbours_ = java.util.Collections.unmodifiableList(addNeighbours_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.addNeighbours_ = addNeighbours_;
+        } else {
+          result.addNeighbours_ = addNeighboursBuilder_.build();
+        }
+        if (removeNeighboursBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            removeNeighbours_ = java.util.Collections.unmodifiableList(removeNeighbours_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.removeNeighbours_ = removeNeighbours_;
+        } else {
+          result.removeNeighbours_ = removeNeighboursBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.getDefaultInstance()) return this;
+        if (addNeighboursBuilder_ == null) {
+          if (!other.addNeighbours_.isEmpty()) {
+            if (addNeighbours_.isEmpty()) {
+              addNeighbours_ = other.addNeighbours_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureAddNeighboursIsMutable();
+              addNeighbours_.addAll(other.addNeighbours_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.addNeighbours_.isEmpty()) {
+            if (addNeighboursBuilder_.isEmpty()) {
+              addNeighboursBuilder_.dispose();
+              addNeighboursBuilder_ = null;
+              addNeighbours_ = other.addNeighbours_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              addNeighboursBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getAddNeighboursFieldBuilder() : null;
+            } else {
+              addNeighboursBuilder_.addAllMessages(other.addNeighbours_);
+            }
+          }
+        }
+        if (removeNeighboursBuilder_ == null) {
+          if (!other.removeNeighbours_.isEmpty()) {
+            if (removeNeighbours_.isEmpty()) {
+              removeNeighbours_ = other.removeNeighbours_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureRemoveNeighboursIsMutable();
+              removeNeighbours_.addAll(other.removeNeighbours_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.removeNeighbours_.isEmpty()) {
+            if (removeNeighboursBuilder_.isEmpty()) {
+              removeNeighboursBuilder_.dispose();
+              removeNeighboursBuilder_ = null;
+              removeNeighbours_ = other.removeNeighbours_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              removeNeighboursBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRemoveNeighboursFieldBuilder() : null;
+            } else {
+              removeNeighboursBuilder_.addAllMessages(other.removeNeighbours_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getAddNeighboursCount(); i++) {
+          if (!getAddNeighbours(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getRemoveNeighboursCount(); i++) {
+          if (!getRemoveNeighbours(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> addNeighbours_ =
+        java.util.Collections.emptyList();
+      private void ensureAddNeighboursIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          addNeighbours_ = new java.util.ArrayList<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg>(addNeighbours_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> addNeighboursBuilder_;
+
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> getAddNeighboursList() {
+        if (addNeighboursBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(addNeighbours_);
+        } else {
+          return addNeighboursBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public int getAddNeighboursCount() {
+        if (addNeighboursBuilder_ == null) {
+          return addNeighbours_.size();
+        } else {
+          return addNeighboursBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getAddNeighbours(int index) {
+        if (addNeighboursBuilder_ == null) {
+          return addNeighbours_.get(index);
+        } else {
+          return addNeighboursBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public Builder setAddNeighbours(
+          int index, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg value) {
+        if (addNeighboursBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAddNeighboursIsMutable();
+          addNeighbours_.set(index, value);
+          onChanged();
+        } else {
+          addNeighboursBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public Builder setAddNeighbours(
+          int index, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder builderForValue) {
+        if (addNeighboursBuilder_ == null) {
+          ensureAddNeighboursIsMutable();
+          addNeighbours_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          addNeighboursBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public Builder addAddNeighbours(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg value) {
+        if (addNeighboursBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAddNeighboursIsMutable();
+          addNeighbours_.add(value);
+          onChanged();
+        } else {
+          addNeighboursBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public Builder addAddNeighbours(
+          int index, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg value) {
+        if (addNeighboursBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAddNeighboursIsMutable();
+          addNeighbours_.add(index, value);
+          onChanged();
+        } else {
+          addNeighboursBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public Builder addAddNeighbours(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder builderForValue) {
+        if (addNeighboursBuilder_ == null) {
+          ensureAddNeighboursIsMutable();
+          addNeighbours_.add(builderForValue.build());
+          onChanged();
+        } else {
+          addNeighboursBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public Builder addAddNeighbours(
+          int index, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder builderForValue) {
+        if (addNeighboursBuilder_ == null) {
+          ensureAddNeighboursIsMutable();
+          addNeighbours_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          addNeighboursBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public Builder addAllAddNeighbours(
+          java.lang.Iterable<? extends de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> values) {
+        if (addNeighboursBuilder_ == null) {
+          ensureAddNeighboursIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, addNeighbours_);
+          onChanged();
+        } else {
+          addNeighboursBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public Builder clearAddNeighbours() {
+        if (addNeighboursBuilder_ == null) {
+          addNeighbours_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          addNeighboursBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public Builder removeAddNeighbours(int index) {
+        if (addNeighboursBuilder_ == null) {
+          ensureAddNeighboursIsMutable();
+          addNeighbours_.remove(index);
+          onChanged();
+        } else {
+          addNeighboursBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder getAddNeighboursBuilder(
+          int index) {
+        return getAddNeighboursFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getAddNeighboursOrBuilder(
+          int index) {
+        if (addNeighboursBuilder_ == null) {
+          return addNeighbours_.get(index);  } else {
+          return addNeighboursBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public java.util.List<? extends de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> 
+           getAddNeighboursOrBuilderList() {
+        if (addNeighboursBuilder_ != null) {
+          return addNeighboursBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(addNeighbours_);
+        }
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder addAddNeighboursBuilder() {
+        return getAddNeighboursFieldBuilder().addBuilder(
+            de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder addAddNeighboursBuilder(
+          int index) {
+        return getAddNeighboursFieldBuilder().addBuilder(
+            index, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg add_neighbours = 1;</code>
+       */
+      public java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder> 
+           getAddNeighboursBuilderList() {
+        return getAddNeighboursFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> 
+          getAddNeighboursFieldBuilder() {
+        if (addNeighboursBuilder_ == null) {
+          addNeighboursBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder>(
+                  addNeighbours_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          addNeighbours_ = null;
+        }
+        return addNeighboursBuilder_;
+      }
+
+      private java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> removeNeighbours_ =
+        java.util.Collections.emptyList();
+      private void ensureRemoveNeighboursIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          removeNeighbours_ = new java.util.ArrayList<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg>(removeNeighbours_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> removeNeighboursBuilder_;
+
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> getRemoveNeighboursList() {
+        if (removeNeighboursBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(removeNeighbours_);
+        } else {
+          return removeNeighboursBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public int getRemoveNeighboursCount() {
+        if (removeNeighboursBuilder_ == null) {
+          return removeNeighbours_.size();
+        } else {
+          return removeNeighboursBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getRemoveNeighbours(int index) {
+        if (removeNeighboursBuilder_ == null) {
+          return removeNeighbours_.get(index);
+        } else {
+          return removeNeighboursBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public Builder setRemoveNeighbours(
+          int index, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg value) {
+        if (removeNeighboursBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemoveNeighboursIsMutable();
+          removeNeighbours_.set(index, value);
+          onChanged();
+        } else {
+          removeNeighboursBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public Builder setRemoveNeighbours(
+          int index, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder builderForValue) {
+        if (removeNeighboursBuilder_ == null) {
+          ensureRemoveNeighboursIsMutable();
+          removeNeighbours_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          removeNeighboursBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public Builder addRemoveNeighbours(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg value) {
+        if (removeNeighboursBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemoveNeighboursIsMutable();
+          removeNeighbours_.add(value);
+          onChanged();
+        } else {
+          removeNeighboursBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public Builder addRemoveNeighbours(
+          int index, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg value) {
+        if (removeNeighboursBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemoveNeighboursIsMutable();
+          removeNeighbours_.add(index, value);
+          onChanged();
+        } else {
+          removeNeighboursBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public Builder addRemoveNeighbours(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder builderForValue) {
+        if (removeNeighboursBuilder_ == null) {
+          ensureRemoveNeighboursIsMutable();
+          removeNeighbours_.add(builderForValue.build());
+          onChanged();
+        } else {
+          removeNeighboursBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public Builder addRemoveNeighbours(
+          int index, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder builderForValue) {
+        if (removeNeighboursBuilder_ == null) {
+          ensureRemoveNeighboursIsMutable();
+          removeNeighbours_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          removeNeighboursBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public Builder addAllRemoveNeighbours(
+          java.lang.Iterable<? extends de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg> values) {
+        if (removeNeighboursBuilder_ == null) {
+          ensureRemoveNeighboursIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, removeNeighbours_);
+          onChanged();
+        } else {
+          removeNeighboursBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public Builder clearRemoveNeighbours() {
+        if (removeNeighboursBuilder_ == null) {
+          removeNeighbours_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          removeNeighboursBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public Builder removeRemoveNeighbours(int index) {
+        if (removeNeighboursBuilder_ == null) {
+          ensureRemoveNeighboursIsMutable();
+          removeNeighbours_.remove(index);
+          onChanged();
+        } else {
+          removeNeighboursBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder getRemoveNeighboursBuilder(
+          int index) {
+        return getRemoveNeighboursFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getRemoveNeighboursOrBuilder(
+          int index) {
+        if (removeNeighboursBuilder_ == null) {
+          return removeNeighbours_.get(index);  } else {
+          return removeNeighboursBuilder_.getMessageOrBuilder(index);
         }
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public java.util.List<? extends de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> 
+           getRemoveNeighboursOrBuilderList() {
+        if (removeNeighboursBuilder_ != null) {
+          return removeNeighboursBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(removeNeighbours_);
+        }
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder addRemoveNeighboursBuilder() {
+        return getRemoveNeighboursFieldBuilder().addBuilder(
+            de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder addRemoveNeighboursBuilder(
+          int index) {
+        return getRemoveNeighboursFieldBuilder().addBuilder(
+            index, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg remove_neighbours = 2;</code>
+       */
+      public java.util.List<de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder> 
+           getRemoveNeighboursBuilderList() {
+        return getRemoveNeighboursFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> 
+          getRemoveNeighboursFieldBuilder() {
+        if (removeNeighboursBuilder_ == null) {
+          removeNeighboursBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder>(
+                  removeNeighbours_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          removeNeighbours_ = null;
+        }
+        return removeNeighboursBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.UpdateNeighboursMsg)
+    }
+
+    static {
+      defaultInstance = new UpdateNeighboursMsg(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.UpdateNeighboursMsg)
+    public static final int CMD_FIELD_NUMBER = 104;
+    /**
+     * <code>extend .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand,
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg> cmd = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.getDefaultInstance(),
+          0,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.class,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.UpdateNeighboursMsg.getDefaultInstance());
+  }
+
+  public interface SetForwarderSwarmIDMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetForwarderSwarmIDMsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+     */
+    boolean hasForwarderSwarmId();
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getForwarderSwarmId();
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+     */
+    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getForwarderSwarmIdOrBuilder();
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetForwarderSwarmIDMsg}
+   */
+  public static final class SetForwarderSwarmIDMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetForwarderSwarmIDMsg)
+      SetForwarderSwarmIDMsgOrBuilder {
+    // Use SetForwarderSwarmIDMsg.newBuilder() to construct.
+    private SetForwarderSwarmIDMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SetForwarderSwarmIDMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SetForwarderSwarmIDMsg defaultInstance;
+    public static SetForwarderSwarmIDMsg getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SetForwarderSwarmIDMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SetForwarderSwarmIDMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = forwarderSwarmId_.toBuilder();
+              }
+              forwarderSwarmId_ = input.readMessage(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(forwarderSwarmId_);
+                forwarderSwarmId_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetForwarderSwarmIDMsg_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetForwarderSwarmIDMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SetForwarderSwarmIDMsg> PARSER =
+        new com.google.protobuf.AbstractParser<SetForwarderSwarmIDMsg>() {
+      public SetForwarderSwarmIDMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SetForwarderSwarmIDMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SetForwarderSwarmIDMsg> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int FORWARDER_SWARM_ID_FIELD_NUMBER = 1;
+    private de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg forwarderSwarmId_;
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+     */
+    public boolean hasForwarderSwarmId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getForwarderSwarmId() {
+      return forwarderSwarmId_;
+    }
+    /**
+     * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+     */
+    public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getForwarderSwarmIdOrBuilder() {
+      return forwarderSwarmId_;
+    }
+
+    private void initFields() {
+      forwarderSwarmId_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasForwarderSwarmId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getForwarderSwarmId().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, forwarderSwarmId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, forwarderSwarmId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetForwarderSwarmIDMsg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetForwarderSwarmIDMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetForwarderSwarmIDMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetForwarderSwarmIDMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getForwarderSwarmIdFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (forwarderSwarmIdBuilder_ == null) {
+          forwarderSwarmId_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance();
+        } else {
+          forwarderSwarmIdBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetForwarderSwarmIDMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (forwarderSwarmIdBuilder_ == null) {
+          result.forwarderSwarmId_ = forwarderSwarmId_;
+        } else {
+          result.forwarderSwarmId_ = forwarderSwarmIdBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.getDefaultInstance()) return this;
+        if (other.hasForwarderSwarmId()) {
+          mergeForwarderSwarmId(other.getForwarderSwarmId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasForwarderSwarmId()) {
+          
+          return false;
+        }
+        if (!getForwarderSwarmId().isInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg forwarderSwarmId_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> forwarderSwarmIdBuilder_;
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+       */
+      public boolean hasForwarderSwarmId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg getForwarderSwarmId() {
+        if (forwarderSwarmIdBuilder_ == null) {
+          return forwarderSwarmId_;
+        } else {
+          return forwarderSwarmIdBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+       */
+      public Builder setForwarderSwarmId(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg value) {
+        if (forwarderSwarmIdBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          forwarderSwarmId_ = value;
+          onChanged();
+        } else {
+          forwarderSwarmIdBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+       */
+      public Builder setForwarderSwarmId(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder builderForValue) {
+        if (forwarderSwarmIdBuilder_ == null) {
+          forwarderSwarmId_ = builderForValue.build();
+          onChanged();
+        } else {
+          forwarderSwarmIdBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+       */
+      public Builder mergeForwarderSwarmId(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg value) {
+        if (forwarderSwarmIdBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              forwarderSwarmId_ != de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance()) {
+            forwarderSwarmId_ =
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.newBuilder(forwarderSwarmId_).mergeFrom(value).buildPartial();
+          } else {
+            forwarderSwarmId_ = value;
+          }
+          onChanged();
+        } else {
+          forwarderSwarmIdBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+       */
+      public Builder clearForwarderSwarmId() {
+        if (forwarderSwarmIdBuilder_ == null) {
+          forwarderSwarmId_ = de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.getDefaultInstance();
+          onChanged();
+        } else {
+          forwarderSwarmIdBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder getForwarderSwarmIdBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getForwarderSwarmIdFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+       */
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder getForwarderSwarmIdOrBuilder() {
+        if (forwarderSwarmIdBuilder_ != null) {
+          return forwarderSwarmIdBuilder_.getMessageOrBuilder();
+        } else {
+          return forwarderSwarmId_;
+        }
+      }
+      /**
+       * <code>required .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SwarmIDMsg forwarder_swarm_id = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder> 
+          getForwarderSwarmIdFieldBuilder() {
+        if (forwarderSwarmIdBuilder_ == null) {
+          forwarderSwarmIdBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsg.Builder, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SwarmIDMsgOrBuilder>(
+                  getForwarderSwarmId(),
+                  getParentForChildren(),
+                  isClean());
+          forwarderSwarmId_ = null;
+        }
+        return forwarderSwarmIdBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetForwarderSwarmIDMsg)
+    }
+
+    static {
+      defaultInstance = new SetForwarderSwarmIDMsg(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SetForwarderSwarmIDMsg)
+    public static final int CMD_FIELD_NUMBER = 105;
+    /**
+     * <code>extend .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand,
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg> cmd = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.getDefaultInstance(),
+          0,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.class,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SetForwarderSwarmIDMsg.getDefaultInstance());
+  }
+
+  public interface AcknowledgeNeighboursMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.AcknowledgeNeighboursMsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated bytes added_outbound_neighbours = 1;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getAddedOutboundNeighboursList();
+    /**
+     * <code>repeated bytes added_outbound_neighbours = 1;</code>
+     */
+    int getAddedOutboundNeighboursCount();
+    /**
+     * <code>repeated bytes added_outbound_neighbours = 1;</code>
+     */
+    com.google.protobuf.ByteString getAddedOutboundNeighbours(int index);
+
+    /**
+     * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getRemovedOutboundNeighboursList();
+    /**
+     * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+     */
+    int getRemovedOutboundNeighboursCount();
+    /**
+     * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+     */
+    com.google.protobuf.ByteString getRemovedOutboundNeighbours(int index);
+
+    /**
+     * <code>repeated bytes added_inbound_neighbours = 3;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getAddedInboundNeighboursList();
+    /**
+     * <code>repeated bytes added_inbound_neighbours = 3;</code>
+     */
+    int getAddedInboundNeighboursCount();
+    /**
+     * <code>repeated bytes added_inbound_neighbours = 3;</code>
+     */
+    com.google.protobuf.ByteString getAddedInboundNeighbours(int index);
+
+    /**
+     * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getRemovedInboundNeighboursList();
+    /**
+     * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+     */
+    int getRemovedInboundNeighboursCount();
+    /**
+     * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+     */
+    com.google.protobuf.ByteString getRemovedInboundNeighbours(int index);
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.AcknowledgeNeighboursMsg}
+   *
+   * <pre>
+   * Raw uuid bytes (16)
+   * </pre>
+   */
+  public static final class AcknowledgeNeighboursMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.AcknowledgeNeighboursMsg)
+      AcknowledgeNeighboursMsgOrBuilder {
+    // Use AcknowledgeNeighboursMsg.newBuilder() to construct.
+    private AcknowledgeNeighboursMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private AcknowledgeNeighboursMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final AcknowledgeNeighboursMsg defaultInstance;
+    public static AcknowledgeNeighboursMsg getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public AcknowledgeNeighboursMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AcknowledgeNeighboursMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                addedOutboundNeighbours_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              addedOutboundNeighbours_.add(input.readBytes());
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                removedOutboundNeighbours_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              removedOutboundNeighbours_.add(input.readBytes());
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                addedInboundNeighbours_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              addedInboundNeighbours_.add(input.readBytes());
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                removedInboundNeighbours_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              removedInboundNeighbours_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          addedOutboundNeighbours_ = java.util.Collections.unmodifiableList(addedOutboundNeighbours_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          removedOutboundNeighbours_ = java.util.Collections.unmodifiableList(removedOutboundNeighbours_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          addedInboundNeighbours_ = java.util.Collections.unmodifiableList(addedInboundNeighbours_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          removedInboundNeighbours_ = java.util.Collections.unmodifiableList(removedInboundNeighbours_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_AcknowledgeNeighboursMsg_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_AcknowledgeNeighboursMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<AcknowledgeNeighboursMsg> PARSER =
+        new com.google.protobuf.AbstractParser<AcknowledgeNeighboursMsg>() {
+      public AcknowledgeNeighboursMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AcknowledgeNeighboursMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AcknowledgeNeighboursMsg> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int ADDED_OUTBOUND_NEIGHBOURS_FIELD_NUMBER = 1;
+    private java.util.List<com.google.protobuf.ByteString> addedOutboundNeighbours_;
+    /**
+     * <code>repeated bytes added_outbound_neighbours = 1;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getAddedOutboundNeighboursList() {
+      return addedOutboundNeighbours_;
+    }
+    /**
+     * <code>repeated bytes added_outbound_neighbours = 1;</code>
+     */
+    public int getAddedOutboundNeighboursCount() {
+      return addedOutboundNeighbours_.size();
+    }
+    /**
+     * <code>repeated bytes added_outbound_neighbours = 1;</code>
+     */
+    public com.google.protobuf.ByteString getAddedOutboundNeighbours(int index) {
+      return addedOutboundNeighbours_.get(index);
+    }
+
+    public static final int REMOVED_OUTBOUND_NEIGHBOURS_FIELD_NUMBER = 2;
+    private java.util.List<com.google.protobuf.ByteString> removedOutboundNeighbours_;
+    /**
+     * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getRemovedOutboundNeighboursList() {
+      return removedOutboundNeighbours_;
+    }
+    /**
+     * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+     */
+    public int getRemovedOutboundNeighboursCount() {
+      return removedOutboundNeighbours_.size();
+    }
+    /**
+     * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+     */
+    public com.google.protobuf.ByteString getRemovedOutboundNeighbours(int index) {
+      return removedOutboundNeighbours_.get(index);
+    }
+
+    public static final int ADDED_INBOUND_NEIGHBOURS_FIELD_NUMBER = 3;
+    private java.util.List<com.google.protobuf.ByteString> addedInboundNeighbours_;
+    /**
+     * <code>repeated bytes added_inbound_neighbours = 3;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getAddedInboundNeighboursList() {
+      return addedInboundNeighbours_;
+    }
+    /**
+     * <code>repeated bytes added_inbound_neighbours = 3;</code>
+     */
+    public int getAddedInboundNeighboursCount() {
+      return addedInboundNeighbours_.size();
+    }
+    /**
+     * <code>repeated bytes added_inbound_neighbours = 3;</code>
+     */
+    public com.google.protobuf.ByteString getAddedInboundNeighbours(int index) {
+      return addedInboundNeighbours_.get(index);
+    }
+
+    public static final int REMOVED_INBOUND_NEIGHBOURS_FIELD_NUMBER = 4;
+    private java.util.List<com.google.protobuf.ByteString> removedInboundNeighbours_;
+    /**
+     * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getRemovedInboundNeighboursList() {
+      return removedInboundNeighbours_;
+    }
+    /**
+     * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+     */
+    public int getRemovedInboundNeighboursCount() {
+      return removedInboundNeighbours_.size();
+    }
+    /**
+     * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+     */
+    public com.google.protobuf.ByteString getRemovedInboundNeighbours(int index) {
+      return removedInboundNeighbours_.get(index);
+    }
+
+    private void initFields() {
+      addedOutboundNeighbours_ = java.util.Collections.emptyList();
+      removedOutboundNeighbours_ = java.util.Collections.emptyList();
+      addedInboundNeighbours_ = java.util.Collections.emptyList();
+      removedInboundNeighbours_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < addedOutboundNeighbours_.size(); i++) {
+        output.writeBytes(1, addedOutboundNeighbours_.get(i));
+      }
+      for (int i = 0; i < removedOutboundNeighbours_.size(); i++) {
+        output.writeBytes(2, removedOutboundNeighbours_.get(i));
+      }
+      for (int i = 0; i < addedInboundNeighbours_.size(); i++) {
+        output.writeBytes(3, addedInboundNeighbours_.get(i));
+      }
+      for (int i = 0; i < removedInboundNeighbours_.size(); i++) {
+        output.writeBytes(4, removedInboundNeighbours_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < addedOutboundNeighbours_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(addedOutboundNeighbours_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getAddedOutboundNeighboursList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedOutboundNeighbours_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(removedOutboundNeighbours_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedOutboundNeighboursList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < addedInboundNeighbours_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(addedInboundNeighbours_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getAddedInboundNeighboursList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedInboundNeighbours_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(removedInboundNeighbours_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedInboundNeighboursList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.AcknowledgeNeighboursMsg}
+     *
+     * <pre>
+     * Raw uuid bytes (16)
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.AcknowledgeNeighboursMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_AcknowledgeNeighboursMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_AcknowledgeNeighboursMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        addedOutboundNeighbours_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        removedOutboundNeighbours_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        addedInboundNeighbours_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        removedInboundNeighbours_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_AcknowledgeNeighboursMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          addedOutboundNeighbours_ = java.util.Collections.unmodifiableList(addedOutboundNeighbours_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.addedOutboundNeighbours_ = addedOutboundNeighbours_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          removedOutboundNeighbours_ = java.util.Collections.unmodifiableList(removedOutboundNeighbours_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.removedOutboundNeighbours_ = removedOutboundNeighbours_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          addedInboundNeighbours_ = java.util.Collections.unmodifiableList(addedInboundNeighbours_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.addedInboundNeighbours_ = addedInboundNeighbours_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          removedInboundNeighbours_ = java.util.Collections.unmodifiableList(removedInboundNeighbours_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.removedInboundNeighbours_ = removedInboundNeighbours_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.getDefaultInstance()) return this;
+        if (!other.addedOutboundNeighbours_.isEmpty()) {
+          if (addedOutboundNeighbours_.isEmpty()) {
+            addedOutboundNeighbours_ = other.addedOutboundNeighbours_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureAddedOutboundNeighboursIsMutable();
+            addedOutboundNeighbours_.addAll(other.addedOutboundNeighbours_);
+          }
+          onChanged();
+        }
+        if (!other.removedOutboundNeighbours_.isEmpty()) {
+          if (removedOutboundNeighbours_.isEmpty()) {
+            removedOutboundNeighbours_ = other.removedOutboundNeighbours_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureRemovedOutboundNeighboursIsMutable();
+            removedOutboundNeighbours_.addAll(other.removedOutboundNeighbours_);
+          }
+          onChanged();
+        }
+        if (!other.addedInboundNeighbours_.isEmpty()) {
+          if (addedInboundNeighbours_.isEmpty()) {
+            addedInboundNeighbours_ = other.addedInboundNeighbours_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureAddedInboundNeighboursIsMutable();
+            addedInboundNeighbours_.addAll(other.addedInboundNeighbours_);
+          }
+          onChanged();
+        }
+        if (!other.removedInboundNeighbours_.isEmpty()) {
+          if (removedInboundNeighbours_.isEmpty()) {
+            removedInboundNeighbours_ = other.removedInboundNeighbours_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureRemovedInboundNeighboursIsMutable();
+            removedInboundNeighbours_.addAll(other.removedInboundNeighbours_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.google.protobuf.ByteString> addedOutboundNeighbours_ = java.util.Collections.emptyList();
+      private void ensureAddedOutboundNeighboursIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          addedOutboundNeighbours_ = new java.util.ArrayList<com.google.protobuf.ByteString>(addedOutboundNeighbours_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated bytes added_outbound_neighbours = 1;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getAddedOutboundNeighboursList() {
+        return java.util.Collections.unmodifiableList(addedOutboundNeighbours_);
+      }
+      /**
+       * <code>repeated bytes added_outbound_neighbours = 1;</code>
+       */
+      public int getAddedOutboundNeighboursCount() {
+        return addedOutboundNeighbours_.size();
+      }
+      /**
+       * <code>repeated bytes added_outbound_neighbours = 1;</code>
+       */
+      public com.google.protobuf.ByteString getAddedOutboundNeighbours(int index) {
+        return addedOutboundNeighbours_.get(index);
+      }
+      /**
+       * <code>repeated bytes added_outbound_neighbours = 1;</code>
+       */
+      public Builder setAddedOutboundNeighbours(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAddedOutboundNeighboursIsMutable();
+        addedOutboundNeighbours_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes added_outbound_neighbours = 1;</code>
+       */
+      public Builder addAddedOutboundNeighbours(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAddedOutboundNeighboursIsMutable();
+        addedOutboundNeighbours_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes added_outbound_neighbours = 1;</code>
+       */
+      public Builder addAllAddedOutboundNeighbours(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureAddedOutboundNeighboursIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, addedOutboundNeighbours_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes added_outbound_neighbours = 1;</code>
+       */
+      public Builder clearAddedOutboundNeighbours() {
+        addedOutboundNeighbours_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> removedOutboundNeighbours_ = java.util.Collections.emptyList();
+      private void ensureRemovedOutboundNeighboursIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          removedOutboundNeighbours_ = new java.util.ArrayList<com.google.protobuf.ByteString>(removedOutboundNeighbours_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getRemovedOutboundNeighboursList() {
+        return java.util.Collections.unmodifiableList(removedOutboundNeighbours_);
+      }
+      /**
+       * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+       */
+      public int getRemovedOutboundNeighboursCount() {
+        return removedOutboundNeighbours_.size();
+      }
+      /**
+       * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+       */
+      public com.google.protobuf.ByteString getRemovedOutboundNeighbours(int index) {
+        return removedOutboundNeighbours_.get(index);
+      }
+      /**
+       * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+       */
+      public Builder setRemovedOutboundNeighbours(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedOutboundNeighboursIsMutable();
+        removedOutboundNeighbours_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+       */
+      public Builder addRemovedOutboundNeighbours(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedOutboundNeighboursIsMutable();
+        removedOutboundNeighbours_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+       */
+      public Builder addAllRemovedOutboundNeighbours(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureRemovedOutboundNeighboursIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedOutboundNeighbours_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes removed_outbound_neighbours = 2;</code>
+       */
+      public Builder clearRemovedOutboundNeighbours() {
+        removedOutboundNeighbours_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> addedInboundNeighbours_ = java.util.Collections.emptyList();
+      private void ensureAddedInboundNeighboursIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          addedInboundNeighbours_ = new java.util.ArrayList<com.google.protobuf.ByteString>(addedInboundNeighbours_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated bytes added_inbound_neighbours = 3;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getAddedInboundNeighboursList() {
+        return java.util.Collections.unmodifiableList(addedInboundNeighbours_);
+      }
+      /**
+       * <code>repeated bytes added_inbound_neighbours = 3;</code>
+       */
+      public int getAddedInboundNeighboursCount() {
+        return addedInboundNeighbours_.size();
+      }
+      /**
+       * <code>repeated bytes added_inbound_neighbours = 3;</code>
+       */
+      public com.google.protobuf.ByteString getAddedInboundNeighbours(int index) {
+        return addedInboundNeighbours_.get(index);
+      }
+      /**
+       * <code>repeated bytes added_inbound_neighbours = 3;</code>
+       */
+      public Builder setAddedInboundNeighbours(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAddedInboundNeighboursIsMutable();
+        addedInboundNeighbours_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes added_inbound_neighbours = 3;</code>
+       */
+      public Builder addAddedInboundNeighbours(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAddedInboundNeighboursIsMutable();
+        addedInboundNeighbours_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes added_inbound_neighbours = 3;</code>
+       */
+      public Builder addAllAddedInboundNeighbours(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureAddedInboundNeighboursIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, addedInboundNeighbours_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes added_inbound_neighbours = 3;</code>
+       */
+      public Builder clearAddedInboundNeighbours() {
+        addedInboundNeighbours_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> removedInboundNeighbours_ = java.util.Collections.emptyList();
+      private void ensureRemovedInboundNeighboursIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          removedInboundNeighbours_ = new java.util.ArrayList<com.google.protobuf.ByteString>(removedInboundNeighbours_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getRemovedInboundNeighboursList() {
+        return java.util.Collections.unmodifiableList(removedInboundNeighbours_);
+      }
+      /**
+       * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+       */
+      public int getRemovedInboundNeighboursCount() {
+        return removedInboundNeighbours_.size();
+      }
+      /**
+       * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+       */
+      public com.google.protobuf.ByteString getRemovedInboundNeighbours(int index) {
+        return removedInboundNeighbours_.get(index);
+      }
+      /**
+       * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+       */
+      public Builder setRemovedInboundNeighbours(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedInboundNeighboursIsMutable();
+        removedInboundNeighbours_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+       */
+      public Builder addRemovedInboundNeighbours(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedInboundNeighboursIsMutable();
+        removedInboundNeighbours_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+       */
+      public Builder addAllRemovedInboundNeighbours(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureRemovedInboundNeighboursIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedInboundNeighbours_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes removed_inbound_neighbours = 4;</code>
+       */
+      public Builder clearRemovedInboundNeighbours() {
+        removedInboundNeighbours_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.AcknowledgeNeighboursMsg)
+    }
+
+    static {
+      defaultInstance = new AcknowledgeNeighboursMsg(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.AcknowledgeNeighboursMsg)
+    public static final int CMD_FIELD_NUMBER = 106;
+    /**
+     * <code>extend .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand,
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg> cmd = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.getDefaultInstance(),
+          0,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.class,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.AcknowledgeNeighboursMsg.getDefaultInstance());
+  }
+
+  public interface ChunkMapMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkMapMsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 sequence = 1;</code>
+     */
+    boolean hasSequence();
+    /**
+     * <code>required int32 sequence = 1;</code>
+     */
+    int getSequence();
+
+    /**
+     * <code>required bytes block_hash = 2;</code>
+     */
+    boolean hasBlockHash();
+    /**
+     * <code>required bytes block_hash = 2;</code>
+     */
+    com.google.protobuf.ByteString getBlockHash();
+
+    /**
+     * <code>required bytes chunks = 3;</code>
+     */
+    boolean hasChunks();
+    /**
+     * <code>required bytes chunks = 3;</code>
+     */
+    com.google.protobuf.ByteString getChunks();
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkMapMsg}
+   *
+   * <pre>
+   * Raw block hash bytes and the chunk indices as little-endian bit set bytes
+   * </pre>
+   */
+  public static final class ChunkMapMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkMapMsg)
+      ChunkMapMsgOrBuilder {
+    // Use ChunkMapMsg.newBuilder() to construct.
+    private ChunkMapMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ChunkMapMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-        private static final long serialVersionUID = 0L;
+    private static final ChunkMapMsg defaultInstance;
+    public static ChunkMapMsg getDefaultInstance() {
+      return defaultInstance;
+    }
 
-        @java.lang.Override
-        protected java.lang.Object writeReplace()
-                throws java.io.ObjectStreamException {
-            return super.writeReplace();
-        }
+    public ChunkMapMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
-                com.google.protobuf.ByteString data)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data);
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ChunkMapMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              sequence_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              blockHash_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              chunks_ = input.readBytes();
+              break;
+            }
+          }
         }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkMapMsg_descriptor;
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
-                com.google.protobuf.ByteString data,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data, extensionRegistry);
-        }
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkMapMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.Builder.class);
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
-                byte[] data)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data);
-        }
+    public static com.google.protobuf.Parser<ChunkMapMsg> PARSER =
+        new com.google.protobuf.AbstractParser<ChunkMapMsg>() {
+      public ChunkMapMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ChunkMapMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChunkMapMsg> getParserForType() {
+      return PARSER;
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
-                byte[] data,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws com.google.protobuf.InvalidProtocolBufferException {
-            return PARSER.parseFrom(data, extensionRegistry);
-        }
+    private int bitField0_;
+    public static final int SEQUENCE_FIELD_NUMBER = 1;
+    private int sequence_;
+    /**
+     * <code>required int32 sequence = 1;</code>
+     */
+    public boolean hasSequence() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int32 sequence = 1;</code>
+     */
+    public int getSequence() {
+      return sequence_;
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
-                java.io.InputStream input)
-                throws java.io.IOException {
-            return PARSER.parseFrom(input);
-        }
+    public static final int BLOCK_HASH_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString blockHash_;
+    /**
+     * <code>required bytes block_hash = 2;</code>
+     */
+    public boolean hasBlockHash() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bytes block_hash = 2;</code>
+     */
+    public com.google.protobuf.ByteString getBlockHash() {
+      return blockHash_;
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
-                java.io.InputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws java.io.IOException {
-            return PARSER.parseFrom(input, extensionRegistry);
-        }
+    public static final int CHUNKS_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString chunks_;
+    /**
+     * <code>required bytes chunks = 3;</code>
+     */
+    public boolean hasChunks() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required bytes chunks = 3;</code>
+     */
+    public com.google.protobuf.ByteString getChunks() {
+      return chunks_;
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseDelimitedFrom(
-                java.io.InputStream input)
-                throws java.io.IOException {
-            return PARSER.parseDelimitedFrom(input);
-        }
+    private void initFields() {
+      sequence_ = 0;
+      blockHash_ = com.google.protobuf.ByteString.EMPTY;
+      chunks_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSequence()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasBlockHash()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasChunks()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseDelimitedFrom(
-                java.io.InputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws java.io.IOException {
-            return PARSER.parseDelimitedFrom(input, extensionRegistry);
-        }
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, sequence_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, blockHash_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, chunks_);
+      }
+      getUnknownFields().writeTo(output);
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
-                com.google.protobuf.CodedInputStream input)
-                throws java.io.IOException {
-            return PARSER.parseFrom(input);
-        }
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, sequence_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, blockHash_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, chunks_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
 
-        public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parseFrom(
-                com.google.protobuf.CodedInputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                throws java.io.IOException {
-            return PARSER.parseFrom(input, extensionRegistry);
-        }
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
 
-        public static Builder newBuilder() {
-            return Builder.create();
-        }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
 
-        public Builder newBuilderForType() {
-            return newBuilder();
-        }
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
 
-        public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg prototype) {
-            return newBuilder().mergeFrom(prototype);
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkMapMsg}
+     *
+     * <pre>
+     * Raw block hash bytes and the chunk indices as little-endian bit set bytes
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkMapMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkMapMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkMapMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
-
-        public Builder toBuilder() {
-            return newBuilder(this);
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        sequence_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        blockHash_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        chunks_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkMapMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sequence_ = sequence_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.blockHash_ = blockHash_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
         }
+        result.chunks_ = chunks_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
 
-        @java.lang.Override
-        protected Builder newBuilderForType(
-                com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-            Builder builder = new Builder(parent);
-            return builder;
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.getDefaultInstance()) return this;
+        if (other.hasSequence()) {
+          setSequence(other.getSequence());
+        }
+        if (other.hasBlockHash()) {
+          setBlockHash(other.getBlockHash());
+        }
+        if (other.hasChunks()) {
+          setChunks(other.getChunks());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSequence()) {
+          
+          return false;
         }
+        if (!hasBlockHash()) {
+          
+          return false;
+        }
+        if (!hasChunks()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int sequence_ ;
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public boolean hasSequence() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public int getSequence() {
+        return sequence_;
+      }
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public Builder setSequence(int value) {
+        bitField0_ |= 0x00000001;
+        sequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public Builder clearSequence() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sequence_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString blockHash_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes block_hash = 2;</code>
+       */
+      public boolean hasBlockHash() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bytes block_hash = 2;</code>
+       */
+      public com.google.protobuf.ByteString getBlockHash() {
+        return blockHash_;
+      }
+      /**
+       * <code>required bytes block_hash = 2;</code>
+       */
+      public Builder setBlockHash(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        blockHash_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes block_hash = 2;</code>
+       */
+      public Builder clearBlockHash() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        blockHash_ = getDefaultInstance().getBlockHash();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString chunks_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes chunks = 3;</code>
+       */
+      public boolean hasChunks() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required bytes chunks = 3;</code>
+       */
+      public com.google.protobuf.ByteString getChunks() {
+        return chunks_;
+      }
+      /**
+       * <code>required bytes chunks = 3;</code>
+       */
+      public Builder setChunks(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        chunks_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes chunks = 3;</code>
+       */
+      public Builder clearChunks() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        chunks_ = getDefaultInstance().getChunks();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkMapMsg)
+    }
 
-        /**
-         * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg}
-         */
-        public static final class Builder extends
-                com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-                // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg)
-                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsgOrBuilder {
-            public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-                return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor;
-            }
+    static {
+      defaultInstance = new ChunkMapMsg(true);
+      defaultInstance.initFields();
+    }
 
-            protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-                return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_fieldAccessorTable
-                        .ensureFieldAccessorsInitialized(
-                                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.class,
-                                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.Builder.class);
-            }
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkMapMsg)
+    public static final int CMD_FIELD_NUMBER = 107;
+    /**
+     * <code>extend .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand,
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg> cmd = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.getDefaultInstance(),
+          0,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.class,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkMapMsg.getDefaultInstance());
+  }
+
+  public interface ChunkRequestMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkRequestMsg)
+      com.google.protobuf.MessageOrBuilder {
 
-            // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.newBuilder()
-            private Builder() {
-                maybeForceBuilderInitialization();
-            }
+    /**
+     * <code>required int32 sequence = 1;</code>
+     */
+    boolean hasSequence();
+    /**
+     * <code>required int32 sequence = 1;</code>
+     */
+    int getSequence();
 
-            private Builder(
-                    com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-                super(parent);
-                maybeForceBuilderInitialization();
-            }
+    /**
+     * <code>required bytes block_hash = 2;</code>
+     */
+    boolean hasBlockHash();
+    /**
+     * <code>required bytes block_hash = 2;</code>
+     */
+    com.google.protobuf.ByteString getBlockHash();
 
-            private void maybeForceBuilderInitialization() {
-                if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-                }
-            }
+    /**
+     * <code>required bytes chunks = 3;</code>
+     */
+    boolean hasChunks();
+    /**
+     * <code>required bytes chunks = 3;</code>
+     */
+    com.google.protobuf.ByteString getChunks();
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkRequestMsg}
+   *
+   * <pre>
+   * Raw block hash bytes and the chunk indices as little-endian bit set bytes
+   * </pre>
+   */
+  public static final class ChunkRequestMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkRequestMsg)
+      ChunkRequestMsgOrBuilder {
+    // Use ChunkRequestMsg.newBuilder() to construct.
+    private ChunkRequestMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ChunkRequestMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-            private static Builder create() {
-                return new Builder();
-            }
+    private static final ChunkRequestMsg defaultInstance;
+    public static ChunkRequestMsg getDefaultInstance() {
+      return defaultInstance;
+    }
 
-            public Builder clear() {
-                super.clear();
-                payload_ = com.google.protobuf.ByteString.EMPTY;
-                bitField0_ = (bitField0_ & ~0x00000001);
-                return this;
-            }
+    public ChunkRequestMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
 
-            public Builder clone() {
-                return create().mergeFrom(buildPartial());
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ChunkRequestMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
             }
-
-            public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-                return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              sequence_ = input.readInt32();
+              break;
             }
-
-            public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg getDefaultInstanceForType() {
-                return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.getDefaultInstance();
+            case 18: {
+              bitField0_ |= 0x00000002;
+              blockHash_ = input.readBytes();
+              break;
             }
-
-            public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg build() {
-                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg result = buildPartial();
-                if (!result.isInitialized()) {
-                    throw newUninitializedMessageException(result);
-                }
-                return result;
+            case 26: {
+              bitField0_ |= 0x00000004;
+              chunks_ = input.readBytes();
+              break;
             }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkRequestMsg_descriptor;
+    }
 
-            public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg buildPartial() {
-                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg(
-                        this);
-                int from_bitField0_ = bitField0_;
-                int to_bitField0_ = 0;
-                if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-                    to_bitField0_ |= 0x00000001;
-                }
-                result.payload_ = payload_;
-                result.bitField0_ = to_bitField0_;
-                onBuilt();
-                return result;
-            }
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkRequestMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.Builder.class);
+    }
 
-            public Builder mergeFrom(com.google.protobuf.Message other) {
-                if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg) {
-                    return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg) other);
-                } else {
-                    super.mergeFrom(other);
-                    return this;
-                }
-            }
+    public static com.google.protobuf.Parser<ChunkRequestMsg> PARSER =
+        new com.google.protobuf.AbstractParser<ChunkRequestMsg>() {
+      public ChunkRequestMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ChunkRequestMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChunkRequestMsg> getParserForType() {
+      return PARSER;
+    }
 
-            public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg other) {
-                if (other ==
-                    de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.getDefaultInstance())
-                    return this;
-                if (other.hasPayload()) {
-                    setPayload(other.getPayload());
-                }
-                this.mergeUnknownFields(other.getUnknownFields());
-                return this;
-            }
+    private int bitField0_;
+    public static final int SEQUENCE_FIELD_NUMBER = 1;
+    private int sequence_;
+    /**
+     * <code>required int32 sequence = 1;</code>
+     */
+    public boolean hasSequence() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int32 sequence = 1;</code>
+     */
+    public int getSequence() {
+      return sequence_;
+    }
 
-            public final boolean isInitialized() {
-                if (!hasPayload()) {
+    public static final int BLOCK_HASH_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString blockHash_;
+    /**
+     * <code>required bytes block_hash = 2;</code>
+     */
+    public boolean hasBlockHash() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bytes block_hash = 2;</code>
+     */
+    public com.google.protobuf.ByteString getBlockHash() {
+      return blockHash_;
+    }
 
-                    return false;
-                }
-                return true;
-            }
+    public static final int CHUNKS_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString chunks_;
+    /**
+     * <code>required bytes chunks = 3;</code>
+     */
+    public boolean hasChunks() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required bytes chunks = 3;</code>
+     */
+    public com.google.protobuf.ByteString getChunks() {
+      return chunks_;
+    }
 
-            public Builder mergeFrom(
-                    com.google.protobuf.CodedInputStream input,
-                    com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                    throws java.io.IOException {
-                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg parsedMessage = null;
-                try {
-                    parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-                } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-                    parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg) e
-                            .getUnfinishedMessage();
-                    throw e;
-                } finally {
-                    if (parsedMessage != null) {
-                        mergeFrom(parsedMessage);
-                    }
-                }
-                return this;
-            }
+    private void initFields() {
+      sequence_ = 0;
+      blockHash_ = com.google.protobuf.ByteString.EMPTY;
+      chunks_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSequence()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasBlockHash()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasChunks()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-            private int bitField0_;
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, sequence_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, blockHash_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, chunks_);
+      }
+      getUnknownFields().writeTo(output);
+    }
 
-            private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, sequence_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, blockHash_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, chunks_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
 
-            /**
-             * <code>required bytes payload = 1;</code>
-             */
-            public boolean hasPayload() {
-                return ((bitField0_ & 0x00000001) == 0x00000001);
-            }
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
 
-            /**
-             * <code>required bytes payload = 1;</code>
-             */
-            public com.google.protobuf.ByteString getPayload() {
-                return payload_;
-            }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
 
-            /**
-             * <code>required bytes payload = 1;</code>
-             */
-            public Builder setPayload(com.google.protobuf.ByteString value) {
-                if (value == null) {
-                    throw new NullPointerException();
-                }
-                bitField0_ |= 0x00000001;
-                payload_ = value;
-                onChanged();
-                return this;
-            }
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
 
-            /**
-             * <code>required bytes payload = 1;</code>
-             */
-            public Builder clearPayload() {
-                bitField0_ = (bitField0_ & ~0x00000001);
-                payload_ = getDefaultInstance().getPayload();
-                onChanged();
-                return this;
-            }
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkRequestMsg}
+     *
+     * <pre>
+     * Raw block hash bytes and the chunk indices as little-endian bit set bytes
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkRequestMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkRequestMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkRequestMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        sequence_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        blockHash_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        chunks_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkRequestMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sequence_ = sequence_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.blockHash_ = blockHash_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.chunks_ = chunks_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
 
-            // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg)
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.getDefaultInstance()) return this;
+        if (other.hasSequence()) {
+          setSequence(other.getSequence());
+        }
+        if (other.hasBlockHash()) {
+          setBlockHash(other.getBlockHash());
         }
+        if (other.hasChunks()) {
+          setChunks(other.getChunks());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSequence()) {
+          
+          return false;
+        }
+        if (!hasBlockHash()) {
+          
+          return false;
+        }
+        if (!hasChunks()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int sequence_ ;
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public boolean hasSequence() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public int getSequence() {
+        return sequence_;
+      }
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public Builder setSequence(int value) {
+        bitField0_ |= 0x00000001;
+        sequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public Builder clearSequence() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sequence_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString blockHash_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes block_hash = 2;</code>
+       */
+      public boolean hasBlockHash() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bytes block_hash = 2;</code>
+       */
+      public com.google.protobuf.ByteString getBlockHash() {
+        return blockHash_;
+      }
+      /**
+       * <code>required bytes block_hash = 2;</code>
+       */
+      public Builder setBlockHash(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        blockHash_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes block_hash = 2;</code>
+       */
+      public Builder clearBlockHash() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        blockHash_ = getDefaultInstance().getBlockHash();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString chunks_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes chunks = 3;</code>
+       */
+      public boolean hasChunks() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required bytes chunks = 3;</code>
+       */
+      public com.google.protobuf.ByteString getChunks() {
+        return chunks_;
+      }
+      /**
+       * <code>required bytes chunks = 3;</code>
+       */
+      public Builder setChunks(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        chunks_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes chunks = 3;</code>
+       */
+      public Builder clearChunks() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        chunks_ = getDefaultInstance().getChunks();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkRequestMsg)
+    }
+
+    static {
+      defaultInstance = new ChunkRequestMsg(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ChunkRequestMsg)
+    public static final int CMD_FIELD_NUMBER = 108;
+    /**
+     * <code>extend .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand,
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg> cmd = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.getDefaultInstance(),
+          0,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.class,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.ChunkRequestMsg.getDefaultInstance());
+  }
+
+  public interface SupersessionMsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SupersessionMsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 lowest_sequence = 1;</code>
+     */
+    boolean hasLowestSequence();
+    /**
+     * <code>required int32 lowest_sequence = 1;</code>
+     */
+    int getLowestSequence();
+  }
+  /**
+   * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SupersessionMsg}
+   */
+  public static final class SupersessionMsg extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SupersessionMsg)
+      SupersessionMsgOrBuilder {
+    // Use SupersessionMsg.newBuilder() to construct.
+    private SupersessionMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SupersessionMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SupersessionMsg defaultInstance;
+    public static SupersessionMsg getDefaultInstance() {
+      return defaultInstance;
+    }
 
-        static {
-            defaultInstance = new SerializableMsg(true);
-            defaultInstance.initFields();
+    public SupersessionMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SupersessionMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              lowestSequence_ = input.readInt32();
+              break;
+            }
+          }
         }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SupersessionMsg_descriptor;
+    }
 
-        // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SerializableMsg)
-        public static final int CMD_FIELD_NUMBER = 101;
-        /**
-         * <code>extend .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand { ... }</code>
-         */
-        public static final
-        com.google.protobuf.GeneratedMessage.GeneratedExtension<
-                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand,
-                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg> cmd = com.google.protobuf.GeneratedMessage
-                .newMessageScopedGeneratedExtension(
-                        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.getDefaultInstance(),
-                        0,
-                        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.class,
-                        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SerializableMsg.getDefaultInstance());
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SupersessionMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.Builder.class);
     }
 
-    private static final com.google.protobuf.Descriptors.Descriptor
-            internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor;
-    private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-            internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_fieldAccessorTable;
-    private static final com.google.protobuf.Descriptors.Descriptor
-            internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor;
-    private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-            internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_fieldAccessorTable;
+    public static com.google.protobuf.Parser<SupersessionMsg> PARSER =
+        new com.google.protobuf.AbstractParser<SupersessionMsg>() {
+      public SupersessionMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SupersessionMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SupersessionMsg> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int LOWEST_SEQUENCE_FIELD_NUMBER = 1;
+    private int lowestSequence_;
+    /**
+     * <code>required int32 lowest_sequence = 1;</code>
+     */
+    public boolean hasLowestSequence() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int32 lowest_sequence = 1;</code>
+     */
+    public int getLowestSequence() {
+      return lowestSequence_;
+    }
+
+    private void initFields() {
+      lowestSequence_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasLowestSequence()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, lowestSequence_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, lowestSequence_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
 
-    public static com.google.protobuf.Descriptors.FileDescriptor
-    getDescriptor() {
-        return descriptor;
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SupersessionMsg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SupersessionMsg)
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SupersessionMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SupersessionMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.class, de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.Builder.class);
+      }
+
+      // Construct using de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        lowestSequence_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SupersessionMsg_descriptor;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg getDefaultInstanceForType() {
+        return de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.getDefaultInstance();
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg build() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg buildPartial() {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg result = new de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.lowestSequence_ = lowestSequence_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg) {
+          return mergeFrom((de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
 
-    private static com.google.protobuf.Descriptors.FileDescriptor
-            descriptor;
+      public Builder mergeFrom(de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg other) {
+        if (other == de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.getDefaultInstance()) return this;
+        if (other.hasLowestSequence()) {
+          setLowestSequence(other.getLowestSequence());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasLowestSequence()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int lowestSequence_ ;
+      /**
+       * <code>required int32 lowest_sequence = 1;</code>
+       */
+      public boolean hasLowestSequence() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int32 lowest_sequence = 1;</code>
+       */
+      public int getLowestSequence() {
+        return lowestSequence_;
+      }
+      /**
+       * <code>required int32 lowest_sequence = 1;</code>
+       */
+      public Builder setLowestSequence(int value) {
+        bitField0_ |= 0x00000001;
+        lowestSequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 lowest_sequence = 1;</code>
+       */
+      public Builder clearLowestSequence() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        lowestSequence_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SupersessionMsg)
+    }
 
     static {
-        java.lang.String[] descriptorData = {
-                "\n\tmsg.proto\0227de.probst.chunkedswarm.net." +
-                "netty.handler.codec.protobuf\"\226\001\n\013BaseCom" +
-                "mand\022^\n\004type\030\001 \002(\0162P.de.probst.chunkedsw" +
-                "arm.net.netty.handler.codec.protobuf.Bas" +
-                "eCommand.CommandType\"\035\n\013CommandType\022\016\n\nS" +
-                "ERIAL_MSG\020\001*\010\010d\020\200\200\200\200\002\"\300\001\n\017SerializableMs" +
-                "g\022\017\n\007payload\030\001 \002(\0142\233\001\n\003cmd\022D.de.probst.c" +
-                "hunkedswarm.net.netty.handler.codec.prot" +
-                "obuf.BaseCommand\030e \001(\0132H.de.probst.chunk" +
-                "edswarm.net.netty.handler.codec.protobuf",
-                ".SerializableMsgBH\n7de.probst.chunkedswa" +
-                "rm.net.netty.handler.codec.protobufB\rPro" +
-                "toMessages"
+      defaultInstance = new SupersessionMsg(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.probst.chunkedswarm.net.netty.handler.codec.protobuf.SupersessionMsg)
+    public static final int CMD_FIELD_NUMBER = 109;
+    /**
+     * <code>extend .de.probst.chunkedswarm.net.netty.handler.codec.protobuf.BaseCommand { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.BaseCommand,
+        de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg> cmd = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.getDefaultInstance(),
+          0,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.class,
+          de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages.SupersessionMsg.getDefaultInstance());
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SocketAddressMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SocketAddressMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SwarmIDMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SwarmIDMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetCollectorAddressMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetCollectorAddressMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetLocalSwarmIDMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetLocalSwarmIDMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_UpdateNeighboursMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_UpdateNeighboursMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetForwarderSwarmIDMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetForwarderSwarmIDMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_AcknowledgeNeighboursMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_AcknowledgeNeighboursMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkMapMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkMapMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkRequestMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkRequestMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SupersessionMsg_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SupersessionMsg_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\tmsg.proto\0227de.probst.chunkedswarm.net." +
+      "netty.handler.codec.protobuf\"\355\002\n\013BaseCom" +
+      "mand\022^\n\004type\030\001 \002(\0162P.de.probst.chunkedsw" +
+      "arm.net.netty.handler.codec.protobuf.Bas" +
+      "eCommand.CommandType\"\363\001\n\013CommandType\022\016\n\n" +
+      "SERIAL_MSG\020\001\022\035\n\031SET_COLLECTOR_ADDRESS_MS" +
+      "G\020\002\022\032\n\026SET_LOCAL_SWARM_ID_MSG\020\003\022\031\n\025UPDAT" +
+      "E_NEIGHBOURS_MSG\020\004\022\036\n\032SET_FORWARDER_SWAR" +
+      "M_ID_MSG\020\005\022\036\n\032ACKNOWLEDGE_NEIGHBOURS_MSG" +
+      "\020\006\022\021\n\rCHUNK_MAP_MSG\020\007\022\025\n\021CHUNK_REQUEST_M",
+      "SG\020\010\022\024\n\020SUPERSESSION_MSG\020\t*\010\010d\020\200\200\200\200\002\"\300\001\n" +
+      "\017SerializableMsg\022\017\n\007payload\030\001 \002(\0142\233\001\n\003cm" +
+      "d\022D.de.probst.chunkedswarm.net.netty.han" +
+      "dler.codec.protobuf.BaseCommand\030e \001(\0132H." +
+      "de.probst.chunkedswarm.net.netty.handler" +
+      ".codec.protobuf.SerializableMsg\"1\n\020Socke" +
+      "tAddressMsg\022\017\n\007address\030\001 \002(\014\022\014\n\004port\030\002 \002" +
+      "(\r\"9\n\nSwarmIDMsg\022\014\n\004uuid\030\001 \002(\014\022\017\n\007addres" +
+      "s\030\002 \002(\014\022\014\n\004port\030\003 \002(\r\"\243\002\n\026SetCollectorAd" +
+      "dressMsg\022d\n\021collector_address\030\001 \002(\0132I.de",
+      ".probst.chunkedswarm.net.netty.handler.c" +
+      "odec.protobuf.SocketAddressMsg2\242\001\n\003cmd\022D" +
+      ".de.probst.chunkedswarm.net.netty.handle" +
+      "r.codec.protobuf.BaseCommand\030f \001(\0132O.de." +
+      "probst.chunkedswarm.net.netty.handler.co" +
+      "dec.protobuf.SetCollectorAddressMsg\"\222\002\n\022" +
+      "SetLocalSwarmIDMsg\022[\n\016local_swarm_id\030\001 \002" +
+      "(\0132C.de.probst.chunkedswarm.net.netty.ha" +
+      "ndler.codec.protobuf.SwarmIDMsg2\236\001\n\003cmd\022" +
+      "D.de.probst.chunkedswarm.net.netty.handl",
+      "er.codec.protobuf.BaseCommand\030g \001(\0132K.de" +
+      ".probst.chunkedswarm.net.netty.handler.c" +
+      "odec.protobuf.SetLocalSwarmIDMsg\"\364\002\n\023Upd" +
+      "ateNeighboursMsg\022[\n\016add_neighbours\030\001 \003(\013" +
+      "2C.de.probst.chunkedswarm.net.netty.hand" +
+      "ler.codec.protobuf.SwarmIDMsg\022^\n\021remove_" +
+      "neighbours\030\002 \003(\0132C.de.probst.chunkedswar" +
+      "m.net.netty.handler.codec.protobuf.Swarm" +
+      "IDMsg2\237\001\n\003cmd\022D.de.probst.chunkedswarm.n" +
+      "et.netty.handler.codec.protobuf.BaseComm",
+      "and\030h \001(\0132L.de.probst.chunkedswarm.net.n" +
+      "etty.handler.codec.protobuf.UpdateNeighb" +
+      "oursMsg\"\236\002\n\026SetForwarderSwarmIDMsg\022_\n\022fo" +
+      "rwarder_swarm_id\030\001 \002(\0132C.de.probst.chunk" +
+      "edswarm.net.netty.handler.codec.protobuf" +
+      ".SwarmIDMsg2\242\001\n\003cmd\022D.de.probst.chunkeds" +
+      "warm.net.netty.handler.codec.protobuf.Ba" +
+      "seCommand\030i \001(\0132O.de.probst.chunkedswarm" +
+      ".net.netty.handler.codec.protobuf.SetFor" +
+      "warderSwarmIDMsg\"\317\002\n\030AcknowledgeNeighbou",
+      "rsMsg\022!\n\031added_outbound_neighbours\030\001 \003(\014" +
+      "\022#\n\033removed_outbound_neighbours\030\002 \003(\014\022 \n" +
+      "\030added_inbound_neighbours\030\003 \003(\014\022\"\n\032remov" +
+      "ed_inbound_neighbours\030\004 \003(\0142\244\001\n\003cmd\022D.de" +
+      ".probst.chunkedswarm.net.netty.handler.c" +
+      "odec.protobuf.BaseCommand\030j \001(\0132Q.de.pro" +
+      "bst.chunkedswarm.net.netty.handler.codec" +
+      ".protobuf.AcknowledgeNeighboursMsg\"\335\001\n\013C" +
+      "hunkMapMsg\022\020\n\010sequence\030\001 \002(\005\022\022\n\nblock_ha" +
+      "sh\030\002 \002(\014\022\016\n\006chunks\030\003 \002(\0142\227\001\n\003cmd\022D.de.pr",
+      "obst.chunkedswarm.net.netty.handler.code" +
+      "c.protobuf.BaseCommand\030k \001(\0132D.de.probst" +
+      ".chunkedswarm.net.netty.handler.codec.pr" +
+      "otobuf.ChunkMapMsg\"\345\001\n\017ChunkRequestMsg\022\020" +
+      "\n\010sequence\030\001 \002(\005\022\022\n\nblock_hash\030\002 \002(\014\022\016\n\006" +
+      "chunks\030\003 \002(\0142\233\001\n\003cmd\022D.de.probst.chunked" +
+      "swarm.net.netty.handler.codec.protobuf.B" +
+      "aseCommand\030l \001(\0132H.de.probst.chunkedswar" +
+      "m.net.netty.handler.codec.protobuf.Chunk" +
+      "RequestMsg\"\310\001\n\017SupersessionMsg\022\027\n\017lowest",
+      "_sequence\030\001 \002(\0052\233\001\n\003cmd\022D.de.probst.chun" +
+      "kedswarm.net.netty.handler.codec.protobu" +
+      "f.BaseCommand\030m \001(\0132H.de.probst.chunkeds" +
+      "warm.net.netty.handler.codec.protobuf.Su" +
+      "persessionMsgBH\n7de.probst.chunkedswarm." +
+      "net.netty.handler.codec.protobufB\rProtoM" +
+      "essages"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
         };
-        com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-                new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
-                    public com.google.protobuf.ExtensionRegistry assignDescriptors(
-                            com.google.protobuf.Descriptors.FileDescriptor root) {
-                        descriptor = root;
-                        return null;
-                    }
-                };
-        com.google.protobuf.Descriptors.FileDescriptor
-                .internalBuildGeneratedFileFrom(descriptorData,
-                                                new com.google.protobuf.Descriptors.FileDescriptor[]{
-                                                }, assigner);
-        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor =
-                getDescriptor().getMessageTypes().get(0);
-        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_fieldAccessorTable = new
-                com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-                internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor,
-                new java.lang.String[]{"Type",});
-        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor =
-                getDescriptor().getMessageTypes().get(1);
-        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_fieldAccessorTable = new
-                com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-                internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor,
-                new java.lang.String[]{"Payload",});
-    }
-
-    // @@protoc_insertion_point(outer_class_scope)
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_BaseCommand_descriptor,
+        new java.lang.String[] { "Type", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SerializableMsg_descriptor,
+        new java.lang.String[] { "Payload", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SocketAddressMsg_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SocketAddressMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SocketAddressMsg_descriptor,
+        new java.lang.String[] { "Address", "Port", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SwarmIDMsg_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SwarmIDMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SwarmIDMsg_descriptor,
+        new java.lang.String[] { "Uuid", "Address", "Port", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetCollectorAddressMsg_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetCollectorAddressMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetCollectorAddressMsg_descriptor,
+        new java.lang.String[] { "CollectorAddress", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetLocalSwarmIDMsg_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetLocalSwarmIDMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetLocalSwarmIDMsg_descriptor,
+        new java.lang.String[] { "LocalSwarmId", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_UpdateNeighboursMsg_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_UpdateNeighboursMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_UpdateNeighboursMsg_descriptor,
+        new java.lang.String[] { "AddNeighbours", "RemoveNeighbours", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetForwarderSwarmIDMsg_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetForwarderSwarmIDMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SetForwarderSwarmIDMsg_descriptor,
+        new java.lang.String[] { "ForwarderSwarmId", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_AcknowledgeNeighboursMsg_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_AcknowledgeNeighboursMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_AcknowledgeNeighboursMsg_descriptor,
+        new java.lang.String[] { "AddedOutboundNeighbours", "RemovedOutboundNeighbours", "AddedInboundNeighbours", "RemovedInboundNeighbours", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkMapMsg_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkMapMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkMapMsg_descriptor,
+        new java.lang.String[] { "Sequence", "BlockHash", "Chunks", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkRequestMsg_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkRequestMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_ChunkRequestMsg_descriptor,
+        new java.lang.String[] { "Sequence", "BlockHash", "Chunks", });
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SupersessionMsg_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SupersessionMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_probst_chunkedswarm_net_netty_handler_codec_protobuf_SupersessionMsg_descriptor,
+        new java.lang.String[] { "LowestSequence", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
 }
@@ -2,6 +2,10 @@ package de.probst.chunkedswarm.net.netty.handler.connection;
 
 import de.probst.chunkedswarm.net.netty.handler.connection.event.ConnectionChangeEvent;
 import de.probst.chunkedswarm.net.netty.handler.connection.message.SetForwarderSwarmIDMessage;
+import de.probst.chunkedswarm.net.netty.handler.forwarding.message.ChunkForwardingMessage;
+import de.probst.chunkedswarm.net.netty.handler.push.message.ChunkPushMessage;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.event.ChunkMapEvent;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.message.ChunkMapMessage;
 import de.probst.chunkedswarm.util.SwarmID;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerAdapter;
@@ -12,6 +16,9 @@ import java.util.Objects;
 /**
  * Handler sends to report channel:
  * - ConnectionChangeEvent
+ * - ChunkForwardingMessage
+ * - ChunkPushMessage (pushed by cluster heads)
+ * - ChunkMapEvent
  *
  * @author Christopher Probst <christopher.probst@hhu.de>
  * @version 1.0, 28.07.15
@@ -85,6 +92,12 @@ public final class CollectorConnectionHandler extends ChannelHandlerAdapter {
             } else {
                 setForwarderSwarmID((SetForwarderSwarmIDMessage) msg);
             }
+        } else if (msg instanceof ChunkForwardingMessage || msg instanceof ChunkPushMessage) {
+            // Reassemble and forward all chunks in the report channel
+            reportChannel.pipeline().fireChannelRead(msg);
+        } else if (msg instanceof ChunkMapMessage) {
+            // Missing chunks are requested on this channel
+            reportChannel.pipeline().fireUserEventTriggered(new ChunkMapEvent(ctx.channel(), (ChunkMapMessage) msg));
         } else {
             super.channelRead(ctx, msg);
         }
@@ -1,7 +1,10 @@
 package de.probst.chunkedswarm.net.netty.handler.connection;
 
 import de.probst.chunkedswarm.net.netty.handler.connection.message.SetForwarderSwarmIDMessage;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.event.ChunkRequestEvent;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.message.ChunkRequestMessage;
 import de.probst.chunkedswarm.util.SwarmID;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerAdapter;
 import io.netty.channel.ChannelHandlerContext;
@@ -9,6 +12,9 @@ import io.netty.channel.ChannelHandlerContext;
 import java.util.Objects;
 
 /**
+ * Handler sends to report channel:
+ * - ChunkRequestEvent
+ *
  * @author Christopher Probst <christopher.probst@hhu.de>
  * @version 1.0, 29.07.15
  */
@@ -16,9 +22,14 @@ public final class ForwarderConnectionHandler extends ChannelHandlerAdapter {
 
     private final SwarmID localSwarmID;
 
-    public ForwarderConnectionHandler(SwarmID localSwarmID) {
+    // The report channel
+    private final Channel reportChannel;
+
+    public ForwarderConnectionHandler(SwarmID localSwarmID, Channel reportChannel) {
         Objects.requireNonNull(localSwarmID);
+        Objects.requireNonNull(reportChannel);
         this.localSwarmID = localSwarmID;
+        this.reportChannel = reportChannel;
     }
 
     @Override
@@ -28,4 +39,15 @@ public final class ForwarderConnectionHandler extends ChannelHandlerAdapter {
            .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
         super.channelActive(ctx);
     }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof ChunkRequestMessage) {
+            // Requested chunks are served on this channel
+            reportChannel.pipeline()
+                         .fireUserEventTriggered(new ChunkRequestEvent(ctx.channel(), (ChunkRequestMessage) msg));
+        } else {
+            super.channelRead(ctx, msg);
+        }
+    }
 }
@@ -124,7 +124,7 @@ public final class ForwarderConnectionsHandler extends ChannelHandlerAdapter {
                          NettyUtil.addCodecToPipeline(ch.pipeline(), MAX_FORWARDER_FRAME_SIZE);
 
                          // The forwarder connection handler
-                         ch.pipeline().addLast(new ForwarderConnectionHandler(localSwarmID));
+                         ch.pipeline().addLast(new ForwarderConnectionHandler(localSwarmID, ctx.channel()));
 
                          // Handle exception logic
                          ch.pipeline().addLast(new ExceptionHandler("ForwarderToCollector"));
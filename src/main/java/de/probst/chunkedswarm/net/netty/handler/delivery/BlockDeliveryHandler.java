@@ -0,0 +1,132 @@
+package de.probst.chunkedswarm.net.netty.handler.delivery;
+
+import de.probst.chunkedswarm.net.netty.handler.reassembly.event.ReassemblyCompletedEvent;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * Delivers reassembled blocks to a block listener on demand.
+ * <p>
+ * Undelivered blocks keep their reassembly buffers, so a slow
+ * listener is bounded by the reassembly memory cap.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 30.08.15
+ */
+public final class BlockDeliveryHandler extends ChannelHandlerAdapter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockDeliveryHandler.class);
+
+    // The listener, which receives all blocks
+    private final BlockListener blockListener;
+
+    // Blocks, which are not requested yet
+    private final Queue<ReassembledBlock> undeliveredBlocks = new ArrayDeque<>();
+
+    // The channel handler context
+    private ChannelHandlerContext ctx;
+
+    // The number of requested blocks
+    private long demand;
+
+    private boolean cancelled;
+
+    private void releaseUndeliveredBlocks() {
+        undeliveredBlocks.forEach(ReassembledBlock::release);
+        undeliveredBlocks.clear();
+    }
+
+    private void deliver() {
+        while (!cancelled && demand > 0 && !undeliveredBlocks.isEmpty()) {
+            if (demand != Long.MAX_VALUE) {
+                demand--;
+            }
+            blockListener.onBlock(undeliveredBlocks.poll());
+        }
+    }
+
+    private void request(long n) {
+        // Unbounded demand, if overflown
+        demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        deliver();
+    }
+
+    private void cancel() {
+        cancelled = true;
+        releaseUndeliveredBlocks();
+    }
+
+    private void runInEventLoop(Runnable task) {
+        if (ctx.executor().inEventLoop()) {
+            task.run();
+        } else {
+            ctx.executor().execute(task);
+        }
+    }
+
+    private void handleReassemblyCompletedEvent(ReassemblyCompletedEvent evt) {
+        ReassembledBlock reassembledBlock = new ReassembledBlock(evt.getReassemblyTracker());
+        if (cancelled) {
+            reassembledBlock.release();
+            return;
+        }
+
+        undeliveredBlocks.offer(reassembledBlock);
+        if (demand == 0) {
+            logger.debug("Waiting for demand, undelivered blocks: " + undeliveredBlocks.size());
+        }
+        deliver();
+    }
+
+    public BlockDeliveryHandler(BlockListener blockListener) {
+        Objects.requireNonNull(blockListener);
+        this.blockListener = blockListener;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+
+        // Let the listener signal its demand
+        blockListener.onSubscribe(new BlockSubscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    throw new IllegalArgumentException("n <= 0");
+                }
+                runInEventLoop(() -> BlockDeliveryHandler.this.request(n));
+            }
+
+            @Override
+            public void cancel() {
+                runInEventLoop(BlockDeliveryHandler.this::cancel);
+            }
+        });
+
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        releaseUndeliveredBlocks();
+        if (!cancelled) {
+            cancelled = true;
+            blockListener.onComplete();
+        }
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof ReassemblyCompletedEvent) {
+            handleReassemblyCompletedEvent((ReassemblyCompletedEvent) evt);
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+}
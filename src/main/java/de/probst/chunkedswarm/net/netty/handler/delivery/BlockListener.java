@@ -0,0 +1,28 @@
+package de.probst.chunkedswarm.net.netty.handler.delivery;
+
+/**
+ * Receives verified, complete blocks in sequence order.
+ * <p>
+ * Blocks are only delivered on demand, see {@link BlockSubscription#request(long)}.
+ * All methods are called from the event loop and should not block.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 30.08.15
+ */
+public interface BlockListener {
+
+    /**
+     * Called once, before any block is delivered.
+     */
+    void onSubscribe(BlockSubscription blockSubscription);
+
+    /**
+     * The listener takes over the block and has to release it.
+     */
+    void onBlock(ReassembledBlock reassembledBlock);
+
+    /**
+     * Called once, when no more blocks will be delivered.
+     */
+    void onComplete();
+}
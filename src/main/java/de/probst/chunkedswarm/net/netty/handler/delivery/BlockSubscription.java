@@ -0,0 +1,16 @@
+package de.probst.chunkedswarm.net.netty.handler.delivery;
+
+/**
+ * Signals the demand of a block listener.
+ * <p>
+ * The methods can be called from any thread.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 30.08.15
+ */
+public interface BlockSubscription {
+
+    void request(long n);
+
+    void cancel();
+}
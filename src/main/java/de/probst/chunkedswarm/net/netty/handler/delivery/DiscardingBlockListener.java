@@ -0,0 +1,25 @@
+package de.probst.chunkedswarm.net.netty.handler.delivery;
+
+/**
+ * Releases all blocks without looking at them.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 30.08.15
+ */
+public final class DiscardingBlockListener implements BlockListener {
+
+    @Override
+    public void onSubscribe(BlockSubscription blockSubscription) {
+        blockSubscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onBlock(ReassembledBlock reassembledBlock) {
+        reassembledBlock.release();
+    }
+
+    @Override
+    public void onComplete() {
+
+    }
+}
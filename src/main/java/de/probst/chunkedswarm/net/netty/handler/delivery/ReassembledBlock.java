@@ -0,0 +1,62 @@
+package de.probst.chunkedswarm.net.netty.handler.delivery;
+
+import de.probst.chunkedswarm.net.netty.handler.reassembly.ReassemblyTracker;
+import de.probst.chunkedswarm.util.BlockHeader;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A verified, complete block.
+ * <p>
+ * The payload is only valid until the block is released.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 30.08.15
+ */
+public final class ReassembledBlock {
+
+    private final ReassemblyTracker reassemblyTracker;
+    private final BlockHeader blockHeader;
+    private final ByteBuffer payload;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    public ReassembledBlock(ReassemblyTracker reassemblyTracker) {
+        Objects.requireNonNull(reassemblyTracker);
+
+        if (!reassemblyTracker.isCompleted()) {
+            throw new IllegalArgumentException("!reassemblyTracker.isCompleted()");
+        }
+
+        this.reassemblyTracker = reassemblyTracker;
+        blockHeader = reassemblyTracker.getBlockHeader();
+        payload = reassemblyTracker.getPayload().asReadOnlyBuffer();
+    }
+
+    public BlockHeader getBlockHeader() {
+        return blockHeader;
+    }
+
+    public ByteBuffer getPayload() {
+        return payload.duplicate();
+    }
+
+    /**
+     * Returns the payload to the reassembly buffer pool.
+     * Releasing a block more than once has no effect.
+     */
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            reassemblyTracker.release();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReassembledBlock{" +
+               "blockHeader=" + blockHeader +
+               ", released=" + released +
+               '}';
+    }
+}
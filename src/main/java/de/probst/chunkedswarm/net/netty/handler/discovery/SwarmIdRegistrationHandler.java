@@ -1,14 +1,15 @@
 package de.probst.chunkedswarm.net.netty.handler.discovery;
 
 import de.probst.chunkedswarm.net.netty.handler.discovery.event.SwarmIDAcquisitionEvent;
-import de.probst.chunkedswarm.net.netty.handler.discovery.event.SwarmIDRegistrationAcknowledgementEvent;
 import de.probst.chunkedswarm.net.netty.handler.discovery.event.SwarmIDRegistrationEvent;
 import de.probst.chunkedswarm.net.netty.handler.discovery.event.UpdateNeighboursEvent;
 import de.probst.chunkedswarm.net.netty.handler.discovery.message.SetCollectorAddressMessage;
 import de.probst.chunkedswarm.net.netty.handler.discovery.message.SetLocalSwarmIDMessage;
 import de.probst.chunkedswarm.net.netty.handler.discovery.message.UpdateNeighboursMessage;
+import de.probst.chunkedswarm.net.netty.handler.tier.message.ClusterAssignmentMessage;
 import de.probst.chunkedswarm.util.SwarmID;
 import de.probst.chunkedswarm.util.SwarmIDManager;
+import de.probst.chunkedswarm.util.TopologyManager;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerAdapter;
 import io.netty.channel.ChannelHandlerContext;
@@ -16,10 +17,17 @@ import io.netty.channel.ChannelPromise;
 import io.netty.channel.group.ChannelGroup;
 
 import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
+ * The neighbours of the remote are assigned by the topology manager.
+ * Only the changes since the last update are sent to the remote.
+ * In a tiered topology, the remote is told its cluster head, whenever it changes.
+ * <p>
  * Handler sends to owner channel:
  * - SwarmIDAcquisitionEvent
  * - UpdateNeighboursEvent
@@ -27,12 +35,7 @@ import java.util.concurrent.TimeUnit;
  * Handler broadcasts to parent channel and all other channels:
  * - SwarmIDRegistrationEvent
  * <p>
- * Handler receives from all other channels:
- * - SwarmIDRegisteredAcknowledgementEvent
- * <p>
  * Handler listens to:
- * - SwarmIDRegistrationEvent
- * - SwarmIDRegistrationAcknowledgementEvent
  * - UpdateNeighboursEvent
  *
  * @author Christopher Probst <christopher.probst@hhu.de>
@@ -48,11 +51,17 @@ public final class SwarmIDRegistrationHandler extends ChannelHandlerAdapter {
     // The swarm id manager
     private final SwarmIDManager swarmIDManager;
 
+    // The topology manager
+    private final TopologyManager topologyManager;
+
     // The channel handler context
     private ChannelHandlerContext ctx;
 
-    // The current update neighbours message
-    private UpdateNeighboursMessage updateNeighboursMessage = new UpdateNeighboursMessage();
+    // The neighbours, which are already sent to the remote
+    private Set<SwarmID> announcedNeighbours = Collections.emptySet();
+
+    // The cluster assignment, which is already sent to the remote
+    private ClusterAssignmentMessage announcedClusterAssignment;
 
     // The update future is set, when neighbours get updated
     private ChannelPromise updateChannelPromise;
@@ -90,12 +99,6 @@ public final class SwarmIDRegistrationHandler extends ChannelHandlerAdapter {
         channels.forEach(c -> c.pipeline().fireUserEventTriggered(unreg));
     }
 
-    private void replySwarmIDAcknowledged(SwarmIDRegistrationEvent evt) {
-        SwarmIDRegistrationAcknowledgementEvent ack = new SwarmIDRegistrationAcknowledgementEvent(this.ctx.channel(),
-                                                                                                  localSwarmID);
-        evt.getChannel().pipeline().fireUserEventTriggered(ack);
-    }
-
     private void setCollectorAddress(ChannelHandlerContext ctx, SetCollectorAddressMessage setCollectorAddressMessage) {
         // We only support tcp/udp yet
         if (!(setCollectorAddressMessage.getCollectorAddress() instanceof InetSocketAddress)) {
@@ -120,6 +123,7 @@ public final class SwarmIDRegistrationHandler extends ChannelHandlerAdapter {
            .addListener(fut -> {
                if (fut.isSuccess()) {
                    // Let handler chain know, that we have acquired our swarm id
+                   topologyManager.join(localSwarmID);
                    fireSwarmIDAcquired();
                    broadcastSwarmIDRegistered();
                }
@@ -127,46 +131,38 @@ public final class SwarmIDRegistrationHandler extends ChannelHandlerAdapter {
            .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
     }
 
-    private void handleSwarmIDRegistrationAcknowledgementEvent(SwarmIDRegistrationAcknowledgementEvent evt) {
-        updateNeighboursMessage.getAddNeighbours().add(evt.getSwarmID());
-    }
-
-    private void handleSwarmIDRegistrationEvent(SwarmIDRegistrationEvent evt) {
-        switch (evt.getType()) {
-            case Registered:
-                updateNeighboursMessage.getAddNeighbours().add(evt.getSwarmID());
-                replySwarmIDAcknowledged(evt);
-                break;
-            case Unregistered:
-                updateNeighboursMessage.getAddNeighbours().remove(evt.getSwarmID());
-                updateNeighboursMessage.getRemoveNeighbours().add(evt.getSwarmID());
-                break;
-        }
-    }
-
     private void handleUpdateNeighboursEvent(UpdateNeighboursEvent evt) {
         updateNeighbours();
+        updateClusterAssignment();
         scheduleFireUpdateNeighbours();
     }
 
-    private void updateNeighbours() {
+    private void updateClusterAssignment() {
+        // Only tiered topologies have cluster heads
+        if (localSwarmID == null || topologyManager.getMode() != TopologyManager.Mode.Tiered) {
+            return;
+        }
 
-        // We are not ready to participate yet
-        if (localSwarmID == null) {
+        SwarmID head = topologyManager.getHead(localSwarmID);
+        if (head == null) {
             return;
         }
 
-        // No updates, skip this update
-        if (updateNeighboursMessage.isEmpty()) {
+        // Nothing changed, skip this update
+        ClusterAssignmentMessage clusterAssignmentMessage =
+                new ClusterAssignmentMessage(head, topologyManager.getHeadNeighbours(localSwarmID));
+        if (clusterAssignmentMessage.equals(announcedClusterAssignment)) {
             return;
         }
 
-        // Make sure, the message is valid
-        if (!updateNeighboursMessage.isDistinct()) {
-            // Send to channel
-            ctx.channel()
-               .pipeline()
-               .fireExceptionCaught(new IllegalStateException("!updateNeighboursMessage.isDistinct()"));
+        ctx.writeAndFlush(clusterAssignmentMessage).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+        announcedClusterAssignment = clusterAssignmentMessage;
+    }
+
+    private void updateNeighbours() {
+
+        // We are not ready to participate yet
+        if (localSwarmID == null) {
             return;
         }
 
@@ -175,6 +171,21 @@ public final class SwarmIDRegistrationHandler extends ChannelHandlerAdapter {
             return;
         }
 
+        // Compute the changes since the last update
+        Set<SwarmID> neighbours = topologyManager.getNeighbours(localSwarmID);
+        UpdateNeighboursMessage updateNeighboursMessage = new UpdateNeighboursMessage();
+        neighbours.stream()
+                  .filter(n -> !announcedNeighbours.contains(n))
+                  .forEach(updateNeighboursMessage.getAddNeighbours()::add);
+        announcedNeighbours.stream()
+                           .filter(n -> !neighbours.contains(n))
+                           .forEach(updateNeighboursMessage.getRemoveNeighbours()::add);
+
+        // No updates, skip this update
+        if (updateNeighboursMessage.isEmpty()) {
+            return;
+        }
+
         // Prepare promise
         updateChannelPromise = ctx.newPromise();
 
@@ -183,15 +194,19 @@ public final class SwarmIDRegistrationHandler extends ChannelHandlerAdapter {
            .addListener(fut -> updateChannelPromise = null)
            .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
 
-        // Create a new update message
-        updateNeighboursMessage = new UpdateNeighboursMessage();
+        // A failed update closes the channel, so the remote knows these neighbours now
+        announcedNeighbours = new HashSet<>(neighbours);
     }
 
-    public SwarmIDRegistrationHandler(ChannelGroup channels, SwarmIDManager swarmIDManager) {
+    public SwarmIDRegistrationHandler(ChannelGroup channels,
+                                      SwarmIDManager swarmIDManager,
+                                      TopologyManager topologyManager) {
         Objects.requireNonNull(channels);
         Objects.requireNonNull(swarmIDManager);
+        Objects.requireNonNull(topologyManager);
         this.channels = channels;
         this.swarmIDManager = swarmIDManager;
+        this.topologyManager = topologyManager;
     }
 
     @Override
@@ -202,23 +217,13 @@ public final class SwarmIDRegistrationHandler extends ChannelHandlerAdapter {
                 return;
             }
 
-            // Cast
-            SwarmIDRegistrationEvent swarmIDRegistrationEvent = (SwarmIDRegistrationEvent) evt;
-
             // Ignore ping-back passages
-            if (localSwarmID.equals(swarmIDRegistrationEvent.getSwarmID())) {
+            if (localSwarmID.equals(((SwarmIDRegistrationEvent) evt).getSwarmID())) {
                 return;
             }
 
-            // Handle the registration event
-            handleSwarmIDRegistrationEvent((SwarmIDRegistrationEvent) evt);
-
             super.userEventTriggered(ctx, evt);
-        }
-        if (evt instanceof SwarmIDRegistrationAcknowledgementEvent) {
-            handleSwarmIDRegistrationAcknowledgementEvent((SwarmIDRegistrationAcknowledgementEvent) evt);
-        }
-        if (evt instanceof UpdateNeighboursEvent) {
+        } else if (evt instanceof UpdateNeighboursEvent) {
             handleUpdateNeighboursEvent((UpdateNeighboursEvent) evt);
         } else {
             super.userEventTriggered(ctx, evt);
@@ -235,6 +240,7 @@ public final class SwarmIDRegistrationHandler extends ChannelHandlerAdapter {
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
         if (localSwarmID != null) {
+            topologyManager.leave(localSwarmID);
             swarmIDManager.unregister(localSwarmID);
             broadcastSwarmIDUnregistered();
         }
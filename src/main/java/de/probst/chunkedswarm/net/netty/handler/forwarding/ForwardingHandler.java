@@ -4,19 +4,39 @@ import de.probst.chunkedswarm.net.netty.handler.connection.event.ConnectionChang
 import de.probst.chunkedswarm.net.netty.handler.connection.event.ConnectionEvent;
 import de.probst.chunkedswarm.net.netty.handler.forwarding.event.ForwardingCompletedEvent;
 import de.probst.chunkedswarm.net.netty.handler.push.message.ChunkPushMessage;
+import de.probst.chunkedswarm.net.netty.handler.push.message.SupersessionMessage;
+import de.probst.chunkedswarm.net.netty.handler.tier.event.ClusterAssignmentEvent;
 import de.probst.chunkedswarm.util.SwarmID;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerAdapter;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.ReferenceCountUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
+ * Pushed chunks are forwarded to all outbound channels.
+ * <p>
+ * In a tiered topology, cluster heads forward the chunks of the distributor
+ * to the other heads only and members forward the chunks of their head
+ * to the other members only.
+ * <p>
+ * Forwardings of blocks, which the distributor superseded, are cancelled.
+ * <p>
+ * Handler listens to:
+ * - ConnectionEvent
+ * - ClusterAssignmentEvent
+ *
  * @author Christopher Probst <christopher.probst@hhu.de>
  * @version 1.0, 21.08.15
  */
@@ -33,6 +53,12 @@ public final class ForwardingHandler extends ChannelHandlerAdapter {
     // Latest known engaged outbound channels
     private Map<SwarmID, Channel> engagedOutboundChannels = Collections.emptyMap();
 
+    // The latest cluster assignment, null if the topology is flat
+    private ClusterAssignmentEvent clusterAssignmentEvent;
+
+    // All blocks below this sequence are superseded
+    private int lowestSequence = Integer.MIN_VALUE;
+
     private void fireForwardingCompleted(ForwardingTracker forwardingTracker) {
         ctx.pipeline().fireUserEventTriggered(new ForwardingCompletedEvent(forwardingTracker));
     }
@@ -43,8 +69,37 @@ public final class ForwardingHandler extends ChannelHandlerAdapter {
         }
     }
 
+    private Collection<Channel> getForwardingChannels() {
+        if (clusterAssignmentEvent == null) {
+            return engagedOutboundChannels.values();
+        }
+
+        // Heads and members forward only within their own tier
+        Set<SwarmID> headNeighbours = clusterAssignmentEvent.getClusterAssignmentMessage().getHeadNeighbours();
+        SwarmID head = clusterAssignmentEvent.getClusterAssignmentMessage().getHead();
+        boolean isHead = clusterAssignmentEvent.isHead();
+        return engagedOutboundChannels.entrySet()
+                                      .stream()
+                                      .filter(e -> isHead == headNeighbours.contains(e.getKey()))
+                                      .filter(e -> !e.getKey().equals(head))
+                                      .map(Map.Entry::getValue)
+                                      .collect(Collectors.toList());
+    }
+
     private void handleChunkPushMessage(ChunkPushMessage msg) {
-        if (engagedOutboundChannels.isEmpty()) {
+        // The whole block was sent directly to this peer
+        if (msg.getBlockHeader().getChunkCount() == 1) {
+            return;
+        }
+
+        // Nobody needs superseded blocks anymore
+        if (msg.getBlockHeader().getSequence() < lowestSequence) {
+            logger.info("Dropped superseded chunk: " + msg.getChunkHeader());
+            return;
+        }
+
+        Collection<Channel> forwardingChannels = getForwardingChannels();
+        if (forwardingChannels.isEmpty()) {
             logger.info("Nothing to forward, outbound channels empty");
             return;
         }
@@ -52,8 +107,8 @@ public final class ForwardingHandler extends ChannelHandlerAdapter {
         ForwardingTracker forwardingTracker = new ForwardingTracker(this::fireForwardingCompleted,
                                                                     msg.getBlockHeader(),
                                                                     msg.getChunkHeader(),
-                                                                    msg.getChunkPayload(),
-                                                                    engagedOutboundChannels.values());
+                                                                    msg.getChunkPayload().retain(),
+                                                                    forwardingChannels);
 
         // Add the new forwarding tracker
         pendingForwardingTrackers.add(forwardingTracker);
@@ -76,13 +131,70 @@ public final class ForwardingHandler extends ChannelHandlerAdapter {
         String rate = (count - failed) + "/" + count;
         logger.info("Forwarded: " + forwardingTracker.getBlockHeader() + ", Success: " + rate);
 
+        // Cancelled writes are not retried
+        if (forwardingTracker.isCancelled()) {
+            forwardingTracker.getChunkPayload().release();
+            return;
+        }
+
         // Log failed channels
+        Set<Channel> failedChannels = new HashSet<>();
         forwardingTracker.getChannelFutureTracker().getFailedChannels().forEach((c, f) -> {
-            logger.warn("Closing channel due to partial forwardingTracker failure", f.cause());
+            // Expired and timed out writes do not break the channel, slow peers are demoted by the distributor
+            if (f.cause() instanceof CancellationException || f.cause() instanceof TimeoutException) {
+                logger.warn("Expired write: " + forwardingTracker.getBlockHeader() + ", Channel: " + c);
+                return;
+            }
+
+            logger.warn("Failed write: " + forwardingTracker.getBlockHeader() + ", Channel: " + c, f.cause());
+            failedChannels.add(c);
+        });
+
+        try {
+            retryFailedChannels(forwardingTracker, failedChannels);
+        } finally {
+            forwardingTracker.getChunkPayload().release();
+        }
+    }
+
+    private void retryFailedChannels(ForwardingTracker forwardingTracker, Set<Channel> failedChannels) {
+        if (failedChannels.isEmpty()) {
+            return;
+        }
+
+        // Retransmit the chunk, while the block duration allows it
+        ForwardingTracker retryForwardingTracker = forwardingTracker.retry(this::fireForwardingCompleted,
+                                                                           failedChannels);
+        if (retryForwardingTracker != null) {
+            pendingForwardingTrackers.add(retryForwardingTracker);
+            logger.info("Retrying forwarding: " + retryForwardingTracker.getBlockHeader() +
+                        ", Attempt: " + retryForwardingTracker.getAttempt());
+            return;
+        }
+
+        // Only persistent failures disconnect the peer
+        failedChannels.stream().filter(Channel::isActive).forEach(c -> {
+            logger.warn("Closing channel due to persistent forwardingTracker failure: " + c);
             c.close();
         });
     }
 
+    private void handleSupersessionMessage(SupersessionMessage msg) {
+        if (msg.getLowestSequence() <= lowestSequence) {
+            return;
+        }
+        lowestSequence = msg.getLowestSequence();
+
+        // Cancel the queued writes, the forwarding trackers complete afterwards
+        pendingForwardingTrackers.stream()
+                                 .filter(t -> msg.isSuperseded(t.getBlockHeader().getSequence()))
+                                 .filter(t -> !t.isCancelled())
+                                 .forEach(t -> {
+                                     logger.info("Cancelling superseded forwarding: " + t.getChunkHeader());
+                                     t.cancel();
+                                 });
+    }
+
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
         this.ctx = ctx;
@@ -93,6 +205,8 @@ public final class ForwardingHandler extends ChannelHandlerAdapter {
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
         if (evt instanceof ConnectionEvent) {
             handleConnectionEvent((ConnectionEvent) evt);
+        } else if (evt instanceof ClusterAssignmentEvent) {
+            clusterAssignmentEvent = (ClusterAssignmentEvent) evt;
         } else if (evt instanceof ForwardingCompletedEvent) {
             handleForwardingCompletedEvent((ForwardingCompletedEvent) evt);
         }
@@ -102,7 +216,13 @@ public final class ForwardingHandler extends ChannelHandlerAdapter {
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         if (msg instanceof ChunkPushMessage) {
-            handleChunkPushMessage((ChunkPushMessage) msg);
+            try {
+                handleChunkPushMessage((ChunkPushMessage) msg);
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
+        } else if (msg instanceof SupersessionMessage) {
+            handleSupersessionMessage((SupersessionMessage) msg);
         } else {
             super.channelRead(ctx, msg);
         }
@@ -1,61 +1,164 @@
 package de.probst.chunkedswarm.net.netty.handler.forwarding;
 
+import de.probst.chunkedswarm.net.netty.handler.codec.chunk.ChunkFrame;
+import de.probst.chunkedswarm.net.netty.handler.codec.chunk.ChunkMessageCodec;
 import de.probst.chunkedswarm.net.netty.handler.forwarding.message.ChunkForwardingMessage;
 import de.probst.chunkedswarm.net.netty.util.ChannelFutureTracker;
 import de.probst.chunkedswarm.net.netty.util.NettyUtil;
+import de.probst.chunkedswarm.net.netty.util.WriteDeadline;
 import de.probst.chunkedswarm.util.BlockHeader;
 import de.probst.chunkedswarm.util.ChunkHeader;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 
-import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
+ * Forwards a pushed chunk to all channels.
+ * <p>
+ * The forwarding tracker owns a reference of the chunk payload, which is
+ * released by the receiver of its completion. Failed writes on active
+ * channels can be retried with the remaining duration of the block.
+ *
  * @author Christopher Probst <christopher.probst@hhu.de>
  * @version 1.0, 22.08.15
  */
 public final class ForwardingTracker {
 
+    // The number of retries per forwarding
+    public static final int MAX_RETRIES = 2;
+
     private final BlockHeader blockHeader;
     private final ChunkHeader chunkHeader;
-    private final ByteBuffer chunkPayload;
+    private final ByteBuf chunkPayload;
     private final Collection<Channel> channels;
     private final ChannelFutureTracker channelFutureTracker;
 
-    public ForwardingTracker(Consumer<ForwardingTracker> callback,
-                             BlockHeader blockHeader,
-                             ChunkHeader chunkHeader,
-                             ByteBuffer chunkPayload,
-                             Collection<Channel> channels) {
+    // All writes share the deadline of the block
+    private final WriteDeadline writeDeadline;
+
+    // The duration, the writes are allowed to take
+    private final Duration timeout;
+
+    // The number of previous attempts
+    private final int attempt;
+
+    // Set, when the queued writes were cancelled
+    private boolean cancelled;
+
+    // The start of the forwarding
+    private final long creationTime = System.nanoTime();
+
+    private ForwardingTracker(Consumer<ForwardingTracker> callback,
+                              BlockHeader blockHeader,
+                              ChunkHeader chunkHeader,
+                              ByteBuf chunkPayload,
+                              Collection<Channel> channels,
+                              Duration timeout,
+                              int attempt) {
         Objects.requireNonNull(callback);
         Objects.requireNonNull(blockHeader);
         Objects.requireNonNull(chunkHeader);
         Objects.requireNonNull(chunkPayload);
         Objects.requireNonNull(channels);
+        Objects.requireNonNull(timeout);
         this.blockHeader = blockHeader;
         this.chunkHeader = chunkHeader;
         this.chunkPayload = chunkPayload;
         this.channels = Collections.unmodifiableCollection(channels);
+        this.timeout = timeout;
+        this.attempt = attempt;
 
         if (channels.isEmpty()) {
             throw new IllegalArgumentException("channels.isEmpty()");
         }
 
-        // Create forwarding message
-        ChunkForwardingMessage chunkForwardingMessage = new ChunkForwardingMessage(chunkHeader, chunkPayload);
+        // One deadline for all writes, removed as soon as all writes completed
+        writeDeadline = NettyUtil.newWriteDeadline(timeout);
+
+        // Encode the forwarding message only once
+        ChunkFrame chunkFrame = ChunkMessageCodec.encodeFrame(channels.iterator().next().alloc(),
+                                                              new ChunkForwardingMessage(chunkHeader,
+                                                                                         blockHeader.getHash(),
+                                                                                         chunkPayload.duplicate()
+                                                                                                     .retain()),
+                                                              blockHeader.getPriority());
 
         // Write all and start channel future tracker
-        Collection<ChannelFuture> cfs = channels.stream()
-                                                .map(c -> NettyUtil.writeAndFlushWithTimeout(c,
-                                                                                             chunkForwardingMessage,
-                                                                                             blockHeader.getDuration()))
-                                                .collect(Collectors.toList());
-        channelFutureTracker = new ChannelFutureTracker(cfs, cft -> callback.accept(this));
+        // Every write shares the frame and releases its own reference
+        Collection<ChannelFuture> cfs;
+        try {
+            cfs = channels.stream()
+                          .map(c -> writeDeadline.writeAndFlush(c, chunkFrame.retainedDuplicate()))
+                          .collect(Collectors.toList());
+        } finally {
+            chunkFrame.release();
+        }
+        channelFutureTracker = new ChannelFutureTracker(cfs, cft -> {
+            writeDeadline.cancel();
+            callback.accept(this);
+        });
+    }
+
+    /**
+     * The chunk payload is owned by this forwarding tracker.
+     */
+    public ForwardingTracker(Consumer<ForwardingTracker> callback,
+                             BlockHeader blockHeader,
+                             ChunkHeader chunkHeader,
+                             ByteBuf chunkPayload,
+                             Collection<Channel> channels) {
+        this(callback, blockHeader, chunkHeader, chunkPayload, channels, blockHeader.getDuration(), 0);
+    }
+
+    /**
+     * Only active channels are retried, the retry owns its own reference of the chunk payload.
+     *
+     * @return the forwarding tracker of the retry or null, if the failed writes can not be retried
+     */
+    public ForwardingTracker retry(Consumer<ForwardingTracker> callback, Set<Channel> failedChannels) {
+        Objects.requireNonNull(callback);
+        Objects.requireNonNull(failedChannels);
+        Duration remainingTimeout = timeout.minus(getAge());
+        if (cancelled || attempt >= MAX_RETRIES || remainingTimeout.isNegative() || remainingTimeout.isZero()) {
+            return null;
+        }
+
+        List<Channel> retryChannels = failedChannels.stream().filter(Channel::isActive).collect(Collectors.toList());
+        if (retryChannels.isEmpty()) {
+            return null;
+        }
+        return new ForwardingTracker(callback,
+                                     blockHeader,
+                                     chunkHeader,
+                                     chunkPayload.retain(),
+                                     retryChannels,
+                                     remainingTimeout,
+                                     attempt + 1);
+    }
+
+    /**
+     * Drops all queued writes of this forwarding, e.g. if the block was superseded.
+     */
+    public void cancel() {
+        cancelled = true;
+        writeDeadline.cancelQueuedWrites();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public int getAttempt() {
+        return attempt;
     }
 
     public BlockHeader getBlockHeader() {
@@ -66,7 +169,7 @@ public final class ForwardingTracker {
         return chunkHeader;
     }
 
-    public ByteBuffer getChunkPayload() {
+    public ByteBuf getChunkPayload() {
         return chunkPayload;
     }
 
@@ -78,6 +181,14 @@ public final class ForwardingTracker {
         return channelFutureTracker;
     }
 
+    public WriteDeadline getWriteDeadline() {
+        return writeDeadline;
+    }
+
+    public Duration getAge() {
+        return Duration.ofNanos(System.nanoTime() - creationTime);
+    }
+
     @Override
     public String toString() {
         return "ForwardingTracker{" +
@@ -86,6 +197,9 @@ public final class ForwardingTracker {
                ", chunkPayload=" + chunkPayload +
                ", channels=" + channels +
                ", channelFutureTracker=" + channelFutureTracker +
+               ", writeDeadline=" + writeDeadline +
+               ", attempt=" + attempt +
+               ", cancelled=" + cancelled +
                '}';
     }
 }
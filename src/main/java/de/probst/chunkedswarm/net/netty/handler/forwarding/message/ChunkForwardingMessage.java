@@ -1,51 +1,85 @@
 package de.probst.chunkedswarm.net.netty.handler.forwarding.message;
 
 import de.probst.chunkedswarm.util.ChunkHeader;
+import de.probst.chunkedswarm.util.Hash;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.io.Serializable;
-import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
+ * A forwarded chunk carries the hash of its block, because
+ * different push groups split the same sequence differently.
+ *
  * @author Christopher Probst <christopher.probst@hhu.de>
  * @version 1.0, 23.08.15
  */
-public final class ChunkForwardingMessage implements Serializable {
+public final class ChunkForwardingMessage implements ReferenceCounted {
 
     private final ChunkHeader chunkHeader;
-    private transient ByteBuffer chunkPayload;
-
-    private void writeObject(ObjectOutputStream s)
-            throws java.io.IOException {
-        s.defaultWriteObject();
-        byte[] copy = new byte[chunkPayload.remaining()];
-        chunkPayload.duplicate().get(copy);
-        s.writeObject(copy);
-    }
-
-    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
-        s.defaultReadObject();
-        chunkPayload = ByteBuffer.wrap((byte[]) s.readObject());
-    }
+    private final Hash blockHash;
+    private final ByteBuf chunkPayload;
 
-    public ChunkForwardingMessage(ChunkHeader chunkHeader, ByteBuffer chunkPayload) {
+    public ChunkForwardingMessage(ChunkHeader chunkHeader, Hash blockHash, ByteBuf chunkPayload) {
         Objects.requireNonNull(chunkHeader);
+        Objects.requireNonNull(blockHash);
         Objects.requireNonNull(chunkPayload);
         this.chunkHeader = chunkHeader;
-        this.chunkPayload = chunkPayload.duplicate();
+        this.blockHash = blockHash;
+        this.chunkPayload = chunkPayload;
     }
 
     public ChunkHeader getChunkHeader() {
         return chunkHeader;
     }
 
-    public ByteBuffer getChunkPayload() {
+    public Hash getBlockHash() {
+        return blockHash;
+    }
+
+    public ByteBuf getChunkPayload() {
         return chunkPayload;
     }
 
+    @Override
+    public int refCnt() {
+        return chunkPayload.refCnt();
+    }
+
+    @Override
+    public ChunkForwardingMessage retain() {
+        chunkPayload.retain();
+        return this;
+    }
+
+    @Override
+    public ChunkForwardingMessage retain(int increment) {
+        chunkPayload.retain(increment);
+        return this;
+    }
+
+    @Override
+    public ChunkForwardingMessage touch() {
+        chunkPayload.touch();
+        return this;
+    }
+
+    @Override
+    public ChunkForwardingMessage touch(Object hint) {
+        chunkPayload.touch(hint);
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return chunkPayload.release();
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return chunkPayload.release(decrement);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -54,6 +88,7 @@ public final class ChunkForwardingMessage implements Serializable {
         ChunkForwardingMessage that = (ChunkForwardingMessage) o;
 
         if (!chunkHeader.equals(that.chunkHeader)) return false;
+        if (!blockHash.equals(that.blockHash)) return false;
         return chunkPayload.equals(that.chunkPayload);
 
     }
@@ -61,6 +96,7 @@ public final class ChunkForwardingMessage implements Serializable {
     @Override
     public int hashCode() {
         int result = chunkHeader.hashCode();
+        result = 31 * result + blockHash.hashCode();
         result = 31 * result + chunkPayload.hashCode();
         return result;
     }
@@ -69,6 +105,7 @@ public final class ChunkForwardingMessage implements Serializable {
     public String toString() {
         return "ChunkForwardingMessage{" +
                "chunkHeader=" + chunkHeader +
+               ", blockHash=" + blockHash +
                ", chunkPayload=" + chunkPayload +
                '}';
     }
@@ -0,0 +1,127 @@
+package de.probst.chunkedswarm.net.netty.handler.latency;
+
+import de.probst.chunkedswarm.net.netty.handler.discovery.event.SwarmIDAcquisitionEvent;
+import de.probst.chunkedswarm.net.netty.handler.latency.message.LatencyProbeMessage;
+import de.probst.chunkedswarm.net.netty.handler.latency.message.LatencyReportMessage;
+import de.probst.chunkedswarm.util.SwarmID;
+import de.probst.chunkedswarm.util.TopologyManager;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Asks the remote to probe its neighbours and candidate clusters and
+ * passes the reported round trip times to the topology manager.
+ * <p>
+ * Probes, which are not reported in time, failed silently and are sent again.
+ * <p>
+ * Handler listens to:
+ * - SwarmIDAcquisitionEvent
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 09.09.15
+ */
+public final class LatencyHandler extends ChannelHandlerAdapter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyHandler.class);
+
+    public static final long PROBE_INTERVAL_MS = 2000;
+
+    // Unreported probes are sent again after this duration
+    public static final long PROBE_EXPIRATION_MS = 2 * (PROBE_INTERVAL_MS + LatencyProbeHandler.PROBE_TIMEOUT_MS);
+
+    // The topology manager
+    private final TopologyManager topologyManager;
+
+    // The swarm ids, which were sent to the remote and not reported yet, mapped to their probe time
+    private final Map<SwarmID, Long> pendingProbes = new HashMap<>();
+
+    // The channel handler context
+    private ChannelHandlerContext ctx;
+
+    // The local swarm id
+    private SwarmID localSwarmID;
+
+    private void scheduleProbe() {
+        ctx.executor().schedule(this::probe, PROBE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void probe() {
+        if (!ctx.channel().isActive()) {
+            return;
+        }
+        scheduleProbe();
+
+        // We are not ready to participate yet
+        if (localSwarmID == null) {
+            return;
+        }
+
+        // Measured and departed swarm ids are no candidates anymore
+        Set<SwarmID> probeCandidates = topologyManager.getProbeCandidates(localSwarmID);
+        long now = System.nanoTime();
+        pendingProbes.keySet().retainAll(probeCandidates);
+        pendingProbes.values().removeIf(t -> now - t >= TimeUnit.MILLISECONDS.toNanos(PROBE_EXPIRATION_MS));
+
+        // Every swarm id is probed once, until its probe expires
+        Set<SwarmID> candidates = probeCandidates.stream()
+                                                 .filter(c -> pendingProbes.putIfAbsent(c, now) == null)
+                                                 .collect(Collectors.toSet());
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        ctx.writeAndFlush(new LatencyProbeMessage(candidates)).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+    }
+
+    private void handleLatencyReportMessage(LatencyReportMessage msg) {
+        // Reports before the registration can not be assigned
+        if (localSwarmID == null) {
+            return;
+        }
+        pendingProbes.keySet().removeAll(msg.getRtts().keySet());
+
+        // The neighbour updates announce the new cluster
+        if (topologyManager.updateRtts(localSwarmID, msg.getRtts())) {
+            logger.info("Relocated closer: " + localSwarmID + ", " + topologyManager);
+        }
+    }
+
+    public LatencyHandler(TopologyManager topologyManager) {
+        Objects.requireNonNull(topologyManager);
+        this.topologyManager = topologyManager;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        scheduleProbe();
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof SwarmIDAcquisitionEvent) {
+            localSwarmID = ((SwarmIDAcquisitionEvent) evt).getSwarmID();
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof LatencyReportMessage) {
+            handleLatencyReportMessage((LatencyReportMessage) msg);
+        } else {
+            super.channelRead(ctx, msg);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package de.probst.chunkedswarm.net.netty.handler.latency;
+
+import de.probst.chunkedswarm.net.netty.handler.latency.message.LatencyProbeMessage;
+import de.probst.chunkedswarm.net.netty.handler.latency.message.LatencyReportMessage;
+import de.probst.chunkedswarm.util.SwarmID;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Measures the round trip time to the requested swarm ids and reports them to the distributor.
+ * <p>
+ * The round trip time is the duration of the tcp handshake, the probe
+ * connection is closed right after it is established.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 09.09.15
+ */
+public final class LatencyProbeHandler extends ChannelHandlerAdapter {
+
+    public static final int PROBE_TIMEOUT_MS = 2000;
+
+    // The event loop group of all probe connections
+    private final EventLoopGroup eventLoopGroup;
+
+    // The bootstrap to create probe connections
+    private final Bootstrap bootstrap = new Bootstrap();
+
+    // The round trip times, which are not reported yet
+    private final Map<SwarmID, Duration> measuredRtts = new HashMap<>();
+
+    // The channel handler context
+    private ChannelHandlerContext ctx;
+
+    // The number of pending probe connections
+    private int pendingProbes;
+
+    private void probe(SwarmID swarmID) {
+        long startTime = System.nanoTime();
+        pendingProbes++;
+
+        bootstrap.connect(swarmID.getAddress()).addListener((ChannelFutureListener) fut -> {
+            Duration rtt = Duration.ofNanos(System.nanoTime() - startTime);
+            fut.channel().close();
+
+            // Continue on the event loop of this handler
+            ctx.executor().execute(() -> completeProbe(swarmID, fut.isSuccess() ? rtt : null));
+        });
+    }
+
+    private void completeProbe(SwarmID swarmID, Duration rtt) {
+        // Unreachable swarm ids are simply not reported
+        if (rtt != null) {
+            measuredRtts.put(swarmID, rtt);
+        }
+
+        // Report all round trip times at once
+        if (--pendingProbes > 0 || measuredRtts.isEmpty()) {
+            return;
+        }
+
+        ctx.writeAndFlush(new LatencyReportMessage(measuredRtts)).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+        measuredRtts.clear();
+    }
+
+    public LatencyProbeHandler(EventLoopGroup eventLoopGroup) {
+        Objects.requireNonNull(eventLoopGroup);
+        this.eventLoopGroup = eventLoopGroup;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        bootstrap.group(eventLoopGroup)
+                 .channel(NioSocketChannel.class)
+                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, PROBE_TIMEOUT_MS)
+                 .handler(new ChannelInitializer<Channel>() {
+                     @Override
+                     protected void initChannel(Channel ch) throws Exception {
+                         // Probe connections never exchange messages
+                     }
+                 });
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof LatencyProbeMessage) {
+            ((LatencyProbeMessage) msg).getCandidates().forEach(this::probe);
+        } else {
+            super.channelRead(ctx, msg);
+        }
+    }
+}
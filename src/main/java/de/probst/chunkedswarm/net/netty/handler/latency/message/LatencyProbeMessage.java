@@ -0,0 +1,50 @@
+package de.probst.chunkedswarm.net.netty.handler.latency.message;
+
+import de.probst.chunkedswarm.util.SwarmID;
+
+import java.io.Serializable;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 09.09.15
+ */
+public final class LatencyProbeMessage implements Serializable {
+
+    // The swarm ids, whose round trip time should be measured
+    private final Set<SwarmID> candidates;
+
+    public LatencyProbeMessage(Set<SwarmID> candidates) {
+        Objects.requireNonNull(candidates);
+        this.candidates = new LinkedHashSet<>(candidates);
+    }
+
+    public Set<SwarmID> getCandidates() {
+        return candidates;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LatencyProbeMessage that = (LatencyProbeMessage) o;
+
+        return candidates.equals(that.candidates);
+
+    }
+
+    @Override
+    public int hashCode() {
+        return candidates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyProbeMessage{" +
+               "candidates=" + candidates +
+               '}';
+    }
+}
@@ -0,0 +1,51 @@
+package de.probst.chunkedswarm.net.netty.handler.latency.message;
+
+import de.probst.chunkedswarm.util.SwarmID;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 09.09.15
+ */
+public final class LatencyReportMessage implements Serializable {
+
+    // The measured round trip times
+    private final Map<SwarmID, Duration> rtts;
+
+    public LatencyReportMessage(Map<SwarmID, Duration> rtts) {
+        Objects.requireNonNull(rtts);
+        this.rtts = new HashMap<>(rtts);
+    }
+
+    public Map<SwarmID, Duration> getRtts() {
+        return rtts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LatencyReportMessage that = (LatencyReportMessage) o;
+
+        return rtts.equals(that.rtts);
+
+    }
+
+    @Override
+    public int hashCode() {
+        return rtts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyReportMessage{" +
+               "rtts=" + rtts +
+               '}';
+    }
+}
@@ -1,53 +1,163 @@
 package de.probst.chunkedswarm.net.netty.handler.push;
 
+import de.probst.chunkedswarm.net.netty.handler.capacity.event.UploadCapacityEvent;
 import de.probst.chunkedswarm.net.netty.handler.connection.event.AcknowledgedNeighboursEvent;
 import de.probst.chunkedswarm.net.netty.handler.push.event.PushCompletedEvent;
 import de.probst.chunkedswarm.net.netty.handler.push.event.PushRequestEvent;
+import de.probst.chunkedswarm.net.netty.handler.push.message.SupersessionMessage;
 import de.probst.chunkedswarm.util.BlockHeader;
-import de.probst.chunkedswarm.util.Graph;
+import de.probst.chunkedswarm.util.HashAlgorithm;
+import de.probst.chunkedswarm.util.MeshGraph;
 import de.probst.chunkedswarm.util.NodeGroup;
 import de.probst.chunkedswarm.util.NodeGroups;
+import de.probst.chunkedswarm.util.PeerHealthTracker;
+import de.probst.chunkedswarm.util.ReedSolomon;
+import de.probst.chunkedswarm.util.SwarmID;
+import de.probst.chunkedswarm.util.TopologyManager;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerAdapter;
 import io.netty.channel.ChannelHandlerContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
-import java.security.NoSuchAlgorithmException;
+import java.nio.channels.ClosedChannelException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.PrimitiveIterator;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
+ * Every mesh gets its own chunked push, nodes in no mesh get the whole block.
+ * The upload per block is capped by the egress factor, chunked groups are preferred.
+ * The scaled egress factor grows with the number of groups, so every healthy node
+ * gets the block, no matter how many clusters there are. Only demoted nodes are capped.
+ * <p>
+ * In a tiered topology, only the head clusters are pushed to. The cluster
+ * heads push to their own clusters.
+ * <p>
+ * Slow peers are demoted out of the chunked groups, so they do not hold up
+ * their mesh. They get the whole block with the lowest priority instead,
+ * until their health recovers. Their connections stay open.
+ * <p>
+ * If the sequence lag is limited, the latest block wins: A push request for
+ * sequence N supersedes all blocks below N - maxSequenceLag. Their queued requests
+ * are dropped, their queued writes are cancelled and the forwarders are told to
+ * drop them, too.
+ * <p>
  * Handler sends to owner channel:
  * - PushCompletedEvent
  * <p>
  * Handler listens to:
  * - PushRequestEvent
+ * - UploadCapacityEvent
  *
  * @author Christopher Probst <christopher.probst@hhu.de>
  * @version 1.0, 18.08.15
  */
 public final class PushHandler extends ChannelHandlerAdapter {
 
+    /**
+     * Determines, how a block is split into the chunks of a push group.
+     */
+    public enum ChunkLayout {
+        // Every peer gets the same chunk size
+        Uniform,
+
+        // Every peer gets a chunk size proportional to its reported upload capacity
+        BandwidthWeighted
+    }
+
     private static final Logger logger = LoggerFactory.getLogger(PushHandler.class);
 
+    // Blocks are never superseded
+    public static final int UNLIMITED_SEQUENCE_LAG = Integer.MAX_VALUE;
+
+    // The egress cap grows with the number of groups
+    public static final double SCALED_EGRESS_FACTOR = 0;
+
+    // The lowest egress cap, if the cap is scaled
+    public static final double MIN_SCALED_EGRESS_FACTOR = 8;
+
     // The master uuid, so nobody can choose this uuid
     private final UUID masterUUID;
 
+    // Used to hash chunks
+    private final HashAlgorithm hashAlgorithm;
+
+    // Used to compute block headers off the event loop
+    private final Executor hashExecutor;
+
+    // Used to split blocks into chunks
+    private final ChunkLayout chunkLayout;
+
+    // Used to find the head clusters in a tiered topology
+    private final TopologyManager topologyManager;
+
+    // The reported upload capacities of all peers in bytes per second
+    private final Map<UUID, Long> uploadCapacities = new HashMap<>();
+
     // Used to store all incoming events
     private final Map<UUID, AcknowledgedNeighboursEvent> acknowledgedNeighbours = new HashMap<>();
 
-    // Used to track pending pushes
-    private final Set<PushTracker> pendingPushTrackers = new LinkedHashSet<>();
+    // Used to find the peer of a channel
+    private final Map<Channel, UUID> uuidsByChannel = new HashMap<>();
+
+    // The health of all peers, scored by their push writes
+    private final PeerHealthTracker<UUID> peerHealthTracker = new PeerHealthTracker<>();
+
+    // The meshes are maintained with every incoming event
+    private final MeshGraph<UUID> meshGraph = new MeshGraph<>();
+
+    // The disjoint chunked and direct groups, null if the meshes changed
+    private List<NodeGroup<UUID>> candidateGroups;
+
+    // The maximum number of blocks in flight
+    private final int maxInFlightBlocks;
+
+    // The maximum number of bytes in flight
+    private final long maxInFlightBytes;
+
+    // The maximum upload per block as a multiple of the block size or scaled
+    private final double maxEgressFactor;
+
+    // Used to queue push requests beyond the in-flight window
+    private final Queue<PushRequestEvent> queuedPushRequests = new ArrayDeque<>();
+
+    // Push requests in flight, mapped to the number of their pending push groups
+    private final Map<PushRequestEvent, Integer> inFlightPushRequests = new IdentityHashMap<>();
+
+    // The payload bytes of all push requests in flight
+    private long inFlightBytes;
+
+    // Used to track pending pushes and their push requests
+    private final Map<PushTracker, PushRequestEvent> pendingPushTrackers = new LinkedHashMap<>();
+
+    // Blocks further behind the latest requested sequence are superseded
+    private final int maxSequenceLag;
+
+    // All blocks below this sequence are superseded
+    private int lowestSequence = Integer.MIN_VALUE;
 
     // The context
     private ChannelHandlerContext ctx;
@@ -56,64 +166,166 @@ public final class PushHandler extends ChannelHandlerAdapter {
         ctx.pipeline().fireUserEventTriggered(new PushCompletedEvent(pushTracker));
     }
 
-    private NodeGroups<UUID> computeMeshes() {
-        // Create graphs to compute the meshes
-        Graph<UUID> outboundGraph = new Graph<>();
-        Graph<UUID> inboundGraph = new Graph<>();
+    private double computeEgressFactor(PushRequestEvent evt, int groupSize) {
+        // Blocks smaller than the group are sent as a whole to every peer
+        if (evt.getPayload().remaining() < groupSize) {
+            return groupSize;
+        }
+
+        // Chunked groups upload each data chunk once plus the parity chunks
+        return (double) groupSize / (groupSize - computeParityChunkCount(evt, groupSize));
+    }
+
+    private List<NodeGroup<UUID>> splitIntoLinkedGroups(Set<SwarmID> cluster) {
+        // Head clusters are fully connected, until some connections are not acknowledged yet
+        List<NodeGroup<UUID>> linkedGroups = new ArrayList<>();
+        for (SwarmID swarmID : cluster) {
+            UUID uuid = swarmID.getUUID();
+            if (!acknowledgedNeighbours.containsKey(uuid) || peerHealthTracker.isDemoted(uuid)) {
+                continue;
+            }
+
+            NodeGroup<UUID> linkedGroup = linkedGroups.stream()
+                                                      .filter(g -> g.getNodes()
+                                                                    .stream()
+                                                                    .allMatch(n -> meshGraph.isLinked(n, uuid)))
+                                                      .findFirst()
+                                                      .orElse(null);
+            if (linkedGroup == null) {
+                linkedGroup = new NodeGroup<>(new HashSet<>());
+                linkedGroups.add(linkedGroup);
+            }
+            linkedGroup.getNodes().add(uuid);
+        }
+        return linkedGroups;
+    }
 
-        // The master node groups
-        NodeGroup<UUID> masterOutboundNodeGroup = new NodeGroup<>();
-        NodeGroup<UUID> masterInboundNodeGroup = new NodeGroup<>();
+    private List<NodeGroup<UUID>> getDemotedGroups(Set<UUID> nodes) {
+        return peerHealthTracker.getDemotedPeers()
+                                .stream()
+                                .filter(nodes::contains)
+                                .filter(acknowledgedNeighbours::containsKey)
+                                .map(uuid -> new NodeGroup<>(Collections.singleton(uuid)))
+                                .collect(Collectors.toList());
+    }
 
-        // Create node groups for each node
-        acknowledgedNeighbours.values().forEach(evt -> {
-            NodeGroup<UUID> outboundNodeGroup = new NodeGroup<>();
-            NodeGroup<UUID> inboundNodeGroup = new NodeGroup<>();
+    private List<NodeGroup<UUID>> getTieredCandidateGroups() {
+        List<NodeGroup<UUID>> linkedGroups = topologyManager.getHeadClusters()
+                                                            .stream()
+                                                            .flatMap(c -> splitIntoLinkedGroups(c).stream())
+                                                            .collect(Collectors.toList());
 
-            // Add all acknowledged neighbours into group
-            outboundNodeGroup.getNodes().addAll(evt.getAcknowledgedOutboundNeighbours());
-            inboundNodeGroup.getNodes().addAll(evt.getAcknowledgedInboundNeighbours());
+        // Chunked groups reach the most nodes per uploaded byte, so they are preferred
+        List<NodeGroup<UUID>> tieredCandidateGroups = new ArrayList<>(linkedGroups);
+        tieredCandidateGroups.sort(Comparator.comparingInt((NodeGroup<UUID> g) -> g.getNodes().size()).reversed());
 
-            // Of course, each node is connected with the master
-            outboundNodeGroup.getNodes().add(masterUUID);
-            inboundNodeGroup.getNodes().add(masterUUID);
+        // Demoted heads come last
+        List<NodeGroup<UUID>> demotedGroups = getDemotedGroups(topologyManager.getHeadClusters()
+                                                                             .stream()
+                                                                             .flatMap(Set::stream)
+                                                                             .map(SwarmID::getUUID)
+                                                                             .collect(Collectors.toSet()));
+        tieredCandidateGroups.addAll(demotedGroups);
 
-            // The master is connected with this node
-            masterOutboundNodeGroup.getNodes().add(evt.getLocalSwarmID().getUUID());
-            masterInboundNodeGroup.getNodes().add(evt.getLocalSwarmID().getUUID());
+        logger.info("Head groups: " + tieredCandidateGroups.size() + ", Demoted nodes: " + demotedGroups.size());
 
-            // Put node groups into graphs
-            outboundGraph.getNodes().put(evt.getLocalSwarmID().getUUID(), outboundNodeGroup);
-            inboundGraph.getNodes().put(evt.getLocalSwarmID().getUUID(), inboundNodeGroup);
-        });
+        return tieredCandidateGroups;
+    }
 
-        // Put the view of the master into the graphs
-        outboundGraph.getNodes().put(masterUUID, masterOutboundNodeGroup);
-        inboundGraph.getNodes().put(masterUUID, masterInboundNodeGroup);
+    private List<NodeGroup<UUID>> getCandidateGroups() {
+        if (candidateGroups != null) {
+            return candidateGroups;
+        }
 
-        logger.info("Inbound graph size: " +
-                    inboundGraph.getNodes().size() +
-                    ", Outbound graph size: " +
-                    outboundGraph.getNodes().size());
+        // Members get the blocks from their heads
+        if (topologyManager.getMode() == TopologyManager.Mode.Tiered) {
+            return candidateGroups = getTieredCandidateGroups();
+        }
 
-        // Compute the meshes
-        return outboundGraph.findMeshes(masterUUID, inboundGraph);
+        // Meshes might overlap, but every peer accepts only one block header per sequence
+        // Every subset of a mesh is still a mesh, so simply remove already assigned and demoted nodes
+        Set<UUID> assignedNodes = new HashSet<>(peerHealthTracker.getDemotedPeers());
+        List<NodeGroup<UUID>> chunkedGroups = new ArrayList<>();
+        for (NodeGroup<UUID> mesh : meshGraph.getMeshes().getGroups()) {
+            NodeGroup<UUID> group = new NodeGroup<>(new HashSet<>(mesh.getNodes()));
+            group.getNodes().removeAll(assignedNodes);
+            if (group.getNodes().size() > 1) {
+                chunkedGroups.add(group);
+                assignedNodes.addAll(group.getNodes());
+            }
+        }
+        chunkedGroups.sort(Comparator.comparingInt((NodeGroup<UUID> g) -> g.getNodes().size()).reversed());
+
+        // Nodes in no mesh get the whole block directly
+        List<NodeGroup<UUID>> directGroups = acknowledgedNeighbours.keySet()
+                                                                   .stream()
+                                                                   .filter(uuid -> !assignedNodes.contains(uuid))
+                                                                   .map(uuid -> new NodeGroup<>(
+                                                                           Collections.singleton(uuid)))
+                                                                   .collect(Collectors.toList());
+
+        // Demoted nodes come last
+        List<NodeGroup<UUID>> demotedGroups = getDemotedGroups(acknowledgedNeighbours.keySet());
+
+        logger.info("Chunked groups: " + chunkedGroups.size() +
+                    ", Direct nodes: " + directGroups.size() +
+                    ", Demoted nodes: " + demotedGroups.size());
+
+        // Chunked groups reach the most nodes per uploaded byte, so they are preferred
+        candidateGroups = new ArrayList<>(chunkedGroups);
+        candidateGroups.addAll(directGroups);
+        candidateGroups.addAll(demotedGroups);
+        return candidateGroups;
     }
 
-    private NodeGroups<UUID> determinePushGroups() {
+    private boolean isDemotedGroup(NodeGroup<UUID> group) {
+        return group.getNodes().size() == 1 && peerHealthTracker.isDemoted(group.getNodes().iterator().next());
+    }
 
-        // At first, compute all meshes
-        // Default policy takes just the biggest mesh
-        NodeGroups<UUID> allMeshes = computeMeshes();
+    private double computeMaxEgressFactor(PushRequestEvent evt, List<NodeGroup<UUID>> groups) {
+        if (maxEgressFactor != SCALED_EGRESS_FACTOR) {
+            return maxEgressFactor;
+        }
 
-        // Empty ? Return directly...
-        if (allMeshes.getGroups().isEmpty()) {
-            return allMeshes;
+        // A fixed cap reaches only a fixed number of clusters, so reach every healthy group once
+        double healthyEgressFactor = groups.stream()
+                                           .filter(g -> !isDemotedGroup(g))
+                                           .mapToDouble(g -> computeEgressFactor(evt, g.getNodes().size()))
+                                           .sum();
+        return Math.max(MIN_SCALED_EGRESS_FACTOR, healthyEgressFactor);
+    }
+
+    private NodeGroups<UUID> determinePushGroups(PushRequestEvent evt) {
+        // Direct sends only get the egress, which is left after the chunked groups
+        NodeGroups<UUID> pushGroups = new NodeGroups<>();
+        List<NodeGroup<UUID>> groups = getCandidateGroups();
+        double egressCap = computeMaxEgressFactor(evt, groups);
+        double egressFactor = 0;
+        int skippedNodes = 0;
+        for (NodeGroup<UUID> group : groups) {
+            double groupEgressFactor = computeEgressFactor(evt, group.getNodes().size());
+            if (egressFactor + groupEgressFactor <= egressCap) {
+                pushGroups.getGroups().add(group);
+                egressFactor += groupEgressFactor;
+            } else {
+                skippedNodes += group.getNodes().size();
+
+                // Demoted peers without writes can not prove their recovery otherwise
+                group.getNodes()
+                     .stream()
+                     .filter(peerHealthTracker::isDemoted)
+                     .collect(Collectors.toList())
+                     .forEach(uuid -> updateHealth(uuid, peerHealthTracker.recordSkipped(uuid)));
+            }
         }
 
-        // Just consider the biggest mesh by default
-        // TODO: Maybe multiple groups ?
-        return new NodeGroups<>(Collections.singletonList(allMeshes.getGroups().get(0)));
+        if (skippedNodes > 0) {
+            logger.warn("Egress cap reached, skipped " + skippedNodes + " nodes of sequence: " + evt.getSequence());
+        }
+
+        logger.info("Push groups: " + pushGroups.getGroups().size() + ", Egress factor: " + egressFactor);
+
+        return pushGroups;
     }
 
     private Map<Channel, Integer> nodeGroupToChunkMap(NodeGroup<UUID> nodeGroup) {
@@ -125,26 +337,171 @@ public final class PushHandler extends ChannelHandlerAdapter {
                         .collect(Collectors.toMap(c -> c, c -> idxs.next()));
     }
 
+    private int computeParityChunkCount(PushRequestEvent evt, int chunkCount) {
+        // The erasure code is limited to 256 chunks and needs at least one data chunk
+        if (evt.getParityRatio() == 0 || chunkCount < 2 || chunkCount > ReedSolomon.MAX_SHARD_COUNT) {
+            return 0;
+        }
+        return (int) Math.min(chunkCount - 1, Math.round(chunkCount * evt.getParityRatio()));
+    }
+
+    private static void encodeParityChunks(ByteBuffer payload,
+                                           ByteBuffer parity,
+                                           List<Integer> chunkSizes,
+                                           int dataChunkCount) {
+        // Nothing to encode
+        if (dataChunkCount == chunkSizes.size()) {
+            return;
+        }
+
+        List<ByteBuffer> dataChunks = new ArrayList<>(dataChunkCount);
+        List<ByteBuffer> parityChunks = new ArrayList<>(chunkSizes.size() - dataChunkCount);
+        int offset = 0;
+        for (int i = 0; i < chunkSizes.size(); i++) {
+            // Parity chunks start at the beginning of the parity
+            if (i == dataChunkCount) {
+                offset = 0;
+            }
+
+            ByteBuffer chunk = (i < dataChunkCount ? payload : parity).duplicate();
+            chunk.position(chunk.position() + offset);
+            chunk.limit(chunk.position() + chunkSizes.get(i));
+            (i < dataChunkCount ? dataChunks : parityChunks).add(chunk);
+            offset += chunkSizes.get(i);
+        }
+
+        new ReedSolomon(dataChunkCount, parityChunks.size()).encode(dataChunks, parityChunks);
+    }
+
+    private List<Integer> computeChunkSizes(NodeGroup<UUID> group, int size, int chunkCount) {
+        if (chunkLayout == ChunkLayout.Uniform || chunkCount == 1) {
+            return BlockHeader.computeChunkSizes(size, chunkCount);
+        }
+
+        // Peers, which did not report yet, are assumed to be average
+        long defaultUploadCapacity = (long) uploadCapacities.values()
+                                                            .stream()
+                                                            .mapToLong(Long::longValue)
+                                                            .average()
+                                                            .orElse(1);
+
+        // The weights are ordered like the chunk map
+        List<Long> weights = group.getNodes()
+                                  .stream()
+                                  .map(uuid -> uploadCapacities.getOrDefault(uuid, defaultUploadCapacity))
+                                  .collect(Collectors.toList());
+        return BlockHeader.computeWeightedChunkSizes(size, weights);
+    }
+
     private void cancelPendingPushTrackers() {
-        // TODO: Implement
+        pendingPushTrackers.keySet().forEach(PushTracker::cancel);
+    }
+
+    private boolean isSuperseded(int sequence) {
+        return sequence < lowestSequence;
+    }
+
+    private void supersede(int sequence) {
+        if (maxSequenceLag == UNLIMITED_SEQUENCE_LAG) {
+            return;
+        }
+
+        long newLowestSequence = Math.max((long) sequence - maxSequenceLag, Integer.MIN_VALUE);
+        if (newLowestSequence <= lowestSequence) {
+            return;
+        }
+        lowestSequence = (int) newLowestSequence;
+
+        // Queued push requests are dropped
+        Iterator<PushRequestEvent> it = queuedPushRequests.iterator();
+        while (it.hasNext()) {
+            PushRequestEvent evt = it.next();
+            if (isSuperseded(evt.getSequence())) {
+                it.remove();
+                evt.getAdmissionPromise().tryFailure(new CancellationException("Superseded by sequence: " + sequence));
+            }
+        }
+
+        // Pushes in flight are cancelled, they leave the in-flight window on completion
+        pendingPushTrackers.keySet()
+                           .stream()
+                           .filter(t -> isSuperseded(t.getBlockHeader().getSequence()))
+                           .filter(t -> !t.isCancelled())
+                           .forEach(t -> {
+                               logger.info("Cancelling superseded push: " + t.getBlockHeader());
+                               t.cancel();
+                           });
+
+        // Forwarders drop their forwardings of superseded blocks
+        SupersessionMessage supersessionMessage = new SupersessionMessage(lowestSequence);
+        uuidsByChannel.keySet()
+                      .forEach(c -> c.writeAndFlush(supersessionMessage)
+                                     .addListener(ChannelFutureListener.CLOSE_ON_FAILURE));
+    }
+
+    private boolean fitsIntoInFlightWindow(PushRequestEvent evt) {
+        // A single block is always allowed, even if it exceeds the byte limit
+        return inFlightPushRequests.isEmpty() ||
+               inFlightPushRequests.size() < maxInFlightBlocks &&
+               inFlightBytes + evt.getPayload().remaining() <= maxInFlightBytes;
+    }
+
+    private void admitQueuedPushRequests() {
+        while (!queuedPushRequests.isEmpty() && fitsIntoInFlightWindow(queuedPushRequests.peek())) {
+            PushRequestEvent evt = queuedPushRequests.poll();
+
+            // The producer is not waiting anymore
+            if (!evt.getAdmissionPromise().setUncancellable()) {
+                continue;
+            }
+
+            inFlightPushRequests.put(evt, 0);
+            inFlightBytes += evt.getPayload().remaining();
+
+            // Determine push groups and push
+            pushGroups(evt, determinePushGroups(evt));
+
+            // Let the producer continue, after the push has started
+            evt.getAdmissionPromise().setSuccess();
+        }
+    }
+
+    private void completePushGroup(PushRequestEvent evt) {
+        int pendingGroups = inFlightPushRequests.get(evt) - 1;
+        if (pendingGroups > 0) {
+            inFlightPushRequests.put(evt, pendingGroups);
+            return;
+        }
+
+        leaveInFlightWindow(evt);
+        admitQueuedPushRequests();
+    }
+
+    private void leaveInFlightWindow(PushRequestEvent evt) {
+        inFlightPushRequests.remove(evt);
+        inFlightBytes -= evt.getPayload().remaining();
     }
 
-    private void pushGroups(PushRequestEvent evt, NodeGroups<UUID> groups) throws NoSuchAlgorithmException {
+    private void pushGroups(PushRequestEvent evt, NodeGroups<UUID> groups) {
         // Nothing to push
         if (groups.getGroups().isEmpty()) {
             logger.info("Nothing to push, node group empty");
+            leaveInFlightWindow(evt);
             return;
         }
 
+        // Each group leaves the in-flight window on its own
+        inFlightPushRequests.put(evt, groups.getGroups().size());
+
         // Push each group
         for (NodeGroup<UUID> uuidNodeGroup : groups.getGroups()) {
             pushGroup(evt, uuidNodeGroup);
         }
     }
 
-    private void pushGroup(PushRequestEvent evt, NodeGroup<UUID> group) throws NoSuchAlgorithmException {
+    private void pushGroup(PushRequestEvent evt, NodeGroup<UUID> group) {
 
-        // Create chunk map from largest node group
+        // Create chunk map from the node group
         Map<Channel, Integer> chunkMap = nodeGroupToChunkMap(group);
 
         // Collect vars
@@ -155,22 +512,82 @@ public final class PushHandler extends ChannelHandlerAdapter {
         // Chunk count == 1 always means no forwarding
         int chunkCount = payload.remaining() < chunkMap.size() ? 1 : chunkMap.size();
 
-        // Create the block header
-        BlockHeader blockHeader = BlockHeader.createFrom(evt.getPayload(),
-                                                         evt.getSequence(),
-                                                         evt.getPriority(),
-                                                         evt.getDuration(),
-                                                         chunkCount);
+        // Erasure coded blocks always use uniform data chunks
+        int parityChunkCount = computeParityChunkCount(evt, chunkCount);
+        int dataChunkCount = chunkCount - parityChunkCount;
+        List<Integer> chunkSizes = parityChunkCount > 0 ?
+                                   BlockHeader.computeErasureCodedChunkSizes(payload.remaining(),
+                                                                             dataChunkCount,
+                                                                             parityChunkCount) :
+                                   computeChunkSizes(group, payload.remaining(), chunkCount);
+
+        // The parity chunks are stored off-heap
+        ByteBuffer parity = ByteBuffer.allocateDirect(parityChunkCount > 0 ?
+                                                      parityChunkCount * chunkSizes.get(dataChunkCount) :
+                                                      0);
+
+        // Encode and create the block header off the event loop and continue pushing on the event loop
+        CompletableFuture.runAsync(() -> encodeParityChunks(payload, parity, chunkSizes, dataChunkCount),
+                                   hashExecutor)
+                         .thenCompose(v -> BlockHeader.createFromAsync(hashAlgorithm,
+                                                                       payload,
+                                                                       parity,
+                                                                       evt.getSequence(),
+                                                                       evt.getPriority(),
+                                                                       evt.getDuration(),
+                                                                       chunkSizes,
+                                                                       dataChunkCount,
+                                                                       hashExecutor))
+                         .whenCompleteAsync((blockHeader, cause) -> {
+                             if (cause != null) {
+                                 completePushGroup(evt);
+                                 ctx.fireExceptionCaught(cause);
+                             } else {
+                                 pushBlock(evt, blockHeader, payload, parity, chunkMap);
+                             }
+                         }, ctx.executor());
+    }
+
+    private void pushBlock(PushRequestEvent evt,
+                           BlockHeader blockHeader,
+                           ByteBuffer payload,
+                           ByteBuffer parity,
+                           Map<Channel, Integer> chunkMap) {
+
+        // The block was superseded, while its block header was computed
+        if (isSuperseded(blockHeader.getSequence())) {
+            logger.info("Dropped superseded push: " + blockHeader);
+            completePushGroup(evt);
+            return;
+        }
+
+        // Full outbound buffers are an early sign of a slow peer
+        chunkMap.keySet()
+                .stream()
+                .filter(c -> !c.isWritable())
+                .map(uuidsByChannel::get)
+                .filter(Objects::nonNull)
+                .forEach(uuid -> updateHealth(uuid, peerHealthTracker.recordUnwritable(uuid)));
 
         // Send block to all peers
-        PushTracker pushTracker = new PushTracker(this::firePushCompleted, blockHeader, payload, chunkMap);
+        PushTracker pushTracker = new PushTracker(this::firePushCompleted, blockHeader, payload, parity, chunkMap);
 
         // Add the new push tracker
-        pendingPushTrackers.add(pushTracker);
+        pendingPushTrackers.put(pushTracker, evt);
 
         // Compute statistics
         logger.info("Pushing: " + pushTracker.getBlockHeader());
+    }
+
+    private void updateHealth(UUID uuid, boolean changed) {
+        if (!changed) {
+            return;
+        }
 
+        // The candidate groups depend on the demoted peers
+        logger.warn((peerHealthTracker.isDemoted(uuid) ? "Demoted" : "Promoted") + " peer: " + uuid +
+                    ", Score: " + peerHealthTracker.getScore(uuid));
+        candidateGroups = null;
     }
 
     private void handleAcknowledgedNeighboursEvent(AcknowledgedNeighboursEvent evt) {
@@ -178,22 +595,47 @@ public final class PushHandler extends ChannelHandlerAdapter {
             case Register:
             case Update:
                 acknowledgedNeighbours.put(evt.getLocalSwarmID().getUUID(), evt);
+                uuidsByChannel.put(evt.getChannel(), evt.getLocalSwarmID().getUUID());
+                meshGraph.update(evt.getLocalSwarmID().getUUID(),
+                                 evt.getAcknowledgedOutboundNeighbours(),
+                                 evt.getAcknowledgedInboundNeighbours());
                 break;
             case Unregister:
                 acknowledgedNeighbours.remove(evt.getLocalSwarmID().getUUID());
+                uploadCapacities.remove(evt.getLocalSwarmID().getUUID());
+                uuidsByChannel.remove(evt.getChannel());
+                peerHealthTracker.remove(evt.getLocalSwarmID().getUUID());
+                meshGraph.remove(evt.getLocalSwarmID().getUUID());
                 break;
         }
+        candidateGroups = null;
+    }
+
+    private void handleUploadCapacityEvent(UploadCapacityEvent evt) {
+        // Ignore late reports of unregistered peers
+        if (acknowledgedNeighbours.containsKey(evt.getSwarmID().getUUID())) {
+            uploadCapacities.put(evt.getSwarmID().getUUID(), evt.getBytesPerSecond());
+        }
     }
 
-    private void handlePushRequestEvent(PushRequestEvent evt) throws NoSuchAlgorithmException {
-        // Determine push groups and push
-        pushGroups(evt, determinePushGroups());
+    private void handlePushRequestEvent(PushRequestEvent evt) {
+        // Newer blocks make older blocks obsolete
+        supersede(evt.getSequence());
+        if (isSuperseded(evt.getSequence())) {
+            evt.getAdmissionPromise()
+               .tryFailure(new CancellationException("Superseded sequence: " + evt.getSequence()));
+            return;
+        }
+
+        // Queue the push request until it fits into the in-flight window
+        queuedPushRequests.offer(evt);
+        admitQueuedPushRequests();
     }
 
     private void handlePushCompletedEvent(PushCompletedEvent evt) {
         // Remove the push tracker, it is not pending anymore
         PushTracker pushTracker = evt.getPushTracker();
-        pendingPushTrackers.remove(pushTracker);
+        PushRequestEvent pushRequestEvent = pendingPushTrackers.remove(pushTracker);
 
         // Compute statistics
         long count = pushTracker.getChannels().size();
@@ -204,16 +646,96 @@ public final class PushHandler extends ChannelHandlerAdapter {
         String rate = (count - failed) + "/" + count;
         logger.info("Pushed: " + pushTracker.getBlockHeader() + ", Success: " + rate);
 
+        // Score successful writes by their latency
+        Duration duration = pushTracker.getBlockHeader().getDuration();
+        pushTracker.getChannelFutureTracker().getSuccessfulChannels().keySet().forEach(c -> {
+            UUID uuid = uuidsByChannel.get(c);
+            if (uuid != null) {
+                Duration latency = pushTracker.getChannelFutureTracker().getLatencies().get(c);
+                updateHealth(uuid, peerHealthTracker.recordWrite(uuid, latency, duration));
+            }
+        });
+
+        // Cancelled writes do not hurt the health and are not retried
+        if (pushTracker.isCancelled()) {
+            completePushGroup(pushRequestEvent);
+            return;
+        }
+
         // Log failed channels
+        Set<Channel> failedChannels = new HashSet<>();
         pushTracker.getChannelFutureTracker().getFailedChannels().forEach((c, f) -> {
-            logger.warn("Closing channel due to partial pushTracker failure", f.cause());
-            c.close();
+            // Every failed write hurts the health
+            UUID uuid = uuidsByChannel.get(c);
+            if (uuid != null) {
+                updateHealth(uuid, peerHealthTracker.recordTimeout(uuid));
+            }
+
+            // Expired and timed out writes are not retried, the channel is still usable
+            if (f.cause() instanceof CancellationException || f.cause() instanceof TimeoutException) {
+                logger.warn("Expired write: " + pushTracker.getBlockHeader() + ", Channel: " + c);
+                return;
+            }
+
+            logger.warn("Failed write: " + pushTracker.getBlockHeader() + ", Channel: " + c, f.cause());
+            failedChannels.add(c);
         });
+
+        // Retransmit the failed chunks, while the block duration allows it
+        if (!failedChannels.isEmpty()) {
+            PushTracker retryPushTracker = pushTracker.retry(this::firePushCompleted, failedChannels);
+            if (retryPushTracker != null) {
+                // The push group is still in flight
+                pendingPushTrackers.put(retryPushTracker, pushRequestEvent);
+                logger.info("Retrying push: " + retryPushTracker.getBlockHeader() +
+                            ", Attempt: " + retryPushTracker.getAttempt());
+                return;
+            }
+
+            // Only persistent failures disconnect the peer
+            failedChannels.stream().filter(Channel::isActive).forEach(c -> {
+                logger.warn("Closing channel due to persistent pushTracker failure: " + c);
+                c.close();
+            });
+        }
+
+        completePushGroup(pushRequestEvent);
     }
 
-    public PushHandler(UUID masterUUID) {
+    public PushHandler(UUID masterUUID,
+                       HashAlgorithm hashAlgorithm,
+                       Executor hashExecutor,
+                       ChunkLayout chunkLayout,
+                       TopologyManager topologyManager,
+                       int maxInFlightBlocks,
+                       long maxInFlightBytes,
+                       double maxEgressFactor,
+                       int maxSequenceLag) {
         Objects.requireNonNull(masterUUID);
+        Objects.requireNonNull(hashAlgorithm);
+        Objects.requireNonNull(hashExecutor);
+        Objects.requireNonNull(chunkLayout);
+        Objects.requireNonNull(topologyManager);
+
+        if (maxInFlightBlocks <= 0) {
+            throw new IllegalArgumentException("maxInFlightBlocks <= 0");
+        } else if (maxInFlightBytes <= 0) {
+            throw new IllegalArgumentException("maxInFlightBytes <= 0");
+        } else if (maxEgressFactor != SCALED_EGRESS_FACTOR && !(maxEgressFactor >= 1)) {
+            throw new IllegalArgumentException("maxEgressFactor != SCALED_EGRESS_FACTOR && !(maxEgressFactor >= 1)");
+        } else if (maxSequenceLag < 0) {
+            throw new IllegalArgumentException("maxSequenceLag < 0");
+        }
+
         this.masterUUID = masterUUID;
+        this.hashAlgorithm = hashAlgorithm;
+        this.hashExecutor = hashExecutor;
+        this.chunkLayout = chunkLayout;
+        this.topologyManager = topologyManager;
+        this.maxInFlightBlocks = maxInFlightBlocks;
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.maxEgressFactor = maxEgressFactor;
+        this.maxSequenceLag = maxSequenceLag;
     }
 
     @Override
@@ -224,6 +746,11 @@ public final class PushHandler extends ChannelHandlerAdapter {
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        // Queued push requests will never be admitted
+        ClosedChannelException cause = new ClosedChannelException();
+        queuedPushRequests.forEach(evt -> evt.getAdmissionPromise().tryFailure(cause));
+        queuedPushRequests.clear();
+
         cancelPendingPushTrackers();
         super.channelInactive(ctx);
     }
@@ -236,6 +763,8 @@ public final class PushHandler extends ChannelHandlerAdapter {
             handlePushRequestEvent((PushRequestEvent) evt);
         } else if (evt instanceof PushCompletedEvent) {
             handlePushCompletedEvent((PushCompletedEvent) evt);
+        } else if (evt instanceof UploadCapacityEvent) {
+            handleUploadCapacityEvent((UploadCapacityEvent) evt);
         }
 
         super.userEventTriggered(ctx, evt);
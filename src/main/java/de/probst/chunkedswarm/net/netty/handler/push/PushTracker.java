@@ -1,55 +1,188 @@
 package de.probst.chunkedswarm.net.netty.handler.push;
 
+import de.probst.chunkedswarm.net.netty.handler.codec.chunk.ChunkFrame;
+import de.probst.chunkedswarm.net.netty.handler.codec.chunk.ChunkMessageCodec;
 import de.probst.chunkedswarm.net.netty.handler.push.message.ChunkPushMessage;
 import de.probst.chunkedswarm.net.netty.util.ChannelFutureTracker;
 import de.probst.chunkedswarm.net.netty.util.NettyUtil;
+import de.probst.chunkedswarm.net.netty.util.WriteDeadline;
 import de.probst.chunkedswarm.util.BlockHeader;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
+ * Pushes the chunks of a block to the channels of a push group.
+ * <p>
+ * Failed chunks can be retried with the remaining duration of the block,
+ * either on the same channel or on another channel of the push group,
+ * which forwards the chunk to the rest of the mesh.
+ *
  * @author Christopher Probst <christopher.probst@hhu.de>
  * @version 1.0, 22.08.15
  */
 public final class PushTracker {
 
+    // The number of retries per push
+    public static final int MAX_RETRIES = 2;
+
     private final BlockHeader blockHeader;
     private final ByteBuffer payload;
+    private final ByteBuffer parity;
     private final Map<Channel, Integer> channels;
     private final ChannelFutureTracker channelFutureTracker;
 
-    public PushTracker(Consumer<PushTracker> callback,
-                       BlockHeader blockHeader,
-                       ByteBuffer payload,
-                       Map<Channel, Integer> channels) {
+    // All writes share the deadline of the block
+    private final WriteDeadline writeDeadline;
+
+    // The duration, the writes are allowed to take
+    private final Duration timeout;
+
+    // The number of previous attempts
+    private final int attempt;
+
+    // Set, when the queued writes were cancelled
+    private boolean cancelled;
+
+    // The start of the push
+    private final long creationTime = System.nanoTime();
+
+    private ChunkPushMessage createChunkPushMessage(int chunkIndex) {
+        return new ChunkPushMessage(blockHeader,
+                                    blockHeader.getChunkHeader(chunkIndex),
+                                    Unpooled.wrappedBuffer(blockHeader.sliceChunkPayload(chunkIndex,
+                                                                                              payload,
+                                                                                              parity)));
+    }
+
+    private PushTracker(Consumer<PushTracker> callback,
+                        BlockHeader blockHeader,
+                        ByteBuffer payload,
+                        ByteBuffer parity,
+                        Map<Channel, Integer> channels,
+                        Duration timeout,
+                        int attempt) {
         Objects.requireNonNull(callback);
         Objects.requireNonNull(blockHeader);
         Objects.requireNonNull(payload);
+        Objects.requireNonNull(parity);
         Objects.requireNonNull(channels);
+        Objects.requireNonNull(timeout);
         this.blockHeader = blockHeader;
         this.payload = payload;
+        this.parity = parity;
         this.channels = Collections.unmodifiableMap(channels);
+        this.timeout = timeout;
+        this.attempt = attempt;
 
         if (channels.isEmpty()) {
             throw new IllegalArgumentException("channels.isEmpty()");
         }
 
+        // One deadline for all writes, removed as soon as all writes completed
+        writeDeadline = NettyUtil.newWriteDeadline(timeout);
+
         // Write all and start channel future tracker
-        channelFutureTracker = new ChannelFutureTracker(channels.entrySet().stream().map(e -> {
-            int chunkIndex = blockHeader.getChunkCount() == channels.size() ? e.getValue() : 0;
-            return NettyUtil.writeAndFlushWithTimeout(e.getKey(),
-                                                      new ChunkPushMessage(blockHeader,
-                                                                           blockHeader.getChunkHeader(chunkIndex),
-                                                                           blockHeader.sliceChunkPayload(chunkIndex,
-                                                                                                         payload)),
-                                                      blockHeader.getDuration());
-        }).collect(Collectors.toList()), chf -> callback.accept(this));
+        // Chunk count == 1 means, that every peer gets the whole block
+        Collection<ChannelFuture> cfs;
+        if (blockHeader.getChunkCount() > 1) {
+            cfs = channels.entrySet()
+                          .stream()
+                          .map(e -> writeDeadline.writeAndFlush(e.getKey(), createChunkPushMessage(e.getValue())))
+                          .collect(Collectors.toList());
+        } else {
+            // Every peer gets the same chunk, so encode it only once
+            ChunkFrame chunkFrame = ChunkMessageCodec.encodeFrame(channels.keySet().iterator().next().alloc(),
+                                                                  createChunkPushMessage(0));
+            try {
+                cfs = channels.keySet()
+                              .stream()
+                              .map(c -> writeDeadline.writeAndFlush(c, chunkFrame.retainedDuplicate()))
+                              .collect(Collectors.toList());
+            } finally {
+                chunkFrame.release();
+            }
+        }
+        channelFutureTracker = new ChannelFutureTracker(cfs, chf -> {
+            writeDeadline.cancel();
+            callback.accept(this);
+        });
+    }
+
+    public PushTracker(Consumer<PushTracker> callback,
+                       BlockHeader blockHeader,
+                       ByteBuffer payload,
+                       ByteBuffer parity,
+                       Map<Channel, Integer> channels) {
+        this(callback, blockHeader, payload, parity, channels, blockHeader.getDuration(), 0);
+    }
+
+    /**
+     * Active channels get their chunk again. The chunks of inactive channels are sent to
+     * other successful channels of this push, if the block is chunked, so they are forwarded.
+     *
+     * @return the push tracker of the retry or null, if the failed chunks can not be retried
+     */
+    public PushTracker retry(Consumer<PushTracker> callback, Set<Channel> failedChannels) {
+        Objects.requireNonNull(callback);
+        Objects.requireNonNull(failedChannels);
+        Duration remainingTimeout = timeout.minus(getAge());
+        if (cancelled || attempt >= MAX_RETRIES || remainingTimeout.isNegative() || remainingTimeout.isZero()) {
+            return null;
+        }
+
+        // Every alternate channel gets at most one failed chunk
+        Deque<Channel> alternateChannels = channelFutureTracker.getSuccessfulChannels()
+                                                               .keySet()
+                                                               .stream()
+                                                               .filter(Channel::isActive)
+                                                               .collect(Collectors.toCollection(ArrayDeque::new));
+        Map<Channel, Integer> retryChannels = new HashMap<>();
+        for (Channel failedChannel : failedChannels) {
+            if (failedChannel.isActive()) {
+                retryChannels.put(failedChannel, channels.get(failedChannel));
+            } else if (blockHeader.getChunkCount() > 1 && !alternateChannels.isEmpty()) {
+                retryChannels.put(alternateChannels.poll(), channels.get(failedChannel));
+            }
+        }
+
+        if (retryChannels.isEmpty()) {
+            return null;
+        }
+        return new PushTracker(callback, blockHeader, payload, parity, retryChannels, remainingTimeout, attempt + 1);
+    }
+
+    /**
+     * Drops all queued writes of this push, e.g. if the block was superseded.
+     */
+    public void cancel() {
+        cancelled = true;
+        writeDeadline.cancelQueuedWrites();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public Duration getAge() {
+        return Duration.ofNanos(System.nanoTime() - creationTime);
+    }
+
+    public int getAttempt() {
+        return attempt;
     }
 
     public BlockHeader getBlockHeader() {
@@ -60,6 +193,10 @@ public final class PushTracker {
         return payload;
     }
 
+    public ByteBuffer getParity() {
+        return parity;
+    }
+
     public Map<Channel, Integer> getChannels() {
         return channels;
     }
@@ -68,13 +205,21 @@ public final class PushTracker {
         return channelFutureTracker;
     }
 
+    public WriteDeadline getWriteDeadline() {
+        return writeDeadline;
+    }
+
     @Override
     public String toString() {
         return "PushTracker{" +
                "blockHeader=" + blockHeader +
                ", payload=" + payload +
+               ", parity=" + parity +
                ", channels=" + channels +
                ", channelFutureTracker=" + channelFutureTracker +
+               ", writeDeadline=" + writeDeadline +
+               ", attempt=" + attempt +
+               ", cancelled=" + cancelled +
                '}';
     }
 }
@@ -1,5 +1,7 @@
 package de.probst.chunkedswarm.net.netty.handler.push.event;
 
+import io.netty.channel.ChannelPromise;
+
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Objects;
@@ -14,14 +16,27 @@ public final class PushRequestEvent {
     private final int sequence;
     private final int priority;
     private final Duration duration;
+    private final double parityRatio;
+    private final ChannelPromise admissionPromise;
 
-    public PushRequestEvent(ByteBuffer payload, int sequence, int priority, Duration duration) {
+    public PushRequestEvent(ByteBuffer payload,
+                            int sequence,
+                            int priority,
+                            Duration duration,
+                            double parityRatio,
+                            ChannelPromise admissionPromise) {
         Objects.requireNonNull(payload);
         Objects.requireNonNull(duration);
+        Objects.requireNonNull(admissionPromise);
+        if (!(parityRatio >= 0 && parityRatio < 1)) {
+            throw new IllegalArgumentException("!(parityRatio >= 0 && parityRatio < 1)");
+        }
         this.payload = payload;
         this.sequence = sequence;
         this.priority = priority;
         this.duration = duration;
+        this.parityRatio = parityRatio;
+        this.admissionPromise = admissionPromise;
     }
 
     public ByteBuffer getPayload() {
@@ -40,6 +55,20 @@ public final class PushRequestEvent {
         return duration;
     }
 
+    /**
+     * The share of parity chunks among all chunks of the block.
+     */
+    public double getParityRatio() {
+        return parityRatio;
+    }
+
+    /**
+     * Completed, when the push request enters the in-flight window.
+     */
+    public ChannelPromise getAdmissionPromise() {
+        return admissionPromise;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -49,17 +78,24 @@ public final class PushRequestEvent {
 
         if (sequence != pushEvent.sequence) return false;
         if (priority != pushEvent.priority) return false;
+        if (Double.compare(pushEvent.parityRatio, parityRatio) != 0) return false;
         if (!payload.equals(pushEvent.payload)) return false;
-        return duration.equals(pushEvent.duration);
+        if (!duration.equals(pushEvent.duration)) return false;
+        return admissionPromise.equals(pushEvent.admissionPromise);
 
     }
 
     @Override
     public int hashCode() {
-        int result = payload.hashCode();
+        int result;
+        long temp;
+        result = payload.hashCode();
         result = 31 * result + sequence;
         result = 31 * result + priority;
         result = 31 * result + duration.hashCode();
+        temp = Double.doubleToLongBits(parityRatio);
+        result = 31 * result + (int) (temp ^ (temp >>> 32));
+        result = 31 * result + admissionPromise.hashCode();
         return result;
     }
 
@@ -70,6 +106,8 @@ public final class PushRequestEvent {
                ", sequence=" + sequence +
                ", priority=" + priority +
                ", duration=" + duration +
+               ", parityRatio=" + parityRatio +
+               ", admissionPromise=" + admissionPromise +
                '}';
     }
 }
@@ -2,38 +2,22 @@ package de.probst.chunkedswarm.net.netty.handler.push.message;
 
 import de.probst.chunkedswarm.util.BlockHeader;
 import de.probst.chunkedswarm.util.ChunkHeader;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.io.Serializable;
-import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
  * @author Christopher Probst <christopher.probst@hhu.de>
  * @version 1.0, 20.08.15
  */
-public final class ChunkPushMessage implements Serializable {
+public final class ChunkPushMessage implements ReferenceCounted {
 
     private final BlockHeader blockHeader;
     private final ChunkHeader chunkHeader;
-    private transient ByteBuffer chunkPayload;
-
-    private void writeObject(ObjectOutputStream s)
-            throws java.io.IOException {
-        s.defaultWriteObject();
-        byte[] copy = new byte[chunkPayload.remaining()];
-        chunkPayload.duplicate().get(copy);
-        s.writeObject(copy);
-    }
-
-    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
-        s.defaultReadObject();
-        chunkPayload = ByteBuffer.wrap((byte[]) s.readObject());
-    }
+    private final ByteBuf chunkPayload;
 
-    public ChunkPushMessage(BlockHeader blockHeader, ChunkHeader chunkHeader, ByteBuffer chunkPayload) {
+    public ChunkPushMessage(BlockHeader blockHeader, ChunkHeader chunkHeader, ByteBuf chunkPayload) {
         Objects.requireNonNull(blockHeader);
         Objects.requireNonNull(chunkHeader);
         Objects.requireNonNull(chunkPayload);
@@ -50,10 +34,49 @@ public final class ChunkPushMessage implements Serializable {
         return chunkHeader;
     }
 
-    public ByteBuffer getChunkPayload() {
+    public ByteBuf getChunkPayload() {
         return chunkPayload;
     }
 
+    @Override
+    public int refCnt() {
+        return chunkPayload.refCnt();
+    }
+
+    @Override
+    public ChunkPushMessage retain() {
+        chunkPayload.retain();
+        return this;
+    }
+
+    @Override
+    public ChunkPushMessage retain(int increment) {
+        chunkPayload.retain(increment);
+        return this;
+    }
+
+    @Override
+    public ChunkPushMessage touch() {
+        chunkPayload.touch();
+        return this;
+    }
+
+    @Override
+    public ChunkPushMessage touch(Object hint) {
+        chunkPayload.touch(hint);
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return chunkPayload.release();
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return chunkPayload.release(decrement);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
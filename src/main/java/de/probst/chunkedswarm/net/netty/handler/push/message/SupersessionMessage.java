@@ -0,0 +1,49 @@
+package de.probst.chunkedswarm.net.netty.handler.push.message;
+
+import java.io.Serializable;
+
+/**
+ * Tells forwarders, that all blocks below the lowest sequence are obsolete.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 12.09.15
+ */
+public final class SupersessionMessage implements Serializable {
+
+    private final int lowestSequence;
+
+    public SupersessionMessage(int lowestSequence) {
+        this.lowestSequence = lowestSequence;
+    }
+
+    public int getLowestSequence() {
+        return lowestSequence;
+    }
+
+    public boolean isSuperseded(int sequence) {
+        return sequence < lowestSequence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SupersessionMessage that = (SupersessionMessage) o;
+
+        return lowestSequence == that.lowestSequence;
+
+    }
+
+    @Override
+    public int hashCode() {
+        return lowestSequence;
+    }
+
+    @Override
+    public String toString() {
+        return "SupersessionMessage{" +
+               "lowestSequence=" + lowestSequence +
+               '}';
+    }
+}
@@ -0,0 +1,703 @@
+package de.probst.chunkedswarm.net.netty.handler.reassembly;
+
+import de.probst.chunkedswarm.net.netty.handler.codec.chunk.ChunkMessageCodec;
+import de.probst.chunkedswarm.net.netty.handler.connection.event.ConnectionChangeEvent;
+import de.probst.chunkedswarm.net.netty.handler.connection.event.ConnectionEvent;
+import de.probst.chunkedswarm.net.netty.handler.forwarding.message.ChunkForwardingMessage;
+import de.probst.chunkedswarm.net.netty.handler.push.message.ChunkPushMessage;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.event.ChunkMapEvent;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.event.ChunkRequestEvent;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.event.ReassemblyCompletedEvent;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.message.ChunkMapMessage;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.message.ChunkRequestMessage;
+import de.probst.chunkedswarm.net.netty.util.ChannelFutureTracker;
+import de.probst.chunkedswarm.net.netty.util.NettyUtil;
+import de.probst.chunkedswarm.net.netty.util.ReassemblyBufferPool;
+import de.probst.chunkedswarm.net.netty.util.WriteDeadline;
+import de.probst.chunkedswarm.util.BlockHeader;
+import de.probst.chunkedswarm.util.ChunkHeader;
+import de.probst.chunkedswarm.util.Hash;
+import de.probst.chunkedswarm.util.SwarmID;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.ReferenceCountUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reassembles blocks from pushed and forwarded chunks.
+ * <p>
+ * Accepted pushed chunks are passed on, so they can be forwarded.
+ * Forwarded chunks are consumed.
+ * <p>
+ * Completed blocks are announced in sequence order.
+ * Incomplete blocks are dropped, when their duration expires.
+ * <p>
+ * Erasure coded blocks might complete before all chunks arrived.
+ * They are decoded on the decode executor, so the event loop keeps
+ * reading and forwarding chunks meanwhile.
+ * Late pushed chunks are still passed on for forwarding, late
+ * forwarded chunks are dropped. Pushed chunks of blocks, which do
+ * not fit into the memory cap, are passed on for forwarding, too.
+ * <p>
+ * Missing chunks are repaired by pulling: The received chunks of every block are
+ * advertised to the outbound neighbours. Chunks of stalled blocks are requested
+ * from the inbound neighbours, which advertised them, as long as the block duration
+ * allows it. Requests are served from the reassembly buffers, completed blocks are
+ * kept for serving until their duration expires.
+ * <p>
+ * Handler sends:
+ * - ReassemblyCompletedEvent
+ * <p>
+ * Handler listens to:
+ * - ConnectionEvent
+ * - ChunkMapEvent
+ * - ChunkRequestEvent
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 28.08.15
+ */
+public final class ReassemblyHandler extends ChannelHandlerAdapter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReassemblyHandler.class);
+
+    // Chunks without block header are dropped after this duration
+    public static final Duration PENDING_CHUNKS_DURATION = Duration.ofSeconds(10);
+
+    // The number of completed sequences to remember for late chunks
+    public static final int MAX_COMPLETED_SEQUENCES = 1024;
+
+    // The interval of chunk map advertisements and chunk requests
+    public static final Duration REPAIR_INTERVAL = Duration.ofMillis(100);
+
+    // Missing chunks are requested, after this fraction of the block duration passed
+    public static final double REPAIR_DELAY_RATIO = 0.25;
+
+    // Unanswered chunk requests are sent again after this duration
+    public static final Duration REQUEST_TIMEOUT = Duration.ofMillis(500);
+
+    // The number of chunks requested per interval
+    public static final int MAX_REQUESTED_CHUNKS = 64;
+
+    // The number of chunks served per request
+    public static final int MAX_SERVED_CHUNKS = 16;
+
+    // The number of completed blocks kept for serving
+    public static final int MAX_SERVED_BLOCKS = 64;
+
+    // The number of sequences, whose neighbour chunk maps are remembered
+    public static final int MAX_CHUNK_MAP_SEQUENCES = 256;
+
+    // Used to allocate the payload of reassembled blocks
+    private final ReassemblyBufferPool reassemblyBufferPool;
+
+    // Used to decode erasure coded blocks off the event loop
+    private final Executor decodeExecutor;
+
+    // Used to track pending reassembly trackers by sequence, oldest first
+    private final Map<Integer, ReassemblyTracker> pendingReassemblyTrackers = new LinkedHashMap<>();
+
+    // Used to recognize late chunks of completed blocks, oldest first
+    private final Set<Integer> completedSequences = new LinkedHashSet<>();
+
+    // Completed blocks, which are still served to neighbours, oldest first
+    private final Map<Integer, ReassemblyTracker> servedReassemblyTrackers = new LinkedHashMap<>();
+
+    // The latest chunk maps of inbound neighbours by sequence, oldest first
+    private final Map<Integer, Map<Channel, ChunkMapMessage>> neighbourChunkMaps = new LinkedHashMap<>();
+
+    // The request times of missing chunks by sequence and chunk index
+    private final Map<Integer, Map<Integer, Long>> chunkRequestTimes = new HashMap<>();
+
+    // The chunk maps advertised last by sequence
+    private final Map<Integer, BitSet> advertisedChunkMaps = new HashMap<>();
+
+    // Latest known engaged outbound channels
+    private Map<SwarmID, Channel> engagedOutboundChannels = Collections.emptyMap();
+
+    // The channel handler context
+    private ChannelHandlerContext ctx;
+
+    private void fireReassemblyCompleted(ReassemblyTracker reassemblyTracker) {
+        ctx.pipeline().fireUserEventTriggered(new ReassemblyCompletedEvent(reassemblyTracker));
+    }
+
+    private ReassemblyTracker getReassemblyTracker(int sequence) {
+        ReassemblyTracker reassemblyTracker = pendingReassemblyTrackers.get(sequence);
+        if (reassemblyTracker == null) {
+            reassemblyTracker = new ReassemblyTracker(sequence, reassemblyBufferPool);
+            pendingReassemblyTrackers.put(sequence, reassemblyTracker);
+            scheduleDeadline(reassemblyTracker, PENDING_CHUNKS_DURATION);
+        }
+        return reassemblyTracker;
+    }
+
+    private void scheduleDeadline(ReassemblyTracker reassemblyTracker, Duration duration) {
+        // The deadline is relative to the first chunk
+        long delay = Math.max(0, duration.minus(reassemblyTracker.getAge()).toNanos());
+        reassemblyTracker.setDeadline(ctx.executor().schedule(() -> expireReassemblyTracker(reassemblyTracker),
+                                                              delay,
+                                                              TimeUnit.NANOSECONDS));
+    }
+
+    private void expireReassemblyTracker(ReassemblyTracker reassemblyTracker) {
+        // Completed blocks are not stale
+        if (pendingReassemblyTrackers.get(reassemblyTracker.getSequence()) != reassemblyTracker ||
+            reassemblyTracker.isCompleted()) {
+            return;
+        }
+
+        logger.warn("Expired incomplete block: " + reassemblyTracker);
+        removeReassemblyTracker(reassemblyTracker);
+    }
+
+    private void removeReassemblyTracker(ReassemblyTracker reassemblyTracker) {
+        pendingReassemblyTrackers.remove(reassemblyTracker.getSequence());
+        forgetRepairState(reassemblyTracker.getSequence());
+        advertisedChunkMaps.remove(reassemblyTracker.getSequence());
+        reassemblyTracker.release();
+
+        // The removed block might have held back completed blocks
+        fireCompletedInOrder();
+    }
+
+    private void fireCompletedInOrder() {
+        // Completed blocks never overtake incomplete blocks with a lower sequence
+        int lowestIncompleteSequence = pendingReassemblyTrackers.values()
+                                                                .stream()
+                                                                .filter(ReassemblyTracker::hasBlockHeader)
+                                                                .filter(r -> !r.isCompleted())
+                                                                .mapToInt(ReassemblyTracker::getSequence)
+                                                                .min()
+                                                                .orElse(Integer.MAX_VALUE);
+
+        List<ReassemblyTracker> completed = pendingReassemblyTrackers.values()
+                                                                     .stream()
+                                                                     .filter(ReassemblyTracker::isCompleted)
+                                                                     .filter(r -> r.getSequence() <
+                                                                                  lowestIncompleteSequence ||
+                                                                                  lowestIncompleteSequence ==
+                                                                                  Integer.MAX_VALUE)
+                                                                     .sorted(Comparator.comparingInt(
+                                                                             ReassemblyTracker::getSequence))
+                                                                     .collect(Collectors.toList());
+
+        // The receiver of the event takes over the reassembly tracker
+        for (ReassemblyTracker reassemblyTracker : completed) {
+            pendingReassemblyTrackers.remove(reassemblyTracker.getSequence());
+            forgetRepairState(reassemblyTracker.getSequence());
+            addCompletedSequence(reassemblyTracker.getSequence());
+            serveReassemblyTracker(reassemblyTracker);
+            fireReassemblyCompleted(reassemblyTracker);
+        }
+    }
+
+    private void addCompletedSequence(int sequence) {
+        completedSequences.add(sequence);
+        if (completedSequences.size() > MAX_COMPLETED_SEQUENCES) {
+            Iterator<Integer> it = completedSequences.iterator();
+            it.next();
+            it.remove();
+        }
+    }
+
+    private boolean isCompleted(int sequence) {
+        ReassemblyTracker reassemblyTracker = pendingReassemblyTrackers.get(sequence);
+        return completedSequences.contains(sequence) ||
+               reassemblyTracker != null && reassemblyTracker.isCompleted();
+    }
+
+    private boolean isValidPushedChunk(ChunkPushMessage msg) {
+        BlockHeader blockHeader = msg.getBlockHeader();
+        int chunkIndex = msg.getChunkHeader().getChunkIndex();
+        return chunkIndex >= 0 &&
+               chunkIndex < blockHeader.getChunkCount() &&
+               msg.getChunkHeader().getSize() == blockHeader.getChunkSize(chunkIndex) &&
+               msg.getChunkPayload().readableBytes() == msg.getChunkHeader().getSize() &&
+               blockHeader.hasValidChunkHashes() &&
+               blockHeader.isValidChunkPayload(chunkIndex, msg.getChunkPayload().nioBuffer());
+    }
+
+    private boolean evictOldestReassemblyTracker(ReassemblyTracker excluded) {
+        // Only incomplete trackers with a block header hold pooled memory
+        Optional<ReassemblyTracker> oldest = pendingReassemblyTrackers.values()
+                                                                      .stream()
+                                                                      .filter(r -> r != excluded)
+                                                                      .filter(ReassemblyTracker::hasBlockHeader)
+                                                                      .filter(r -> !r.isCompleted())
+                                                                      .filter(r -> !r.isDecoding())
+                                                                      .findFirst();
+        if (!oldest.isPresent()) {
+            return false;
+        }
+
+        logger.warn("Evicted incomplete block: " + oldest.get());
+        removeReassemblyTracker(oldest.get());
+        return true;
+    }
+
+    private ByteBuffer allocatePayload(ReassemblyTracker reassemblyTracker, BlockHeader blockHeader) {
+        if (blockHeader.getEncodedSize() > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        // Evict incomplete blocks until the payload and parity fit into the pool
+        // Served blocks are given up first, serving them is optional
+        ByteBuffer payload;
+        while ((payload = reassemblyBufferPool.allocate((int) blockHeader.getEncodedSize())) == null) {
+            if (!releaseOldestServedReassemblyTracker() && !evictOldestReassemblyTracker(reassemblyTracker)) {
+                return null;
+            }
+        }
+        return payload;
+    }
+
+    private void decode(ReassemblyTracker reassemblyTracker) {
+        // Keep the buffer, even if the block is evicted or expires meanwhile
+        reassemblyTracker.retain();
+        reassemblyTracker.decodeAsync(decodeExecutor).whenCompleteAsync((v, cause) -> {
+            try {
+                reassemblyTracker.finishDecoding(cause == null);
+                if (cause != null) {
+                    logger.warn("Failed to decode block: " + reassemblyTracker, cause);
+                } else if (pendingReassemblyTrackers.get(reassemblyTracker.getSequence()) == reassemblyTracker) {
+                    completeIfPossible(reassemblyTracker);
+                }
+            } finally {
+                reassemblyTracker.release();
+            }
+        }, ctx.executor());
+    }
+
+    private void completeIfPossible(ReassemblyTracker reassemblyTracker) {
+        if (reassemblyTracker.isDecodable()) {
+            decode(reassemblyTracker);
+            return;
+        } else if (!reassemblyTracker.isCompleted()) {
+            return;
+        }
+
+        // Compute statistics
+        logger.info("Reassembled: " + reassemblyTracker.getBlockHeader());
+
+        // Completed blocks do not expire
+        reassemblyTracker.cancelDeadline();
+
+        fireCompletedInOrder();
+    }
+
+    private boolean putChunk(ReassemblyTracker reassemblyTracker,
+                             ChunkHeader chunkHeader,
+                             Hash blockHash,
+                             ByteBuf chunkPayload) {
+        boolean accepted = reassemblyTracker.putChunk(chunkHeader, blockHash, chunkPayload);
+        if (!accepted) {
+            logger.warn("Rejected chunk: " + chunkHeader);
+        }
+        return accepted;
+    }
+
+    private boolean handleChunkPushMessage(ChunkPushMessage msg) {
+        BlockHeader blockHeader = msg.getBlockHeader();
+
+        // Other peers might still need the pushed chunk of a decoded block
+        if (isCompleted(blockHeader.getSequence())) {
+            boolean valid = isValidPushedChunk(msg);
+            if (!valid) {
+                logger.warn("Rejected late chunk: " + msg.getChunkHeader());
+            }
+            return valid;
+        }
+
+        ReassemblyTracker reassemblyTracker = getReassemblyTracker(blockHeader.getSequence());
+
+        // Every pushed chunk carries the block header
+        boolean admitted = false;
+        if (!reassemblyTracker.hasBlockHeader()) {
+            if (!blockHeader.hasValidChunkHashes()) {
+                logger.warn("Rejected block header: " + blockHeader);
+                return false;
+            }
+
+            // Admission control
+            // Only this peer got the pushed chunk, so its mesh still needs it
+            ByteBuffer payload = allocatePayload(reassemblyTracker, blockHeader);
+            if (payload == null) {
+                logger.warn("Rejected block, reassembly memory cap reached: " + blockHeader);
+                removeReassemblyTracker(reassemblyTracker);
+                return isValidPushedChunk(msg);
+            }
+
+            // Drop the block, when its duration expires
+            scheduleDeadline(reassemblyTracker, blockHeader.getDuration());
+
+            int rejected = reassemblyTracker.setBlockHeader(blockHeader, payload);
+            if (rejected > 0) {
+                logger.warn("Rejected " + rejected + " pending chunks of block: " + blockHeader);
+            }
+            admitted = true;
+        } else if (!reassemblyTracker.getBlockHeader().equals(blockHeader)) {
+            logger.warn("Rejected conflicting block header: " + blockHeader);
+            return false;
+        } else if (reassemblyTracker.isDecoding()) {
+            // The block is decoded without the chunk, but other peers might still need it
+            return isValidPushedChunk(msg);
+        }
+
+        boolean accepted = putChunk(reassemblyTracker,
+                                    msg.getChunkHeader(),
+                                    blockHeader.getHash(),
+                                    msg.getChunkPayload());
+
+        // The pending chunks alone might complete the block
+        if (accepted || admitted) {
+            completeIfPossible(reassemblyTracker);
+        }
+        return accepted;
+    }
+
+    private void handleChunkForwardingMessage(ChunkForwardingMessage msg) {
+        // The block was decoded without this chunk
+        if (isCompleted(msg.getChunkHeader().getSequence())) {
+            return;
+        }
+
+        ReassemblyTracker reassemblyTracker = getReassemblyTracker(msg.getChunkHeader().getSequence());
+
+        // Forwarders of other push groups split the same sequence differently
+        if (reassemblyTracker.isForeignChunk(msg.getBlockHash())) {
+            logger.debug("Dropped chunk of other push group: " + msg.getChunkHeader());
+            return;
+        } else if (reassemblyTracker.isDecoding()) {
+            // The block is decoded without this chunk
+            return;
+        }
+
+        if (putChunk(reassemblyTracker, msg.getChunkHeader(), msg.getBlockHash(), msg.getChunkPayload())) {
+            completeIfPossible(reassemblyTracker);
+        }
+    }
+
+    private void forgetRepairState(int sequence) {
+        neighbourChunkMaps.remove(sequence);
+        chunkRequestTimes.remove(sequence);
+    }
+
+    private void serveReassemblyTracker(ReassemblyTracker reassemblyTracker) {
+        // Neighbours might still miss chunks of the completed block
+        Duration remainingDuration = reassemblyTracker.getBlockHeader().getDuration().minus(reassemblyTracker.getAge());
+        if (remainingDuration.isNegative() || remainingDuration.isZero()) {
+            advertisedChunkMaps.remove(reassemblyTracker.getSequence());
+            return;
+        }
+
+        servedReassemblyTrackers.put(reassemblyTracker.getSequence(), reassemblyTracker.retain());
+        ctx.executor().schedule(() -> releaseServedReassemblyTracker(reassemblyTracker),
+                                remainingDuration.toNanos(),
+                                TimeUnit.NANOSECONDS);
+
+        if (servedReassemblyTrackers.size() > MAX_SERVED_BLOCKS) {
+            releaseOldestServedReassemblyTracker();
+        }
+    }
+
+    private void releaseServedReassemblyTracker(ReassemblyTracker reassemblyTracker) {
+        if (servedReassemblyTrackers.remove(reassemblyTracker.getSequence(), reassemblyTracker)) {
+            advertisedChunkMaps.remove(reassemblyTracker.getSequence());
+            reassemblyTracker.release();
+        }
+    }
+
+    private boolean releaseOldestServedReassemblyTracker() {
+        if (servedReassemblyTrackers.isEmpty()) {
+            return false;
+        }
+        releaseServedReassemblyTracker(servedReassemblyTrackers.values().iterator().next());
+        return true;
+    }
+
+    private void scheduleRepair() {
+        ctx.executor().schedule(this::repair, REPAIR_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void repair() {
+        if (!ctx.channel().isActive()) {
+            return;
+        }
+
+        advertiseChunkMaps();
+        requestMissingChunks();
+        scheduleRepair();
+    }
+
+    private void advertiseChunkMaps() {
+        if (engagedOutboundChannels.isEmpty()) {
+            return;
+        }
+
+        // Only changed chunk maps are advertised
+        Stream.concat(pendingReassemblyTrackers.values().stream(), servedReassemblyTrackers.values().stream())
+              .filter(ReassemblyTracker::hasBlockHeader)
+              .forEach(reassemblyTracker -> {
+                  BitSet chunks = reassemblyTracker.getReceivedChunks();
+                  if (chunks.isEmpty() || chunks.equals(advertisedChunkMaps.get(reassemblyTracker.getSequence()))) {
+                      return;
+                  }
+                  advertisedChunkMaps.put(reassemblyTracker.getSequence(), chunks);
+
+                  ChunkMapMessage chunkMapMessage = new ChunkMapMessage(reassemblyTracker.getSequence(),
+                                                                        reassemblyTracker.getBlockHeader().getHash(),
+                                                                        chunks);
+                  engagedOutboundChannels.values()
+                                         .forEach(c -> c.writeAndFlush(chunkMapMessage)
+                                                        .addListener(ChannelFutureListener.CLOSE_ON_FAILURE));
+              });
+    }
+
+    private boolean isStalled(ReassemblyTracker reassemblyTracker) {
+        if (!reassemblyTracker.hasBlockHeader() || reassemblyTracker.isCompleted() || reassemblyTracker.isDecoding()) {
+            return false;
+        }
+
+        // Give push and forwarding a chance first, but never request beyond the block duration
+        long duration = reassemblyTracker.getBlockHeader().getDuration().toNanos();
+        long age = reassemblyTracker.getAge().toNanos();
+        return age >= duration * REPAIR_DELAY_RATIO && age < duration;
+    }
+
+    private void requestMissingChunks() {
+        int requestedChunks = 0;
+        for (ReassemblyTracker reassemblyTracker : pendingReassemblyTrackers.values()) {
+            if (requestedChunks >= MAX_REQUESTED_CHUNKS) {
+                break;
+            }
+            if (isStalled(reassemblyTracker)) {
+                requestedChunks += requestMissingChunks(reassemblyTracker, MAX_REQUESTED_CHUNKS - requestedChunks);
+            }
+        }
+    }
+
+    private int requestMissingChunks(ReassemblyTracker reassemblyTracker, int maxRequestedChunks) {
+        int sequence = reassemblyTracker.getSequence();
+        BlockHeader blockHeader = reassemblyTracker.getBlockHeader();
+        Map<Channel, ChunkMapMessage> chunkMaps = neighbourChunkMaps.getOrDefault(sequence, Collections.emptyMap());
+
+        // Forget received chunks and unanswered requests
+        long now = System.nanoTime();
+        BitSet receivedChunks = reassemblyTracker.getReceivedChunks();
+        Map<Integer, Long> requestTimes = chunkRequestTimes.computeIfAbsent(sequence, k -> new HashMap<>());
+        requestTimes.keySet().removeIf(receivedChunks::get);
+        requestTimes.values().removeIf(t -> now - t >= REQUEST_TIMEOUT.toNanos());
+
+        // Request only as many chunks as needed for decoding
+        int missingChunks = blockHeader.getDataChunkCount() - receivedChunks.cardinality() - requestTimes.size();
+        int maxChunks = Math.min(maxRequestedChunks, missingChunks);
+
+        // Spread the requests over all neighbours, which have the missing chunks
+        Map<Channel, BitSet> requests = new HashMap<>();
+        int requestedChunks = 0;
+        for (int i = receivedChunks.nextClearBit(0);
+             i < blockHeader.getChunkCount() && requestedChunks < maxChunks;
+             i = receivedChunks.nextClearBit(i + 1)) {
+            if (requestTimes.containsKey(i)) {
+                continue;
+            }
+
+            int chunkIndex = i;
+            Optional<Channel> neighbour = chunkMaps.entrySet()
+                                                   .stream()
+                                                   .filter(e -> e.getKey().isActive())
+                                                   .filter(e -> e.getValue()
+                                                                 .getBlockHash()
+                                                                 .equals(blockHeader.getHash()))
+                                                   .filter(e -> e.getValue().getChunks().get(chunkIndex))
+                                                   .map(Map.Entry::getKey)
+                                                   .min(Comparator.comparingInt(
+                                                           c -> requests.getOrDefault(c, new BitSet()).cardinality()));
+            if (neighbour.isPresent()) {
+                requests.computeIfAbsent(neighbour.get(), c -> new BitSet()).set(chunkIndex);
+                requestTimes.put(chunkIndex, now);
+                requestedChunks++;
+            }
+        }
+
+        requests.forEach((c, chunks) -> {
+            logger.info("Requesting " + chunks.cardinality() + " missing chunks of block: " + blockHeader);
+            c.writeAndFlush(new ChunkRequestMessage(sequence, blockHeader.getHash(), chunks))
+             .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+        });
+        return requestedChunks;
+    }
+
+    private void handleChunkMapEvent(ChunkMapEvent evt) {
+        // Completed blocks do not need repair
+        ChunkMapMessage chunkMapMessage = evt.getChunkMapMessage();
+        int sequence = chunkMapMessage.getSequence();
+        ReassemblyTracker reassemblyTracker = pendingReassemblyTrackers.get(sequence);
+        if (isCompleted(sequence) ||
+            reassemblyTracker != null && reassemblyTracker.isForeignChunk(chunkMapMessage.getBlockHash())) {
+            return;
+        }
+
+        // Chunk maps might arrive before the block header
+        neighbourChunkMaps.computeIfAbsent(sequence, k -> new HashMap<>()).put(evt.getChannel(), chunkMapMessage);
+
+        if (neighbourChunkMaps.size() > MAX_CHUNK_MAP_SEQUENCES) {
+            Iterator<Integer> it = neighbourChunkMaps.keySet().iterator();
+            it.next();
+            it.remove();
+        }
+    }
+
+    private void handleChunkRequestEvent(ChunkRequestEvent evt) {
+        ChunkRequestMessage chunkRequestMessage = evt.getChunkRequestMessage();
+        int sequence = chunkRequestMessage.getSequence();
+
+        // Serve completed and incomplete blocks
+        ReassemblyTracker reassemblyTracker = servedReassemblyTrackers.get(sequence);
+        if (reassemblyTracker == null) {
+            reassemblyTracker = pendingReassemblyTrackers.get(sequence);
+        }
+        if (reassemblyTracker == null ||
+            !reassemblyTracker.hasBlockHeader() ||
+            !reassemblyTracker.getBlockHeader().getHash().equals(chunkRequestMessage.getBlockHash())) {
+            return;
+        }
+
+        // The chunks are useless after the block duration
+        BlockHeader blockHeader = reassemblyTracker.getBlockHeader();
+        Duration remainingDuration = blockHeader.getDuration().minus(reassemblyTracker.getAge());
+        if (remainingDuration.isNegative() || remainingDuration.isZero() || !evt.getChannel().isActive()) {
+            return;
+        }
+
+        ReassemblyTracker servedReassemblyTracker = reassemblyTracker;
+        List<Integer> chunkIndices = chunkRequestMessage.getChunks()
+                                                        .stream()
+                                                        .filter(servedReassemblyTracker::hasChunk)
+                                                        .limit(MAX_SERVED_CHUNKS)
+                                                        .boxed()
+                                                        .collect(Collectors.toList());
+        if (chunkIndices.isEmpty()) {
+            return;
+        }
+
+        serveChunks(evt.getChannel(), servedReassemblyTracker, chunkIndices, remainingDuration);
+    }
+
+    private void serveChunks(Channel channel,
+                             ReassemblyTracker reassemblyTracker,
+                             List<Integer> chunkIndices,
+                             Duration remainingDuration) {
+        // The chunks are sent from the reassembly buffer, so keep it until all writes completed
+        BlockHeader blockHeader = reassemblyTracker.getBlockHeader();
+        WriteDeadline writeDeadline = NettyUtil.newWriteDeadline(remainingDuration);
+        reassemblyTracker.retain();
+
+        List<ChannelFuture> cfs = chunkIndices.stream().map(chunkIndex -> {
+            ChunkForwardingMessage chunkForwardingMessage =
+                    new ChunkForwardingMessage(new ChunkHeader(blockHeader.getSequence(),
+                                                               chunkIndex,
+                                                               blockHeader.getChunkSize(chunkIndex)),
+                                               blockHeader.getHash(),
+                                               Unpooled.wrappedBuffer(reassemblyTracker.sliceChunk(chunkIndex)));
+            return writeDeadline.writeAndFlush(channel,
+                                               ChunkMessageCodec.encodeFrame(channel.alloc(),
+                                                                             chunkForwardingMessage,
+                                                                             blockHeader.getPriority()));
+        }).collect(Collectors.toList());
+
+        new ChannelFutureTracker(cfs, cft -> {
+            writeDeadline.cancel();
+            reassemblyTracker.release();
+        });
+
+        logger.info("Serving " + chunkIndices.size() + " requested chunks of block: " + blockHeader);
+    }
+
+    private void handleConnectionEvent(ConnectionEvent evt) {
+        if (evt.getConnectionChangeEvent().getDirection() == ConnectionChangeEvent.Direction.Outbound) {
+            engagedOutboundChannels = evt.getEngagedConnections();
+        }
+    }
+
+    public ReassemblyHandler(ReassemblyBufferPool reassemblyBufferPool, Executor decodeExecutor) {
+        Objects.requireNonNull(reassemblyBufferPool);
+        Objects.requireNonNull(decodeExecutor);
+        this.reassemblyBufferPool = reassemblyBufferPool;
+        this.decodeExecutor = decodeExecutor;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        scheduleRepair();
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        // Release all pending chunks
+        pendingReassemblyTrackers.values().forEach(ReassemblyTracker::release);
+        pendingReassemblyTrackers.clear();
+        servedReassemblyTrackers.values().forEach(ReassemblyTracker::release);
+        servedReassemblyTrackers.clear();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof ConnectionEvent) {
+            handleConnectionEvent((ConnectionEvent) evt);
+        } else if (evt instanceof ChunkMapEvent) {
+            handleChunkMapEvent((ChunkMapEvent) evt);
+        } else if (evt instanceof ChunkRequestEvent) {
+            handleChunkRequestEvent((ChunkRequestEvent) evt);
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof ChunkPushMessage) {
+            // Only forward valid chunks, even if the block was not admitted
+            if (handleChunkPushMessage((ChunkPushMessage) msg)) {
+                super.channelRead(ctx, msg);
+            } else {
+                ReferenceCountUtil.release(msg);
+            }
+        } else if (msg instanceof ChunkForwardingMessage) {
+            try {
+                handleChunkForwardingMessage((ChunkForwardingMessage) msg);
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
+        } else {
+            super.channelRead(ctx, msg);
+        }
+    }
+}
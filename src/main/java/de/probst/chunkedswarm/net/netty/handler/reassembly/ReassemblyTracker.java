@@ -0,0 +1,353 @@
+package de.probst.chunkedswarm.net.netty.handler.reassembly;
+
+import de.probst.chunkedswarm.net.netty.util.ReassemblyBufferPool;
+import de.probst.chunkedswarm.util.BlockHeader;
+import de.probst.chunkedswarm.util.ChunkHeader;
+import de.probst.chunkedswarm.util.Hash;
+import de.probst.chunkedswarm.util.ReedSolomon;
+import io.netty.buffer.ByteBuf;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Reassembles a single block from its chunks.
+ * <p>
+ * Chunks, which arrive before the block header, are retained
+ * until the block header is known and verified afterwards.
+ * They are reserved in the reassembly buffer pool meanwhile.
+ * Chunks of other push groups of the same sequence belong to another
+ * block hash and are dropped, once the block header is known.
+ * <p>
+ * Erasure coded blocks are decoded off the event loop, as soon as enough data
+ * and parity chunks are received. No chunks are inserted while decoding.
+ * <p>
+ * The tracker is reference counted, so received chunks can be served to
+ * neighbours, while the receiver of the completed block still uses it.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 28.08.15
+ */
+public final class ReassemblyTracker {
+
+    private final int sequence;
+    private final ReassemblyBufferPool reassemblyBufferPool;
+
+    // The arrival of the first chunk
+    private final long creationTime = System.nanoTime();
+
+    // Chunks received before the block header, indexed by block hash and chunk index
+    private final Map<Hash, Map<Integer, ByteBuf>> pendingChunks = new HashMap<>();
+
+    private BlockHeader blockHeader;
+
+    // The pooled buffer, which holds the payload followed by the parity
+    private ByteBuffer buffer;
+    private ByteBuffer payload;
+    private ByteBuffer parity;
+    private BitSet receivedChunks;
+
+    // Set, while the missing data chunks are reconstructed
+    private boolean decoding;
+
+    // Drops the block, when it becomes stale
+    private ScheduledFuture<?> deadline;
+
+    // The buffer is returned to the pool, when the last reference is released
+    private final AtomicInteger refCnt = new AtomicInteger(1);
+
+    private boolean insertChunk(ChunkHeader chunkHeader, ByteBuf chunkPayload) {
+        int chunkIndex = chunkHeader.getChunkIndex();
+
+        // Check the chunk against the block header
+        if (isCompleted() || decoding ||
+            chunkIndex < 0 || chunkIndex >= blockHeader.getChunkCount() ||
+            chunkHeader.getSize() != blockHeader.getChunkSize(chunkIndex) ||
+            chunkPayload.readableBytes() != chunkHeader.getSize() ||
+            receivedChunks.get(chunkIndex)) {
+            return false;
+        }
+
+        // Copy the chunk to its offset
+        ByteBuffer chunk = blockHeader.sliceChunkPayload(chunkIndex, payload, parity);
+        chunkPayload.getBytes(chunkPayload.readerIndex(), chunk.duplicate());
+
+        // Verify the copied chunk
+        if (!blockHeader.isValidChunkPayload(chunkIndex, chunk)) {
+            return false;
+        }
+
+        receivedChunks.set(chunkIndex);
+        return true;
+    }
+
+    private void releasePendingChunk(ByteBuf chunkPayload) {
+        reassemblyBufferPool.unreserve(chunkPayload.readableBytes());
+        chunkPayload.release();
+    }
+
+    private void releasePendingChunks() {
+        pendingChunks.values().forEach(chunks -> chunks.values().forEach(this::releasePendingChunk));
+        pendingChunks.clear();
+    }
+
+    public ReassemblyTracker(int sequence, ReassemblyBufferPool reassemblyBufferPool) {
+        Objects.requireNonNull(reassemblyBufferPool);
+        this.sequence = sequence;
+        this.reassemblyBufferPool = reassemblyBufferPool;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public Duration getAge() {
+        return Duration.ofNanos(System.nanoTime() - creationTime);
+    }
+
+    public void setDeadline(ScheduledFuture<?> deadline) {
+        Objects.requireNonNull(deadline);
+        cancelDeadline();
+        this.deadline = deadline;
+    }
+
+    public void cancelDeadline() {
+        if (deadline != null) {
+            deadline.cancel(false);
+            deadline = null;
+        }
+    }
+
+    public boolean hasBlockHeader() {
+        return blockHeader != null;
+    }
+
+    public BlockHeader getBlockHeader() {
+        return blockHeader;
+    }
+
+    public ByteBuffer getPayload() {
+        return payload;
+    }
+
+    /**
+     * @return true, if the chunk was received or decoded
+     */
+    public boolean hasChunk(int chunkIndex) {
+        return receivedChunks != null && chunkIndex >= 0 && receivedChunks.get(chunkIndex);
+    }
+
+    /**
+     * @return a copy of the received and decoded chunk indices
+     */
+    public BitSet getReceivedChunks() {
+        return receivedChunks != null ? (BitSet) receivedChunks.clone() : new BitSet();
+    }
+
+    /**
+     * The slice is only valid until the tracker is released.
+     *
+     * @return the payload of a received or decoded chunk
+     */
+    public ByteBuffer sliceChunk(int chunkIndex) {
+        if (!hasChunk(chunkIndex)) {
+            throw new IllegalArgumentException("!hasChunk(chunkIndex)");
+        }
+        return blockHeader.sliceChunkPayload(chunkIndex, payload, parity);
+    }
+
+    /**
+     * @return true, if enough chunks are received to reconstruct the missing data chunks
+     */
+    public boolean isDecodable() {
+        return blockHeader != null &&
+               !decoding &&
+               !isCompleted() &&
+               receivedChunks.cardinality() >= blockHeader.getDataChunkCount();
+    }
+
+    public boolean isDecoding() {
+        return decoding;
+    }
+
+    /**
+     * Reconstructs the missing data chunks on the executor.
+     * The tracker has to be retained and must not be changed until
+     * {@link #finishDecoding(boolean)} is called.
+     *
+     * @return the future of the reconstruction
+     */
+    public CompletableFuture<Void> decodeAsync(Executor executor) {
+        Objects.requireNonNull(executor);
+        if (!isDecodable()) {
+            throw new IllegalStateException("!isDecodable()");
+        }
+
+        // Only missing data chunks are written, received chunks can still be served meanwhile
+        decoding = true;
+        BitSet present = (BitSet) receivedChunks.clone();
+        List<ByteBuffer> chunks = IntStream.range(0, blockHeader.getChunkCount())
+                                           .mapToObj(i -> blockHeader.sliceChunkPayload(i, payload, parity))
+                                           .collect(Collectors.toList());
+        ReedSolomon reedSolomon = new ReedSolomon(blockHeader.getDataChunkCount(), blockHeader.getParityChunkCount());
+        return CompletableFuture.runAsync(() -> reedSolomon.reconstructData(chunks, present), executor);
+    }
+
+    /**
+     * Marks all data chunks as received, if the reconstruction succeeded.
+     */
+    public void finishDecoding(boolean decoded) {
+        if (!decoding) {
+            throw new IllegalStateException("!decoding");
+        }
+        decoding = false;
+        if (decoded) {
+            receivedChunks.set(0, blockHeader.getDataChunkCount());
+        }
+    }
+
+    /**
+     * @return true, if all data chunks are received or decoded
+     */
+    public boolean isCompleted() {
+        return blockHeader != null && receivedChunks.nextClearBit(0) >= blockHeader.getDataChunkCount();
+    }
+
+    /**
+     * Sets the verified block header and inserts all pending chunks.
+     * The buffer has to be allocated from the reassembly buffer pool
+     * with the encoded size of the block and is released together with
+     * this tracker.
+     *
+     * @return the number of rejected pending chunks
+     */
+    public int setBlockHeader(BlockHeader blockHeader, ByteBuffer buffer) {
+        Objects.requireNonNull(blockHeader);
+        Objects.requireNonNull(buffer);
+        if (blockHeader.getSequence() != sequence) {
+            throw new IllegalArgumentException("blockHeader.getSequence() != sequence");
+        } else if (this.blockHeader != null) {
+            throw new IllegalStateException("this.blockHeader != null");
+        } else if (buffer.remaining() != blockHeader.getEncodedSize()) {
+            throw new IllegalArgumentException("buffer.remaining() != blockHeader.getEncodedSize()");
+        }
+
+        // The buffer is preallocated for the whole block
+        this.blockHeader = blockHeader;
+        this.buffer = buffer;
+        ByteBuffer dup = buffer.duplicate();
+        dup.limit(dup.position() + blockHeader.getSize());
+        payload = dup.slice();
+        dup.position(dup.limit()).limit(buffer.limit());
+        parity = dup.slice();
+        receivedChunks = new BitSet(blockHeader.getChunkCount());
+
+        // Chunks of other push groups do not belong to this block
+        Map<Integer, ByteBuf> matchingChunks = pendingChunks.remove(blockHeader.getHash());
+        releasePendingChunks();
+        if (matchingChunks == null) {
+            return 0;
+        }
+
+        // Insert all pending chunks
+        int rejected = 0;
+        Iterator<Map.Entry<Integer, ByteBuf>> it = matchingChunks.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, ByteBuf> pendingChunk = it.next();
+            ByteBuf chunkPayload = pendingChunk.getValue();
+            it.remove();
+            try {
+                ChunkHeader chunkHeader = new ChunkHeader(sequence,
+                                                          pendingChunk.getKey(),
+                                                          chunkPayload.readableBytes());
+                // Chunks beyond a decoded block are not needed anymore
+                if (!isCompleted() && !insertChunk(chunkHeader, chunkPayload)) {
+                    rejected++;
+                }
+            } finally {
+                releasePendingChunk(chunkPayload);
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * @return true, if the chunk belongs to another block with the same sequence
+     */
+    public boolean isForeignChunk(Hash blockHash) {
+        return blockHeader != null && !blockHeader.getHash().equals(blockHash);
+    }
+
+    /**
+     * Puts the chunk into the block. The chunk payload is not released.
+     * Chunks before the block header are rejected, if the memory cap is reached.
+     *
+     * @return false, if the chunk was rejected
+     */
+    public boolean putChunk(ChunkHeader chunkHeader, Hash blockHash, ByteBuf chunkPayload) {
+        if (chunkHeader.getSequence() != sequence) {
+            throw new IllegalArgumentException("chunkHeader.getSequence() != sequence");
+        }
+
+        // Keep the chunk until the block header is known
+        if (blockHeader == null) {
+            Map<Integer, ByteBuf> chunks = pendingChunks.computeIfAbsent(blockHash, k -> new HashMap<>());
+            if (chunks.containsKey(chunkHeader.getChunkIndex()) ||
+                chunkPayload.readableBytes() != chunkHeader.getSize() ||
+                !reassemblyBufferPool.reserve(chunkPayload.readableBytes())) {
+                return false;
+            }
+            chunks.put(chunkHeader.getChunkIndex(), chunkPayload.retain());
+            return true;
+        }
+
+        return !isForeignChunk(blockHash) && insertChunk(chunkHeader, chunkPayload);
+    }
+
+    public ReassemblyTracker retain() {
+        if (refCnt.getAndIncrement() <= 0) {
+            throw new IllegalStateException("refCnt <= 0");
+        }
+        return this;
+    }
+
+    public void release() {
+        if (refCnt.decrementAndGet() > 0) {
+            return;
+        }
+
+        cancelDeadline();
+        releasePendingChunks();
+
+        // Return the buffer to the pool
+        if (buffer != null) {
+            reassemblyBufferPool.release(buffer);
+            buffer = null;
+            payload = null;
+            parity = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReassemblyTracker{" +
+               "sequence=" + sequence +
+               ", blockHeader=" + blockHeader +
+               ", pendingChunks=" + pendingChunks.values().stream().mapToInt(Map::size).sum() +
+               ", receivedChunks=" + receivedChunks +
+               ", decoding=" + decoding +
+               '}';
+    }
+}
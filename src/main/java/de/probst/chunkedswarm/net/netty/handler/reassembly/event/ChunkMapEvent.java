@@ -0,0 +1,60 @@
+package de.probst.chunkedswarm.net.netty.handler.reassembly.event;
+
+import de.probst.chunkedswarm.net.netty.handler.reassembly.message.ChunkMapMessage;
+import io.netty.channel.Channel;
+
+import java.util.Objects;
+
+/**
+ * A neighbour advertised its chunks on the given channel.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 11.09.15
+ */
+public final class ChunkMapEvent {
+
+    private final Channel channel;
+    private final ChunkMapMessage chunkMapMessage;
+
+    public ChunkMapEvent(Channel channel, ChunkMapMessage chunkMapMessage) {
+        Objects.requireNonNull(channel);
+        Objects.requireNonNull(chunkMapMessage);
+        this.channel = channel;
+        this.chunkMapMessage = chunkMapMessage;
+    }
+
+    public Channel getChannel() {
+        return channel;
+    }
+
+    public ChunkMapMessage getChunkMapMessage() {
+        return chunkMapMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ChunkMapEvent that = (ChunkMapEvent) o;
+
+        if (!channel.equals(that.channel)) return false;
+        return chunkMapMessage.equals(that.chunkMapMessage);
+
+    }
+
+    @Override
+    public int hashCode() {
+        int result = channel.hashCode();
+        result = 31 * result + chunkMapMessage.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkMapEvent{" +
+               "channel=" + channel +
+               ", chunkMapMessage=" + chunkMapMessage +
+               '}';
+    }
+}
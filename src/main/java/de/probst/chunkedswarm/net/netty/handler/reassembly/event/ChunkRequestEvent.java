@@ -0,0 +1,60 @@
+package de.probst.chunkedswarm.net.netty.handler.reassembly.event;
+
+import de.probst.chunkedswarm.net.netty.handler.reassembly.message.ChunkRequestMessage;
+import io.netty.channel.Channel;
+
+import java.util.Objects;
+
+/**
+ * A neighbour requested chunks on the given channel.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 11.09.15
+ */
+public final class ChunkRequestEvent {
+
+    private final Channel channel;
+    private final ChunkRequestMessage chunkRequestMessage;
+
+    public ChunkRequestEvent(Channel channel, ChunkRequestMessage chunkRequestMessage) {
+        Objects.requireNonNull(channel);
+        Objects.requireNonNull(chunkRequestMessage);
+        this.channel = channel;
+        this.chunkRequestMessage = chunkRequestMessage;
+    }
+
+    public Channel getChannel() {
+        return channel;
+    }
+
+    public ChunkRequestMessage getChunkRequestMessage() {
+        return chunkRequestMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ChunkRequestEvent that = (ChunkRequestEvent) o;
+
+        if (!channel.equals(that.channel)) return false;
+        return chunkRequestMessage.equals(that.chunkRequestMessage);
+
+    }
+
+    @Override
+    public int hashCode() {
+        int result = channel.hashCode();
+        result = 31 * result + chunkRequestMessage.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkRequestEvent{" +
+               "channel=" + channel +
+               ", chunkRequestMessage=" + chunkRequestMessage +
+               '}';
+    }
+}
@@ -0,0 +1,48 @@
+package de.probst.chunkedswarm.net.netty.handler.reassembly.event;
+
+import de.probst.chunkedswarm.net.netty.handler.reassembly.ReassemblyTracker;
+
+import java.util.Objects;
+
+/**
+ * The receiver of this event takes over the reassembly tracker and has to release it.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 28.08.15
+ */
+public final class ReassemblyCompletedEvent {
+
+    private final ReassemblyTracker reassemblyTracker;
+
+    public ReassemblyCompletedEvent(ReassemblyTracker reassemblyTracker) {
+        Objects.requireNonNull(reassemblyTracker);
+        this.reassemblyTracker = reassemblyTracker;
+    }
+
+    public ReassemblyTracker getReassemblyTracker() {
+        return reassemblyTracker;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ReassemblyCompletedEvent that = (ReassemblyCompletedEvent) o;
+
+        return reassemblyTracker.equals(that.reassemblyTracker);
+
+    }
+
+    @Override
+    public int hashCode() {
+        return reassemblyTracker.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ReassemblyCompletedEvent{" +
+               "reassemblyTracker=" + reassemblyTracker +
+               '}';
+    }
+}
@@ -0,0 +1,70 @@
+package de.probst.chunkedswarm.net.netty.handler.reassembly.message;
+
+import de.probst.chunkedswarm.util.Hash;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Requests missing chunks of a block from a neighbour, which advertised them.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 11.09.15
+ */
+public final class ChunkRequestMessage implements Serializable {
+
+    private final int sequence;
+    private final Hash blockHash;
+    private final BitSet chunks;
+
+    public ChunkRequestMessage(int sequence, Hash blockHash, BitSet chunks) {
+        Objects.requireNonNull(blockHash);
+        Objects.requireNonNull(chunks);
+        this.sequence = sequence;
+        this.blockHash = blockHash;
+        this.chunks = (BitSet) chunks.clone();
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public Hash getBlockHash() {
+        return blockHash;
+    }
+
+    public BitSet getChunks() {
+        return chunks;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ChunkRequestMessage that = (ChunkRequestMessage) o;
+
+        if (sequence != that.sequence) return false;
+        if (!blockHash.equals(that.blockHash)) return false;
+        return chunks.equals(that.chunks);
+
+    }
+
+    @Override
+    public int hashCode() {
+        int result = sequence;
+        result = 31 * result + blockHash.hashCode();
+        result = 31 * result + chunks.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkRequestMessage{" +
+               "sequence=" + sequence +
+               ", blockHash=" + blockHash +
+               ", chunks=" + chunks +
+               '}';
+    }
+}
@@ -0,0 +1,197 @@
+package de.probst.chunkedswarm.net.netty.handler.scheduling;
+
+import de.probst.chunkedswarm.net.netty.handler.codec.chunk.ChunkFragment;
+import de.probst.chunkedswarm.net.netty.handler.codec.chunk.ChunkFrame;
+import de.probst.chunkedswarm.net.netty.handler.codec.chunk.ChunkMessageCodec;
+import de.probst.chunkedswarm.net.netty.handler.forwarding.message.ChunkForwardingMessage;
+import de.probst.chunkedswarm.net.netty.handler.push.message.ChunkPushMessage;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Schedules chunk writes by priority until the channel is writable.
+ * <p>
+ * Chunks of blocks with a higher priority value are sent first, chunks of blocks with
+ * the same priority are sent in order of their sequence. Frames, which are larger than
+ * the maximum fragment size, are sent as fragments, so a large block never delays a more
+ * important block by more than a single fragment. At most as many frames are
+ * fragmented at once, as the receiver accepts. Beyond that, the started frames
+ * are finished first.
+ * <p>
+ * Chunks wait here instead of in the outbound buffer, so queued writes can still
+ * be cancelled, e.g. when their block expires. Control messages are never queued.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 31.08.15
+ */
+public final class ChunkWriteScheduler extends ChannelHandlerAdapter {
+
+    public static final int MAX_FRAGMENT_SIZE = 1024 * 64;
+
+    private static final class QueuedWrite {
+
+        private final ChunkFrame chunkFrame;
+        private final ChannelPromise promise;
+        private final long arrival;
+
+        // Set, when the first fragment was sent
+        private boolean started;
+        private int streamID;
+
+        private QueuedWrite(ChunkFrame chunkFrame, ChannelPromise promise, long arrival) {
+            this.chunkFrame = chunkFrame;
+            this.promise = promise;
+            this.arrival = arrival;
+        }
+    }
+
+    private static final Comparator<QueuedWrite> SCHEDULING_ORDER =
+            Comparator.<QueuedWrite>comparingInt(w -> -w.chunkFrame.getPriority())
+                    .thenComparingInt(w -> w.chunkFrame.getSequence())
+                    .thenComparingLong(w -> w.arrival);
+
+    private final Queue<QueuedWrite> queuedWrites = new PriorityQueue<>(SCHEDULING_ORDER);
+
+    // Queued writes, whose first fragment was sent
+    private final Set<QueuedWrite> startedWrites = new LinkedHashSet<>();
+
+    // Counts all queued writes
+    private long arrivals;
+
+    // The next id of a fragmented frame
+    private int nextStreamID;
+
+    private static ChunkFrame toChunkFrame(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof ChunkFrame) {
+            return (ChunkFrame) msg;
+        } else if (msg instanceof ChunkPushMessage) {
+            return ChunkMessageCodec.encodeFrame(ctx.alloc(), (ChunkPushMessage) msg);
+        } else if (msg instanceof ChunkForwardingMessage) {
+            return ChunkMessageCodec.encodeFrame(ctx.alloc(),
+                                                 (ChunkForwardingMessage) msg,
+                                                 ChunkMessageCodec.DEFAULT_PRIORITY);
+        } else {
+            return null;
+        }
+    }
+
+    private void writeFragment(ChannelHandlerContext ctx, QueuedWrite queuedWrite) {
+        // The frame can not be cancelled, once the receiver got parts of it
+        if (!queuedWrite.started) {
+            queuedWrite.started = true;
+            queuedWrite.streamID = nextStreamID++;
+            queuedWrite.promise.setUncancellable();
+            startedWrites.add(queuedWrite);
+        }
+
+        ChunkFragment chunkFragment = queuedWrite.chunkFrame.readFragment(queuedWrite.streamID, MAX_FRAGMENT_SIZE);
+        if (chunkFragment.isLast()) {
+            queuedWrites.remove(queuedWrite);
+            startedWrites.remove(queuedWrite);
+            queuedWrite.chunkFrame.release();
+            ctx.write(chunkFragment, queuedWrite.promise).addListener(fut -> {
+                if (!fut.isSuccess()) {
+                    abortStream(ctx, queuedWrite.streamID);
+                }
+            });
+        } else {
+            // Fail the whole frame, if a single fragment fails
+            ctx.write(chunkFragment).addListener(fut -> {
+                if (!fut.isSuccess() && queuedWrites.remove(queuedWrite)) {
+                    startedWrites.remove(queuedWrite);
+                    queuedWrite.chunkFrame.release();
+                    queuedWrite.promise.tryFailure(fut.cause());
+                    abortStream(ctx, queuedWrite.streamID);
+                }
+            });
+        }
+    }
+
+    private void abortStream(ChannelHandlerContext ctx, int streamID) {
+        // Let the receiver drop the unfinished frame
+        if (ctx.channel().isActive()) {
+            ctx.writeAndFlush(ChunkFragment.aborted(streamID));
+        }
+    }
+
+    private void drain(ChannelHandlerContext ctx) {
+        boolean written = false;
+        QueuedWrite queuedWrite;
+        while (ctx.channel().isWritable() && (queuedWrite = queuedWrites.peek()) != null) {
+            if (!queuedWrite.started && queuedWrite.chunkFrame.content().readableBytes() <= MAX_FRAGMENT_SIZE) {
+                // Small frames are written as a whole
+                queuedWrites.poll();
+                ctx.write(queuedWrite.chunkFrame, queuedWrite.promise);
+            } else if (!queuedWrite.started && startedWrites.size() >= ChunkMessageCodec.MAX_FRAGMENTED_FRAMES) {
+                // The receiver does not accept more streams, so continue the most important started frame
+                writeFragment(ctx, startedWrites.stream().min(SCHEDULING_ORDER).get());
+            } else {
+                writeFragment(ctx, queuedWrite);
+            }
+            written = true;
+        }
+
+        if (written) {
+            ctx.flush();
+        }
+    }
+
+    private void failQueuedWrites(Throwable cause) {
+        startedWrites.clear();
+        QueuedWrite queuedWrite;
+        while ((queuedWrite = queuedWrites.poll()) != null) {
+            queuedWrite.chunkFrame.release();
+            queuedWrite.promise.tryFailure(cause);
+        }
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        ChunkFrame chunkFrame = toChunkFrame(ctx, msg);
+        if (chunkFrame == null) {
+            super.write(ctx, msg, promise);
+            return;
+        }
+
+        // Drop cancelled writes right away
+        QueuedWrite queuedWrite = new QueuedWrite(chunkFrame, promise, arrivals++);
+        queuedWrites.offer(queuedWrite);
+        promise.addListener(fut -> {
+            if (fut.isCancelled() && queuedWrites.remove(queuedWrite)) {
+                queuedWrite.chunkFrame.release();
+            }
+        });
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        drain(ctx);
+        super.flush(ctx);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        drain(ctx);
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        failQueuedWrites(new ClosedChannelException());
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        failQueuedWrites(new ClosedChannelException());
+        super.handlerRemoved(ctx);
+    }
+}
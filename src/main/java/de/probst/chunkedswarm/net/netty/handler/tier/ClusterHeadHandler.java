@@ -0,0 +1,302 @@
+package de.probst.chunkedswarm.net.netty.handler.tier;
+
+import de.probst.chunkedswarm.net.netty.handler.connection.event.ConnectionChangeEvent;
+import de.probst.chunkedswarm.net.netty.handler.connection.event.ConnectionEvent;
+import de.probst.chunkedswarm.net.netty.handler.discovery.event.SwarmIDAcquisitionEvent;
+import de.probst.chunkedswarm.net.netty.handler.push.PushTracker;
+import de.probst.chunkedswarm.net.netty.handler.push.event.PushCompletedEvent;
+import de.probst.chunkedswarm.net.netty.handler.push.message.SupersessionMessage;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.ReassemblyTracker;
+import de.probst.chunkedswarm.net.netty.handler.reassembly.event.ReassemblyCompletedEvent;
+import de.probst.chunkedswarm.net.netty.handler.tier.event.ClusterAssignmentEvent;
+import de.probst.chunkedswarm.net.netty.handler.tier.message.ClusterAssignmentMessage;
+import de.probst.chunkedswarm.util.BlockHeader;
+import de.probst.chunkedswarm.util.SwarmID;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Cluster heads push every reassembled block to their own cluster.
+ * <p>
+ * The distributor only pushes to the head clusters, so every head re-chunks the
+ * block for the members of its cluster, which forward their chunks as usual.
+ * The chunks are sent from the reassembly buffer, which is retained until
+ * the cluster push completes.
+ * Cluster pushes of blocks, which the distributor superseded, are cancelled.
+ * <p>
+ * Handler sends to owner channel:
+ * - ClusterAssignmentEvent
+ * - PushCompletedEvent
+ * <p>
+ * Handler listens to:
+ * - SwarmIDAcquisitionEvent
+ * - ConnectionEvent
+ * - ReassemblyCompletedEvent
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 08.09.15
+ */
+public final class ClusterHeadHandler extends ChannelHandlerAdapter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterHeadHandler.class);
+
+    // Used to compute block headers off the event loop
+    private final Executor hashExecutor;
+
+    // Used to track pending push trackers and their retained reassembly trackers
+    private final Map<PushTracker, ReassemblyTracker> pendingPushTrackers = new LinkedHashMap<>();
+
+    // The channel handler context
+    private ChannelHandlerContext ctx;
+
+    // The local swarm id
+    private SwarmID localSwarmID;
+
+    // The latest cluster assignment
+    private ClusterAssignmentEvent clusterAssignmentEvent;
+
+    // Latest known engaged outbound channels
+    private Map<SwarmID, Channel> engagedOutboundChannels = Collections.emptyMap();
+
+    // All blocks below this sequence are superseded
+    private int lowestSequence = Integer.MIN_VALUE;
+
+    private void firePushCompleted(PushTracker pushTracker) {
+        // Writes complete on the event loops of the members and might fail, before the push tracker is added
+        ctx.executor().execute(() -> ctx.pipeline().fireUserEventTriggered(new PushCompletedEvent(pushTracker)));
+    }
+
+    private void fireClusterAssignment(ClusterAssignmentMessage msg) {
+        if (localSwarmID == null) {
+            throw new IllegalStateException("localSwarmID == null");
+        }
+        clusterAssignmentEvent = new ClusterAssignmentEvent(localSwarmID, msg);
+        ctx.pipeline().fireUserEventTriggered(clusterAssignmentEvent);
+    }
+
+    private List<Channel> getClusterChannels() {
+        // Other heads get their chunks from the distributor
+        Set<SwarmID> headNeighbours = clusterAssignmentEvent.getClusterAssignmentMessage().getHeadNeighbours();
+        return engagedOutboundChannels.entrySet()
+                                      .stream()
+                                      .filter(e -> !headNeighbours.contains(e.getKey()))
+                                      .map(Map.Entry::getValue)
+                                      .collect(Collectors.toList());
+    }
+
+    private void handleReassemblyCompletedEvent(ReassemblyCompletedEvent evt) {
+        // Only heads push to their cluster
+        if (clusterAssignmentEvent == null || !clusterAssignmentEvent.isHead()) {
+            return;
+        }
+
+        List<Channel> clusterChannels = getClusterChannels();
+        if (clusterChannels.isEmpty()) {
+            return;
+        }
+
+        // The members can use the remaining duration only
+        ReassemblyTracker reassemblyTracker = evt.getReassemblyTracker();
+        BlockHeader blockHeader = reassemblyTracker.getBlockHeader();
+        if (blockHeader.getSequence() < lowestSequence) {
+            return;
+        }
+
+        Duration duration = blockHeader.getDuration().minus(reassemblyTracker.getAge());
+        if (duration.isNegative() || duration.isZero()) {
+            logger.warn("Block expired before cluster push: " + blockHeader);
+            return;
+        }
+
+        // The reassembly buffer is released by the next handler, so keep it until the push completed
+        reassemblyTracker.retain();
+        ByteBuffer payload = reassemblyTracker.getPayload().duplicate();
+
+        // If less bytes than members: Simply send whole block to every one
+        int chunkCount = payload.remaining() < clusterChannels.size() ? 1 : clusterChannels.size();
+        PrimitiveIterator.OfInt idxs = IntStream.range(0, clusterChannels.size()).iterator();
+        Map<Channel, Integer> chunkMap = clusterChannels.stream().collect(Collectors.toMap(c -> c, c -> idxs.next()));
+
+        // Create the block header off the event loop and continue pushing on the event loop
+        BlockHeader.createFromAsync(blockHeader.getHashAlgorithm(),
+                                    payload.duplicate(),
+                                    blockHeader.getSequence(),
+                                    blockHeader.getPriority(),
+                                    duration,
+                                    chunkCount,
+                                    hashExecutor)
+                   .whenCompleteAsync((clusterBlockHeader, cause) -> {
+                       if (cause != null) {
+                           reassemblyTracker.release();
+                           ctx.fireExceptionCaught(cause);
+                       } else {
+                           pushBlock(clusterBlockHeader, reassemblyTracker, payload, chunkMap);
+                       }
+                   }, ctx.executor());
+    }
+
+    private void pushBlock(BlockHeader blockHeader,
+                           ReassemblyTracker reassemblyTracker,
+                           ByteBuffer payload,
+                           Map<Channel, Integer> chunkMap) {
+        // The block was superseded, while its block header was computed
+        if (blockHeader.getSequence() < lowestSequence) {
+            logger.info("Dropped superseded cluster push: " + blockHeader);
+            reassemblyTracker.release();
+            return;
+        }
+
+        // Send block to all members
+        PushTracker pushTracker = new PushTracker(this::firePushCompleted,
+                                                  blockHeader,
+                                                  payload,
+                                                  ByteBuffer.allocate(0),
+                                                  chunkMap);
+
+        // Add the new push tracker
+        pendingPushTrackers.put(pushTracker, reassemblyTracker);
+
+        // Compute statistics
+        logger.info("Pushing to cluster: " + pushTracker.getBlockHeader());
+    }
+
+    private void handlePushCompletedEvent(PushCompletedEvent evt) {
+        // Remove the push tracker, it is not pending anymore
+        PushTracker pushTracker = evt.getPushTracker();
+        ReassemblyTracker reassemblyTracker = pendingPushTrackers.remove(pushTracker);
+        if (reassemblyTracker == null) {
+            return;
+        }
+
+        // Compute statistics
+        long count = pushTracker.getChannels().size();
+
+        // Compute statistics
+        long failed = pushTracker.getChannelFutureTracker().getFailedChannels().size();
+
+        String rate = (count - failed) + "/" + count;
+        logger.info("Pushed to cluster: " + pushTracker.getBlockHeader() + ", Success: " + rate);
+
+        // Cancelled writes are not retried
+        if (pushTracker.isCancelled()) {
+            reassemblyTracker.release();
+            return;
+        }
+
+        // Log failed channels
+        Set<Channel> failedChannels = new HashSet<>();
+        pushTracker.getChannelFutureTracker().getFailedChannels().forEach((c, f) -> {
+            // Expired and timed out writes do not break the channel, slow peers are demoted by the distributor
+            if (f.cause() instanceof CancellationException || f.cause() instanceof TimeoutException) {
+                logger.warn("Expired write: " + pushTracker.getBlockHeader() + ", Channel: " + c);
+                return;
+            }
+
+            logger.warn("Failed write: " + pushTracker.getBlockHeader() + ", Channel: " + c, f.cause());
+            failedChannels.add(c);
+        });
+
+        if (failedChannels.isEmpty()) {
+            reassemblyTracker.release();
+            return;
+        }
+
+        // Retransmit the failed chunks, while the block duration allows it
+        // The retry sends from the same reassembly buffer
+        PushTracker retryPushTracker = pushTracker.retry(this::firePushCompleted, failedChannels);
+        if (retryPushTracker != null) {
+            pendingPushTrackers.put(retryPushTracker, reassemblyTracker);
+            logger.info("Retrying cluster push: " + retryPushTracker.getBlockHeader() +
+                        ", Attempt: " + retryPushTracker.getAttempt());
+            return;
+        }
+
+        reassemblyTracker.release();
+
+        // Only persistent failures disconnect the peer
+        failedChannels.stream().filter(Channel::isActive).forEach(c -> {
+            logger.warn("Closing channel due to persistent pushTracker failure: " + c);
+            c.close();
+        });
+    }
+
+    private void handleConnectionEvent(ConnectionEvent evt) {
+        if (evt.getConnectionChangeEvent().getDirection() == ConnectionChangeEvent.Direction.Outbound) {
+            engagedOutboundChannels = evt.getEngagedConnections();
+        }
+    }
+
+    private void handleSupersessionMessage(SupersessionMessage msg) {
+        if (msg.getLowestSequence() <= lowestSequence) {
+            return;
+        }
+        lowestSequence = msg.getLowestSequence();
+
+        // Cancel the queued writes, the push trackers complete afterwards
+        pendingPushTrackers.keySet()
+                           .stream()
+                           .filter(t -> msg.isSuperseded(t.getBlockHeader().getSequence()))
+                           .filter(t -> !t.isCancelled())
+                           .forEach(t -> {
+                               logger.info("Cancelling superseded cluster push: " + t.getBlockHeader());
+                               t.cancel();
+                           });
+    }
+
+    public ClusterHeadHandler(Executor hashExecutor) {
+        Objects.requireNonNull(hashExecutor);
+        this.hashExecutor = hashExecutor;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof SwarmIDAcquisitionEvent) {
+            localSwarmID = ((SwarmIDAcquisitionEvent) evt).getSwarmID();
+        } else if (evt instanceof ConnectionEvent) {
+            handleConnectionEvent((ConnectionEvent) evt);
+        } else if (evt instanceof ReassemblyCompletedEvent) {
+            handleReassemblyCompletedEvent((ReassemblyCompletedEvent) evt);
+        } else if (evt instanceof PushCompletedEvent) {
+            handlePushCompletedEvent((PushCompletedEvent) evt);
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof ClusterAssignmentMessage) {
+            fireClusterAssignment((ClusterAssignmentMessage) msg);
+        } else if (msg instanceof SupersessionMessage) {
+            // The forwarding handler cancels its forwardings, too
+            handleSupersessionMessage((SupersessionMessage) msg);
+            super.channelRead(ctx, msg);
+        } else {
+            super.channelRead(ctx, msg);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package de.probst.chunkedswarm.net.netty.handler.tier.event;
+
+import de.probst.chunkedswarm.net.netty.handler.tier.message.ClusterAssignmentMessage;
+import de.probst.chunkedswarm.util.SwarmID;
+
+import java.util.Objects;
+
+/**
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 08.09.15
+ */
+public final class ClusterAssignmentEvent {
+
+    private final SwarmID localSwarmID;
+    private final ClusterAssignmentMessage clusterAssignmentMessage;
+
+    public ClusterAssignmentEvent(SwarmID localSwarmID, ClusterAssignmentMessage clusterAssignmentMessage) {
+        Objects.requireNonNull(localSwarmID);
+        Objects.requireNonNull(clusterAssignmentMessage);
+        this.localSwarmID = localSwarmID;
+        this.clusterAssignmentMessage = clusterAssignmentMessage;
+    }
+
+    public SwarmID getLocalSwarmID() {
+        return localSwarmID;
+    }
+
+    public ClusterAssignmentMessage getClusterAssignmentMessage() {
+        return clusterAssignmentMessage;
+    }
+
+    public boolean isHead() {
+        return localSwarmID.equals(clusterAssignmentMessage.getHead());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ClusterAssignmentEvent that = (ClusterAssignmentEvent) o;
+
+        if (!localSwarmID.equals(that.localSwarmID)) return false;
+        return clusterAssignmentMessage.equals(that.clusterAssignmentMessage);
+
+    }
+
+    @Override
+    public int hashCode() {
+        int result = localSwarmID.hashCode();
+        result = 31 * result + clusterAssignmentMessage.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterAssignmentEvent{" +
+               "localSwarmID=" + localSwarmID +
+               ", clusterAssignmentMessage=" + clusterAssignmentMessage +
+               '}';
+    }
+}
@@ -0,0 +1,63 @@
+package de.probst.chunkedswarm.net.netty.handler.tier.message;
+
+import de.probst.chunkedswarm.util.SwarmID;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 08.09.15
+ */
+public final class ClusterAssignmentMessage implements Serializable {
+
+    // The head of the local cluster
+    private final SwarmID head;
+
+    // The other heads in the head cluster, only set for heads
+    private final Set<SwarmID> headNeighbours;
+
+    public ClusterAssignmentMessage(SwarmID head, Set<SwarmID> headNeighbours) {
+        Objects.requireNonNull(head);
+        Objects.requireNonNull(headNeighbours);
+        this.head = head;
+        this.headNeighbours = new HashSet<>(headNeighbours);
+    }
+
+    public SwarmID getHead() {
+        return head;
+    }
+
+    public Set<SwarmID> getHeadNeighbours() {
+        return headNeighbours;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ClusterAssignmentMessage that = (ClusterAssignmentMessage) o;
+
+        if (!head.equals(that.head)) return false;
+        return headNeighbours.equals(that.headNeighbours);
+
+    }
+
+    @Override
+    public int hashCode() {
+        int result = head.hashCode();
+        result = 31 * result + headNeighbours.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterAssignmentMessage{" +
+               "head=" + head +
+               ", headNeighbours=" + headNeighbours +
+               '}';
+    }
+}
@@ -3,6 +3,7 @@ package de.probst.chunkedswarm.net.netty.util;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -23,6 +24,10 @@ public final class ChannelFutureTracker {
     private final AtomicInteger counter = new AtomicInteger();
     private final ConcurrentMap<Channel, ChannelFuture> successfulChannels = new ConcurrentHashMap<>();
     private final ConcurrentMap<Channel, ChannelFuture> failedChannels = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Channel, Duration> latencies = new ConcurrentHashMap<>();
+
+    // The start of all channel futures
+    private final long creationTime = System.nanoTime();
 
     public ChannelFutureTracker(Collection<ChannelFuture> channelFutures,
                                 Consumer<ChannelFutureTracker> channelFutureTrackerConsumer) {
@@ -39,6 +44,7 @@ public final class ChannelFutureTracker {
 
             // Add channel future to desired map
             ChannelFuture channelFuture = (ChannelFuture) fut;
+            latencies.put(channelFuture.channel(), Duration.ofNanos(System.nanoTime() - creationTime));
             if (channelFuture.isSuccess()) {
                 successfulChannels.put(channelFuture.channel(), channelFuture);
             } else {
@@ -69,6 +75,13 @@ public final class ChannelFutureTracker {
         return Collections.unmodifiableMap(failedChannels);
     }
 
+    /**
+     * @return the durations until the channel futures completed
+     */
+    public Map<Channel, Duration> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
     @Override
     public String toString() {
         return "ChannelFutureTracker{" +
@@ -1,20 +1,21 @@
 package de.probst.chunkedswarm.net.netty.util;
 
 import com.google.protobuf.ExtensionRegistry;
+import de.probst.chunkedswarm.net.netty.handler.codec.chunk.ChunkMessageCodec;
 import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.Message2ProtobufCodec;
 import de.probst.chunkedswarm.net.netty.handler.codec.protobuf.ProtoMessages;
-import io.netty.channel.Channel;
-import io.netty.channel.ChannelFuture;
+import de.probst.chunkedswarm.net.netty.handler.scheduling.ChunkWriteScheduler;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.codec.LengthFieldPrepender;
 import io.netty.handler.codec.protobuf.ProtobufDecoder;
 import io.netty.handler.codec.protobuf.ProtobufEncoder;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 /**
  * @author Christopher Probst <christopher.probst@hhu.de>
@@ -22,24 +23,20 @@ import java.util.concurrent.TimeoutException;
  */
 public final class NettyUtil {
 
+    // The resolution of write deadlines
+    public static final long WRITE_DEADLINE_TICK_MS = 100;
+
+    // All write deadlines share one timer wheel
+    private static final Timer WRITE_DEADLINE_TIMER =
+            new HashedWheelTimer(new DefaultThreadFactory("write-deadline", true),
+                                 WRITE_DEADLINE_TICK_MS,
+                                 TimeUnit.MILLISECONDS);
+
     private NettyUtil() {
     }
 
-    public static ChannelFuture writeAndFlushWithTimeout(Channel channel, Object msg, Duration timeout) {
-        ChannelFuture channelFuture = channel.writeAndFlush(msg);
-        ChannelPromise channelPromise = channel.newPromise();
-        channelFuture.addListener(fut -> {
-            if (fut.isSuccess()) {
-                channelPromise.trySuccess();
-            } else {
-                channelPromise.tryFailure(fut.cause());
-            }
-        });
-        channel.eventLoop()
-               .schedule(() -> {
-                   channelPromise.tryFailure(new TimeoutException());
-               }, timeout.toMillis(), TimeUnit.MILLISECONDS);
-        return channelPromise;
+    public static WriteDeadline newWriteDeadline(Duration duration) {
+        return new WriteDeadline(WRITE_DEADLINE_TIMER, duration);
     }
 
     public static void addCodecToPipeline(ChannelPipeline channelPipeline, int maxFrameSize) {
@@ -50,11 +47,17 @@ public final class NettyUtil {
         channelPipeline.addLast(new LengthFieldBasedFrameDecoder(maxFrameSize, 0, 4, 0, 4));
         channelPipeline.addLast(new LengthFieldPrepender(4));
 
+        // Chunk messages bypass protobuf, so payloads are never copied
+        channelPipeline.addLast(new ChunkMessageCodec(maxFrameSize));
+
         // Used to encoder/decoder protobuf messages
         channelPipeline.addLast(new ProtobufEncoder());
         channelPipeline.addLast(new ProtobufDecoder(ProtoMessages.BaseCommand.getDefaultInstance(), extensionRegistry));
 
         // Messages2Protobuf
         channelPipeline.addLast(new Message2ProtobufCodec());
+
+        // Schedule chunk writes by priority and keep them cancellable
+        channelPipeline.addLast(new ChunkWriteScheduler());
     }
 }
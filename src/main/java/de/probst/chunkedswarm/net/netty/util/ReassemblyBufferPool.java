@@ -0,0 +1,169 @@
+package de.probst.chunkedswarm.net.netty.util;
+
+import io.netty.util.internal.PlatformDependent;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A pool of direct buffers for block reassembly with a global memory cap.
+ * <p>
+ * Buffer capacities are rounded up to whole slabs, so released buffers
+ * can be reused for blocks of similar size. The pool can be shared
+ * by many forwarders to bound the memory of a whole process.
+ * <p>
+ * Memory held outside of pooled buffers, e.g. chunks waiting for their
+ * block header, can be reserved, so it counts against the same cap.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 29.08.15
+ */
+public final class ReassemblyBufferPool {
+
+    public static final int SLAB_SIZE = 1024 * 64;
+
+    // Released buffers are only reused, if they waste less than their requested capacity
+    public static final int MAX_REUSE_FACTOR = 2;
+
+    private static int computeCapacity(int size) {
+        return (int) Math.min(Integer.MAX_VALUE, ((long) size + SLAB_SIZE - 1) / SLAB_SIZE * SLAB_SIZE);
+    }
+
+    private final long memoryCap;
+
+    // Released buffers by capacity
+    private final TreeMap<Integer, Deque<ByteBuffer>> freeBuffers = new TreeMap<>();
+
+    // Memory of all buffers in use and released and all reservations
+    private long allocatedMemory;
+
+    // Memory of all released buffers
+    private long freeMemory;
+
+    private ByteBuffer pollFreeBuffer(int capacity) {
+        Map.Entry<Integer, Deque<ByteBuffer>> entry = freeBuffers.ceilingEntry(capacity);
+        if (entry == null || entry.getKey() / MAX_REUSE_FACTOR > capacity) {
+            return null;
+        }
+
+        ByteBuffer buffer = entry.getValue().poll();
+        if (entry.getValue().isEmpty()) {
+            freeBuffers.remove(entry.getKey());
+        }
+        freeMemory -= buffer.capacity();
+        return buffer;
+    }
+
+    private void freeLargestBuffer() {
+        Map.Entry<Integer, Deque<ByteBuffer>> entry = freeBuffers.lastEntry();
+        ByteBuffer buffer = entry.getValue().poll();
+        if (entry.getValue().isEmpty()) {
+            freeBuffers.remove(entry.getKey());
+        }
+        freeMemory -= buffer.capacity();
+        allocatedMemory -= buffer.capacity();
+
+        // Do not wait for the garbage collector
+        PlatformDependent.freeDirectBuffer(buffer);
+    }
+
+    // False, if the size does not fit under the memory cap
+    private boolean makeRoom(long size) {
+        // Free released buffers, which do not fit, to make room
+        while (allocatedMemory + size > memoryCap && !freeBuffers.isEmpty()) {
+            freeLargestBuffer();
+        }
+        return allocatedMemory + size <= memoryCap;
+    }
+
+    public ReassemblyBufferPool(long memoryCap) {
+        if (memoryCap <= 0) {
+            throw new IllegalArgumentException("memoryCap <= 0");
+        }
+        this.memoryCap = memoryCap;
+    }
+
+    public long getMemoryCap() {
+        return memoryCap;
+    }
+
+    public synchronized long getAllocatedMemory() {
+        return allocatedMemory;
+    }
+
+    public synchronized long getUsedMemory() {
+        return allocatedMemory - freeMemory;
+    }
+
+    /**
+     * Allocates a buffer with the given size as limit.
+     *
+     * @return the buffer or null, if the memory cap is reached
+     */
+    public synchronized ByteBuffer allocate(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size < 0");
+        }
+
+        // Try to reuse a released buffer first
+        int capacity = computeCapacity(size);
+        ByteBuffer buffer = pollFreeBuffer(capacity);
+        if (buffer == null) {
+
+            // Admission control
+            if (!makeRoom(capacity)) {
+                return null;
+            }
+
+            buffer = ByteBuffer.allocateDirect(capacity);
+            allocatedMemory += capacity;
+        }
+
+        buffer.clear().limit(size);
+        return buffer;
+    }
+
+    /**
+     * Reserves memory, which is held outside of this pool.
+     *
+     * @return false, if the memory cap is reached
+     */
+    public synchronized boolean reserve(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size < 0");
+        } else if (!makeRoom(size)) {
+            return false;
+        }
+
+        allocatedMemory += size;
+        return true;
+    }
+
+    public synchronized void unreserve(int size) {
+        if (size < 0 || size > allocatedMemory - freeMemory) {
+            throw new IllegalArgumentException("size < 0 || size > getUsedMemory()");
+        }
+        allocatedMemory -= size;
+    }
+
+    public synchronized void release(ByteBuffer buffer) {
+        if (!buffer.isDirect() || buffer.capacity() != computeCapacity(buffer.capacity())) {
+            throw new IllegalArgumentException("Buffer was not allocated by this pool");
+        }
+
+        freeBuffers.computeIfAbsent(buffer.capacity(), k -> new ArrayDeque<>()).push(buffer);
+        freeMemory += buffer.capacity();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ReassemblyBufferPool{" +
+               "memoryCap=" + memoryCap +
+               ", allocatedMemory=" + allocatedMemory +
+               ", freeMemory=" + freeMemory +
+               '}';
+    }
+}
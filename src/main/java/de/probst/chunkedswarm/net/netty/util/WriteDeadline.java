@@ -0,0 +1,109 @@
+package de.probst.chunkedswarm.net.netty.util;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A single deadline for many writes, usually all writes of one block.
+ * <p>
+ * The deadline occupies one slot in a shared timer wheel instead of one scheduled
+ * task per write. Writes, which are still queued, when the deadline expires, are
+ * dropped. Writes in progress are reported as timed out.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 10.09.15
+ */
+public final class WriteDeadline {
+
+    private static void expireWrite(ChannelFuture channelFuture, ChannelPromise channelPromise) {
+        // Drop the write, if it is still queued
+        if (channelFuture.cancel(false)) {
+            channelPromise.tryFailure(new CancellationException("Write expired before it was sent"));
+        } else {
+            channelPromise.tryFailure(new TimeoutException());
+        }
+    }
+
+    // The writes, which are not completed yet
+    private final Map<ChannelFuture, ChannelPromise> pendingWrites = new ConcurrentHashMap<>();
+
+    // The timer wheel entry
+    private final Timeout timeout;
+
+    private volatile boolean expired;
+
+    private void expire() {
+        expired = true;
+
+        // Writes are only touched by their event loop
+        pendingWrites.forEach((f, p) -> f.channel().eventLoop().execute(() -> expireWrite(f, p)));
+    }
+
+    WriteDeadline(Timer timer, Duration duration) {
+        Objects.requireNonNull(timer);
+        Objects.requireNonNull(duration);
+        timeout = timer.newTimeout(t -> expire(), duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public boolean isExpired() {
+        return expired;
+    }
+
+    public ChannelFuture writeAndFlush(Channel channel, Object msg) {
+        ChannelFuture channelFuture = channel.writeAndFlush(msg);
+        ChannelPromise channelPromise = channel.newPromise();
+        pendingWrites.put(channelFuture, channelPromise);
+        channelFuture.addListener(fut -> {
+            pendingWrites.remove(channelFuture);
+            if (fut.isSuccess()) {
+                channelPromise.trySuccess();
+            } else {
+                channelPromise.tryFailure(fut.cause());
+            }
+        });
+
+        // The deadline might have expired, before the write was added
+        if (expired) {
+            channel.eventLoop().execute(() -> expireWrite(channelFuture, channelPromise));
+        }
+        return channelPromise;
+    }
+
+    /**
+     * Drops all queued writes right away, writes in progress still expire with the deadline.
+     */
+    public void cancelQueuedWrites() {
+        pendingWrites.forEach((f, p) -> f.channel().eventLoop().execute(() -> {
+            if (f.cancel(false)) {
+                p.tryFailure(new CancellationException("Write cancelled before it was sent"));
+            }
+        }));
+    }
+
+    /**
+     * Removes the deadline from the timer wheel, pending writes do not expire anymore.
+     */
+    public void cancel() {
+        timeout.cancel();
+        pendingWrites.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "WriteDeadline{" +
+               "pendingWrites=" + pendingWrites.size() +
+               ", expired=" + expired +
+               '}';
+    }
+}
@@ -0,0 +1,234 @@
+package de.probst.chunkedswarm.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * A directed graph of dense int nodes.
+ * <p>
+ * Every node keeps its neighbours as bitset, so intersections and
+ * superset checks are word-wise operations without any allocation.
+ * This is the engine behind {@link Graph} and {@link MeshGraph}.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 06.09.15
+ */
+public final class BitGraph {
+
+    private static int wordCount(int bitCount) {
+        return (bitCount + 63) >>> 6;
+    }
+
+    private static boolean isSuperSet(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if ((b[i] & ~a[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void insertCandidate(List<long[]> meshCandidates, long[] newMeshCandidate) {
+        for (ListIterator<long[]> i = meshCandidates.listIterator(); i.hasNext(); ) {
+            long[] meshCandidate = i.next();
+
+            if (isSuperSet(newMeshCandidate, meshCandidate)) {
+                // Ignore super groups, they are not specific enough
+                return;
+            } else if (isSuperSet(meshCandidate, newMeshCandidate)) {
+                // Replace old broader candidate with new candidate
+                i.set(newMeshCandidate);
+                return;
+            }
+        }
+
+        // No super groups, just add
+        meshCandidates.add(newMeshCandidate);
+    }
+
+    public static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    public static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    public static int cardinality(long[] bits) {
+        int cardinality = 0;
+        for (long word : bits) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    /**
+     * @return the index of the next set bit or -1
+     */
+    public static int nextSetBit(long[] bits, int fromIndex) {
+        int wordIndex = fromIndex >>> 6;
+        if (wordIndex >= bits.length) {
+            return -1;
+        }
+
+        long word = bits[wordIndex] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++wordIndex == bits.length) {
+                return -1;
+            }
+            word = bits[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    // The outgoing links of every node
+    private long[][] adjacency;
+
+    public BitGraph(int nodeCount) {
+        if (nodeCount <= 0) {
+            throw new IllegalArgumentException("nodeCount <= 0");
+        }
+        adjacency = new long[nodeCount][wordCount(nodeCount)];
+    }
+
+    public int getNodeCount() {
+        return adjacency.length;
+    }
+
+    /**
+     * Grows the graph, existing links are kept.
+     */
+    public void ensureNodeCount(int nodeCount) {
+        if (nodeCount <= adjacency.length) {
+            return;
+        }
+
+        int words = wordCount(nodeCount);
+        long[][] grown = Arrays.copyOf(adjacency, nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            grown[node] = node < adjacency.length ? Arrays.copyOf(adjacency[node], words) : new long[words];
+        }
+        adjacency = grown;
+    }
+
+    public void addLink(int from, int to) {
+        set(adjacency[from], to);
+    }
+
+    public void removeLink(int from, int to) {
+        clear(adjacency[from], to);
+    }
+
+    public void removeLinks(int from) {
+        Arrays.fill(adjacency[from], 0);
+    }
+
+    public int getLinkCount(int from) {
+        return cardinality(adjacency[from]);
+    }
+
+    /**
+     * @return true, if every neighbour of the inner node except the outer node is a neighbour of the outer node
+     */
+    public boolean hasNeighboursWithin(int inner, int outer) {
+        long[] innerNeighbours = adjacency[inner];
+        long[] outerNeighbours = adjacency[outer];
+        int outerWord = outer >>> 6;
+        for (int i = 0; i < innerNeighbours.length; i++) {
+            long outside = innerNeighbours[i] & ~outerNeighbours[i];
+            if (i == outerWord) {
+                outside &= ~(1L << outer);
+            }
+            if (outside != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean hasLink(int from, int to) {
+        return get(adjacency[from], to);
+    }
+
+    /**
+     * The returned bitset is backed by this graph.
+     */
+    public long[] getNeighbours(int node) {
+        return adjacency[node];
+    }
+
+    public void removeUnidirectionalLinks() {
+        for (int from = 0; from < adjacency.length; from++) {
+            long[] neighbours = adjacency[from];
+            for (int to = nextSetBit(neighbours, 0); to >= 0; to = nextSetBit(neighbours, to + 1)) {
+                if (!hasLink(to, from)) {
+                    clear(neighbours, to);
+                }
+            }
+        }
+    }
+
+    /**
+     * Both graphs must not contain unidirectional links and must have the same node count.
+     *
+     * @return the meshes as bitsets without the root, largest first
+     */
+    public List<long[]> findMeshes(int root, BitGraph intersectionGraph) {
+        if (intersectionGraph.getNodeCount() != getNodeCount()) {
+            throw new IllegalArgumentException("intersectionGraph.getNodeCount() != getNodeCount()");
+        }
+
+        // Make intersection of the reverse neighbours
+        int words = wordCount(getNodeCount());
+        long[] revNeighboursIntersection = new long[words];
+        for (int i = 0; i < words; i++) {
+            revNeighboursIntersection[i] = adjacency[root][i] & intersectionGraph.adjacency[root][i];
+        }
+
+        // Here we store all mesh candidates
+        List<long[]> meshCandidates = new ArrayList<>();
+
+        // Iterate over all reverse neighbours in the intersection
+        for (int revNeighbour = nextSetBit(revNeighboursIntersection, 0);
+             revNeighbour >= 0;
+             revNeighbour = nextSetBit(revNeighboursIntersection, revNeighbour + 1)) {
+
+            // The intersection of both mesh candidates
+            long[] meshCandidate = new long[words];
+            for (int i = 0; i < words; i++) {
+                meshCandidate[i] = adjacency[revNeighbour][i] &
+                                   intersectionGraph.adjacency[revNeighbour][i] &
+                                   revNeighboursIntersection[i];
+            }
+
+            // Add root and reverse neighbour
+            set(meshCandidate, root);
+            set(meshCandidate, revNeighbour);
+
+            // Insert the mesh candidate, if valid!
+            insertCandidate(meshCandidates, meshCandidate);
+        }
+
+        // The final result should not contain the root!
+        meshCandidates.forEach(meshCandidate -> clear(meshCandidate, root));
+
+        // Sort according to the number of nodes per group (highest first)
+        meshCandidates.sort(Comparator.comparingInt(BitGraph::cardinality).reversed());
+
+        return meshCandidates;
+    }
+
+    @Override
+    public String toString() {
+        return "BitGraph{" +
+               "nodeCount=" + adjacency.length +
+               '}';
+    }
+}
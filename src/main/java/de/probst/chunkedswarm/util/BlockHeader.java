@@ -2,12 +2,14 @@ package de.probst.chunkedswarm.util;
 
 import java.io.Serializable;
 import java.nio.ByteBuffer;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -17,76 +19,295 @@ import java.util.stream.Stream;
  */
 public final class BlockHeader implements Serializable {
 
-    public static int computeDefaultChunkSize(int size, int chunks) {
-        return size / chunks;
+    public static List<Integer> computeChunkSizes(int size, int chunks) {
+        if (chunks <= 0) {
+            throw new IllegalArgumentException("chunks <= 0");
+        }
+
+        // Compute default chunk size (floored to previous integer)
+        int chunkSize = size / chunks;
+
+        // The last chunk takes the remainder
+        List<Integer> chunkSizes = new ArrayList<>(Collections.nCopies(chunks, chunkSize));
+        chunkSizes.set(chunks - 1, chunkSize + size % chunks);
+        return chunkSizes;
     }
 
-    public static int computeChunkSize(int size, int chunks, int chunkIndex) {
-        if (chunkIndex < 0 || chunkIndex >= chunks) {
-            throw new IllegalArgumentException("chunkIndex < 0 || chunkIndex >= chunks");
+    /**
+     * Splits the size proportional to the weights. Every chunk gets at
+     * least a single byte, if the size is not smaller than the chunk count.
+     */
+    public static List<Integer> computeWeightedChunkSizes(int size, List<Long> weights) {
+        Objects.requireNonNull(weights);
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("weights.isEmpty()");
+        } else if (weights.stream().anyMatch(w -> w < 0)) {
+            throw new IllegalArgumentException("weights contain negative weight");
         }
 
-        // Compute default chunk size (floored to previous integer)
-        int chunkSize = computeDefaultChunkSize(size, chunks);
+        // Without weights or bytes for every chunk the split is uniform
+        double totalWeight = weights.stream().mapToDouble(Long::doubleValue).sum();
+        int chunks = weights.size();
+        if (totalWeight <= 0 || size < chunks) {
+            return computeChunkSizes(size, chunks);
+        }
+
+        // Place chunk boundaries by cumulative weight
+        int weightedSize = size - chunks;
+        List<Integer> chunkSizes = new ArrayList<>(chunks);
+        double cumulativeWeight = 0;
+        int offset = 0;
+        for (int i = 0; i < chunks; i++) {
+            cumulativeWeight += weights.get(i);
+            int end = i == chunks - 1 ? size : i + 1 + (int) Math.round(weightedSize * cumulativeWeight / totalWeight);
+            chunkSizes.add(end - offset);
+            offset = end;
+        }
+        return chunkSizes;
+    }
+
+    /**
+     * Splits the size uniformly into data chunks, followed by parity chunks,
+     * which are as large as the largest data chunk.
+     */
+    public static List<Integer> computeErasureCodedChunkSizes(int size, int dataChunks, int parityChunks) {
+        if (parityChunks < 0) {
+            throw new IllegalArgumentException("parityChunks < 0");
+        }
 
-        // Compute the size of the last chunk
-        int lastChunkSize = chunkSize + (size % chunks);
+        List<Integer> chunkSizes = computeChunkSizes(size, dataChunks);
+        chunkSizes.addAll(Collections.nCopies(parityChunks, Collections.max(chunkSizes)));
+        return chunkSizes;
+    }
 
-        // Return appropriate value
-        return chunkIndex == chunks - 1 ? lastChunkSize : chunkSize;
+    public static BlockHeader createFrom(HashAlgorithm hashAlgorithm,
+                                         ByteBuffer payload,
+                                         int sequence,
+                                         int priority,
+                                         Duration duration,
+                                         int chunkCount) {
+        return createFrom(hashAlgorithm,
+                          payload,
+                          sequence,
+                          priority,
+                          duration,
+                          computeChunkSizes(payload.remaining(), chunkCount));
     }
 
-    public static BlockHeader createFrom(ByteBuffer payload,
+    public static BlockHeader createFrom(HashAlgorithm hashAlgorithm,
+                                         ByteBuffer payload,
                                          int sequence,
                                          int priority,
                                          Duration duration,
-                                         int chunkCount) throws NoSuchAlgorithmException {
+                                         List<Integer> chunkSizes) {
+        Objects.requireNonNull(hashAlgorithm);
         Objects.requireNonNull(payload);
         Objects.requireNonNull(duration);
+        Objects.requireNonNull(chunkSizes);
 
         // Create a split version of the block
         ByteBuffer dup = payload.duplicate();
         int size = dup.remaining();
 
-        // Compute hash for payload
-        Hash hash = Hash.computeSHA1(dup.duplicate());
-
-        // Compute all chunk hashes
-        List<Hash> chunkHashes = new ArrayList<>(chunkCount);
-        for (int i = 0; i < chunkCount; i++) {
+        // Compute all chunk hashes in a single pass
+        List<Hash> chunkHashes = new ArrayList<>(chunkSizes.size());
+        for (int chunkSize : chunkSizes) {
             // Compute limit for chunk and return computed chunk
-            dup.limit(dup.position() + BlockHeader.computeChunkSize(size, chunkCount, i));
-            chunkHashes.add(Hash.computeSHA1(dup));
+            dup.limit(dup.position() + chunkSize);
+            chunkHashes.add(MerkleTree.computeLeafHash(hashAlgorithm, dup));
         }
 
+        // The block hash is the root of the chunk hashes
+        Hash hash = MerkleTree.computeRoot(hashAlgorithm, chunkHashes);
+
         // Create the block header for the push event
-        return new BlockHeader(hash,
+        return new BlockHeader(hashAlgorithm,
+                               hash,
                                chunkHashes,
+                               chunkSizes,
                                sequence,
                                priority,
                                size,
                                duration);
     }
 
+    public static CompletableFuture<BlockHeader> createFromAsync(HashAlgorithm hashAlgorithm,
+                                                                 ByteBuffer payload,
+                                                                 int sequence,
+                                                                 int priority,
+                                                                 Duration duration,
+                                                                 int chunkCount,
+                                                                 Executor executor) {
+        return createFromAsync(hashAlgorithm,
+                               payload,
+                               sequence,
+                               priority,
+                               duration,
+                               computeChunkSizes(payload.remaining(), chunkCount),
+                               executor);
+    }
+
+    public static CompletableFuture<BlockHeader> createFromAsync(HashAlgorithm hashAlgorithm,
+                                                                 ByteBuffer payload,
+                                                                 int sequence,
+                                                                 int priority,
+                                                                 Duration duration,
+                                                                 List<Integer> chunkSizes,
+                                                                 Executor executor) {
+        return createFromAsync(hashAlgorithm,
+                               payload,
+                               ByteBuffer.allocate(0),
+                               sequence,
+                               priority,
+                               duration,
+                               chunkSizes,
+                               chunkSizes.size(),
+                               executor);
+    }
+
+    /**
+     * Creates the block header of an erasure coded block. The data chunks
+     * are sliced from the payload and the parity chunks from the parity.
+     */
+    public static CompletableFuture<BlockHeader> createFromAsync(HashAlgorithm hashAlgorithm,
+                                                                 ByteBuffer payload,
+                                                                 ByteBuffer parity,
+                                                                 int sequence,
+                                                                 int priority,
+                                                                 Duration duration,
+                                                                 List<Integer> chunkSizes,
+                                                                 int dataChunkCount,
+                                                                 Executor executor) {
+        Objects.requireNonNull(hashAlgorithm);
+        Objects.requireNonNull(payload);
+        Objects.requireNonNull(parity);
+        Objects.requireNonNull(duration);
+        Objects.requireNonNull(chunkSizes);
+        Objects.requireNonNull(executor);
+
+        int size = payload.remaining();
+
+        // Compute all chunk hashes in parallel
+        List<CompletableFuture<Hash>> chunkHashFutures = new ArrayList<>(chunkSizes.size());
+        int offset = 0;
+        for (int i = 0; i < chunkSizes.size(); i++) {
+            // Parity chunks start at the beginning of the parity
+            if (i == dataChunkCount) {
+                offset = 0;
+            }
+
+            ByteBuffer chunk = (i < dataChunkCount ? payload : parity).duplicate();
+            chunk.position(chunk.position() + offset);
+            chunk.limit(chunk.position() + chunkSizes.get(i));
+            chunkHashFutures.add(CompletableFuture.supplyAsync(() -> MerkleTree.computeLeafHash(hashAlgorithm, chunk),
+                                                               executor));
+            offset += chunkSizes.get(i);
+        }
+
+        // Create the block header, when all chunks are hashed
+        return CompletableFuture.allOf(chunkHashFutures.toArray(new CompletableFuture<?>[chunkHashFutures.size()]))
+                                .thenApply(v -> {
+                                    List<Hash> chunkHashes = chunkHashFutures.stream()
+                                                                             .map(CompletableFuture::join)
+                                                                             .collect(Collectors.toList());
+                                    return new BlockHeader(hashAlgorithm,
+                                                           MerkleTree.computeRoot(hashAlgorithm, chunkHashes),
+                                                           chunkHashes,
+                                                           chunkSizes,
+                                                           dataChunkCount,
+                                                           sequence,
+                                                           priority,
+                                                           size,
+                                                           duration);
+                                });
+    }
+
+    private final HashAlgorithm hashAlgorithm;
     private final Hash hash;
     private final List<Hash> chunkHashes;
+    private final List<Integer> chunkSizes;
+    private final int[] chunkOffsets;
+    private final int dataChunkCount;
     private final int sequence;
     private final int priority;
     private final int size;
     private final Duration duration;
 
-    public BlockHeader(Hash hash, List<Hash> chunkHashes, int sequence, int priority, int size, Duration duration) {
+    public BlockHeader(HashAlgorithm hashAlgorithm,
+                       Hash hash,
+                       List<Hash> chunkHashes,
+                       List<Integer> chunkSizes,
+                       int sequence,
+                       int priority,
+                       int size,
+                       Duration duration) {
+        this(hashAlgorithm, hash, chunkHashes, chunkSizes, chunkHashes.size(), sequence, priority, size, duration);
+    }
+
+    public BlockHeader(HashAlgorithm hashAlgorithm,
+                       Hash hash,
+                       List<Hash> chunkHashes,
+                       List<Integer> chunkSizes,
+                       int dataChunkCount,
+                       int sequence,
+                       int priority,
+                       int size,
+                       Duration duration) {
+        Objects.requireNonNull(hashAlgorithm);
         Objects.requireNonNull(hash);
         Objects.requireNonNull(chunkHashes);
+        Objects.requireNonNull(chunkSizes);
         Objects.requireNonNull(duration);
+
+        if (chunkHashes.isEmpty()) {
+            throw new IllegalArgumentException("chunkHashes.isEmpty()");
+        } else if (chunkSizes.size() != chunkHashes.size()) {
+            throw new IllegalArgumentException("chunkSizes.size() != chunkHashes.size()");
+        } else if (dataChunkCount <= 0 || dataChunkCount > chunkSizes.size()) {
+            throw new IllegalArgumentException("dataChunkCount <= 0 || dataChunkCount > chunkSizes.size()");
+        } else if (dataChunkCount < chunkSizes.size() && chunkSizes.size() > ReedSolomon.MAX_SHARD_COUNT) {
+            throw new IllegalArgumentException("chunkSizes.size() > ReedSolomon.MAX_SHARD_COUNT");
+        }
+
+        // The data chunks are stored back to back
+        chunkOffsets = new int[chunkSizes.size()];
+        long offset = 0;
+        int maxDataChunkSize = 0;
+        for (int i = 0; i < dataChunkCount; i++) {
+            if (chunkSizes.get(i) < 0) {
+                throw new IllegalArgumentException("chunkSizes.get(i) < 0");
+            }
+            chunkOffsets[i] = (int) offset;
+            offset += chunkSizes.get(i);
+            maxDataChunkSize = Math.max(maxDataChunkSize, chunkSizes.get(i));
+        }
+        if (offset != size) {
+            throw new IllegalArgumentException("Sum of data chunk sizes != size");
+        }
+
+        // The parity chunks are stored back to back, separated from the data chunks
+        for (int i = dataChunkCount; i < chunkOffsets.length; i++) {
+            if (chunkSizes.get(i) != maxDataChunkSize) {
+                throw new IllegalArgumentException("Parity chunk size != largest data chunk size");
+            }
+            chunkOffsets[i] = (i - dataChunkCount) * maxDataChunkSize;
+        }
+
+        this.hashAlgorithm = hashAlgorithm;
         this.hash = hash;
-        this.chunkHashes = Collections.unmodifiableList(chunkHashes);
+        this.chunkHashes = Collections.unmodifiableList(new ArrayList<>(chunkHashes));
+        this.chunkSizes = Collections.unmodifiableList(new ArrayList<>(chunkSizes));
+        this.dataChunkCount = dataChunkCount;
         this.sequence = sequence;
         this.priority = priority;
         this.size = size;
         this.duration = duration;
     }
 
+    public HashAlgorithm getHashAlgorithm() {
+        return hashAlgorithm;
+    }
+
     public Hash getHash() {
         return hash;
     }
@@ -95,10 +316,33 @@ public final class BlockHeader implements Serializable {
         return chunkHashes;
     }
 
+    public List<Integer> getChunkSizes() {
+        return chunkSizes;
+    }
+
     public int getChunkCount() {
         return chunkHashes.size();
     }
 
+    public int getDataChunkCount() {
+        return dataChunkCount;
+    }
+
+    public int getParityChunkCount() {
+        return chunkHashes.size() - dataChunkCount;
+    }
+
+    public boolean isParityChunk(int chunkIndex) {
+        return chunkIndex >= dataChunkCount;
+    }
+
+    /**
+     * @return the size of all data and parity chunks
+     */
+    public long getEncodedSize() {
+        return chunkSizes.stream().mapToLong(Integer::longValue).sum();
+    }
+
     public int getSequence() {
         return sequence;
     }
@@ -115,12 +359,28 @@ public final class BlockHeader implements Serializable {
         return duration;
     }
 
-    public int getDefaultChunkSize() {
-        return computeDefaultChunkSize(size, chunkHashes.size());
+    public MerkleTree computeMerkleTree() {
+        return new MerkleTree(hashAlgorithm, chunkHashes);
+    }
+
+    public boolean hasValidChunkHashes() {
+        return hash.equals(MerkleTree.computeRoot(hashAlgorithm, chunkHashes));
+    }
+
+    public boolean isValidChunkPayload(int chunkIndex, ByteBuffer chunkPayload) {
+        Hash chunkHash = MerkleTree.computeLeafHash(hashAlgorithm, chunkPayload.duplicate());
+        return chunkHashes.get(chunkIndex).equals(chunkHash);
+    }
+
+    /**
+     * @return the offset in the payload or the offset in the parity for parity chunks
+     */
+    public int getChunkOffset(int chunkIndex) {
+        return chunkOffsets[chunkIndex];
     }
 
     public int getChunkSize(int chunkIndex) {
-        return computeChunkSize(size, chunkHashes.size(), chunkIndex);
+        return chunkSizes.get(chunkIndex);
     }
 
     public ChunkHeader getChunkHeader(int chunkIndex) {
@@ -132,14 +392,20 @@ public final class BlockHeader implements Serializable {
     }
 
     public ByteBuffer sliceChunkPayload(int chunkIndex, ByteBuffer payload) {
+        if (isParityChunk(chunkIndex)) {
+            throw new IllegalArgumentException("Parity chunks are not part of the payload");
+        }
+        return sliceChunkPayload(chunkIndex, payload, payload);
+    }
+
+    public ByteBuffer sliceChunkPayload(int chunkIndex, ByteBuffer payload, ByteBuffer parity) {
         // Create chunk header for index
         ChunkHeader chunkHeader = getChunkHeader(chunkIndex);
 
-        // Slice payload
-        ByteBuffer chunkPayload = payload.duplicate();
-        chunkPayload.position(getDefaultChunkSize() * chunkHeader.getChunkIndex());
-        chunkPayload.limit(getDefaultChunkSize() * chunkHeader.getChunkIndex() +
-                           getChunkSize(chunkHeader.getChunkIndex()));
+        // Slice payload or parity
+        ByteBuffer chunkPayload = (isParityChunk(chunkIndex) ? parity : payload).duplicate();
+        chunkPayload.position(getChunkOffset(chunkHeader.getChunkIndex()));
+        chunkPayload.limit(getChunkOffset(chunkHeader.getChunkIndex()) + chunkHeader.getSize());
         return chunkPayload;
     }
 
@@ -150,19 +416,25 @@ public final class BlockHeader implements Serializable {
 
         BlockHeader that = (BlockHeader) o;
 
+        if (dataChunkCount != that.dataChunkCount) return false;
         if (sequence != that.sequence) return false;
         if (priority != that.priority) return false;
         if (size != that.size) return false;
+        if (hashAlgorithm != that.hashAlgorithm) return false;
         if (!hash.equals(that.hash)) return false;
         if (!chunkHashes.equals(that.chunkHashes)) return false;
+        if (!chunkSizes.equals(that.chunkSizes)) return false;
         return duration.equals(that.duration);
 
     }
 
     @Override
     public int hashCode() {
-        int result = hash.hashCode();
+        int result = hashAlgorithm.hashCode();
+        result = 31 * result + hash.hashCode();
         result = 31 * result + chunkHashes.hashCode();
+        result = 31 * result + chunkSizes.hashCode();
+        result = 31 * result + dataChunkCount;
         result = 31 * result + sequence;
         result = 31 * result + priority;
         result = 31 * result + size;
@@ -173,13 +445,15 @@ public final class BlockHeader implements Serializable {
     @Override
     public String toString() {
         return "BlockHeader{" +
-               "hash=" + hash +
+               "hashAlgorithm=" + hashAlgorithm +
+               ", hash=" + hash +
                ", chunkCount=" + getChunkCount() +
+               ", dataChunkCount=" + dataChunkCount +
                ", sequence=" + sequence +
                ", priority=" + priority +
                ", size=" + size +
-               ", defaultChunkSize=" + getDefaultChunkSize() +
-               ", lastChunkSize=" + getChunkSize(getChunkCount() - 1) +
+               ", minChunkSize=" + Collections.min(chunkSizes) +
+               ", maxChunkSize=" + Collections.max(chunkSizes) +
                ", duration=" + duration +
                '}';
     }
@@ -0,0 +1,109 @@
+package de.probst.chunkedswarm.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Fast non-cryptographic checksums, which are not part of java 8.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 27.08.15
+ */
+final class Checksums {
+
+    // Reversed Castagnoli polynomial
+    private static final int CRC32C_POLYNOMIAL = 0x82F63B78;
+    private static final int[] CRC32C_TABLE = new int[256];
+
+    static {
+        for (int i = 0; i < CRC32C_TABLE.length; i++) {
+            int crc = i;
+            for (int j = 0; j < 8; j++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ CRC32C_POLYNOMIAL : crc >>> 1;
+            }
+            CRC32C_TABLE[i] = crc;
+        }
+    }
+
+    private static final long XXHASH64_PRIME1 = 0x9E3779B185EBCA87L;
+    private static final long XXHASH64_PRIME2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long XXHASH64_PRIME3 = 0x165667B19E3779F9L;
+    private static final long XXHASH64_PRIME4 = 0x85EBCA77C2B2AE63L;
+    private static final long XXHASH64_PRIME5 = 0x27D4EB2F165667C5L;
+
+    private static long xxHash64Round(long acc, long input) {
+        acc += input * XXHASH64_PRIME2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * XXHASH64_PRIME1;
+    }
+
+    private static long xxHash64Merge(long acc, long val) {
+        acc ^= xxHash64Round(0, val);
+        return acc * XXHASH64_PRIME1 + XXHASH64_PRIME4;
+    }
+
+    private Checksums() {
+
+    }
+
+    public static byte[] crc32c(ByteBuffer byteBuffer) {
+        int crc = 0xFFFFFFFF;
+        for (int i = byteBuffer.position(); i < byteBuffer.limit(); i++) {
+            crc = (crc >>> 8) ^ CRC32C_TABLE[(crc ^ byteBuffer.get(i)) & 0xFF];
+        }
+        byteBuffer.position(byteBuffer.limit());
+        return ByteBuffer.allocate(4).putInt(~crc).array();
+    }
+
+    public static byte[] xxHash64(ByteBuffer byteBuffer) {
+        ByteBuffer in = byteBuffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int length = in.remaining();
+        long hash;
+
+        // Process stripes of 32 bytes
+        if (length >= 32) {
+            long v1 = XXHASH64_PRIME1 + XXHASH64_PRIME2;
+            long v2 = XXHASH64_PRIME2;
+            long v3 = 0;
+            long v4 = -XXHASH64_PRIME1;
+            while (in.remaining() >= 32) {
+                v1 = xxHash64Round(v1, in.getLong());
+                v2 = xxHash64Round(v2, in.getLong());
+                v3 = xxHash64Round(v3, in.getLong());
+                v4 = xxHash64Round(v4, in.getLong());
+            }
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = xxHash64Merge(hash, v1);
+            hash = xxHash64Merge(hash, v2);
+            hash = xxHash64Merge(hash, v3);
+            hash = xxHash64Merge(hash, v4);
+        } else {
+            hash = XXHASH64_PRIME5;
+        }
+        hash += length;
+
+        // Process the remaining bytes
+        while (in.remaining() >= 8) {
+            hash ^= xxHash64Round(0, in.getLong());
+            hash = Long.rotateLeft(hash, 27) * XXHASH64_PRIME1 + XXHASH64_PRIME4;
+        }
+        if (in.remaining() >= 4) {
+            hash ^= (in.getInt() & 0xFFFFFFFFL) * XXHASH64_PRIME1;
+            hash = Long.rotateLeft(hash, 23) * XXHASH64_PRIME2 + XXHASH64_PRIME3;
+        }
+        while (in.hasRemaining()) {
+            hash ^= (in.get() & 0xFF) * XXHASH64_PRIME5;
+            hash = Long.rotateLeft(hash, 11) * XXHASH64_PRIME1;
+        }
+
+        // Avalanche
+        hash ^= hash >>> 33;
+        hash *= XXHASH64_PRIME2;
+        hash ^= hash >>> 29;
+        hash *= XXHASH64_PRIME3;
+        hash ^= hash >>> 32;
+
+        byteBuffer.position(byteBuffer.limit());
+        return ByteBuffer.allocate(8).putLong(hash).array();
+    }
+}
@@ -12,7 +12,7 @@ public final class ChunkHeader implements Serializable {
     private final int chunkIndex;
     private final int size;
 
-    ChunkHeader(int sequence, int chunkIndex, int size) {
+    public ChunkHeader(int sequence, int chunkIndex, int size) {
         this.sequence = sequence;
         this.chunkIndex = chunkIndex;
         this.size = size;
@@ -1,46 +1,42 @@
 package de.probst.chunkedswarm.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.ListIterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 /**
+ * A generic facade for {@link BitGraph}.
+ * <p>
+ * The nodes are interned to dense indices for every mesh computation.
+ *
  * @author Christopher Probst <christopher.probst@hhu.de>
  * @version 1.0, 21.03.15
  */
 public final class Graph<T> implements Cloneable {
 
-    private static <T> void insertCandidate(NodeGroups<T> meshCandidates, NodeGroup<T> newMeshCandidate) {
-        for (ListIterator<NodeGroup<T>> i = meshCandidates.getGroups().listIterator(); i.hasNext(); ) {
-            NodeGroup<T> meshCandidate = i.next();
-
-            if (newMeshCandidate.isSuperGroupOf(meshCandidate)) {
-                // Ignore super groups, they are not specific enough
-                return;
-            } else if (meshCandidate.isSuperGroupOf(newMeshCandidate)) {
-                // Replace old broader candidate with new candidate
-                i.set(newMeshCandidate);
-                return;
-            }
-        }
-
-        // No super groups, just add =)
-        meshCandidates.getGroups().add(newMeshCandidate);
-    }
-
     // A nodes is just a set of nodes mapped to their neighbours
     private Map<T, NodeGroup<T>> nodes = new HashMap<>();
 
-    private void removeUnidirectionalLinks() {
-        // Ignore correct reverse neighbours
-        nodes.entrySet().forEach(entry -> entry.getValue()
-                                               .getNodes()
-                                               .removeIf(n -> !nodes.containsKey(n) ||
-                                                              !nodes.get(n).getNodes().contains(entry.getKey())));
+    private BitGraph toBitGraph(Map<T, Integer> indices) {
+        BitGraph bitGraph = new BitGraph(indices.size());
+        nodes.entrySet().forEach(entry -> {
+            int from = indices.get(entry.getKey());
+            entry.getValue().getNodes().forEach(n -> {
+                // Links to unknown nodes are always unidirectional
+                Integer to = indices.get(n);
+                if (to != null) {
+                    bitGraph.addLink(from, to);
+                }
+            });
+        });
 
+        // Make sure, the graph has no unidirectional links
+        bitGraph.removeUnidirectionalLinks();
+        return bitGraph;
     }
 
     public Map<T, NodeGroup<T>> getNodes() {
@@ -62,59 +58,34 @@ public final class Graph<T> implements Cloneable {
         Objects.requireNonNull(root);
         Objects.requireNonNull(intersectionGraph);
 
-        // Make sure to use copies
-        Graph<T> graphClone = clone();
-        Graph<T> intersectionGraphClone = intersectionGraph.clone();
-
-        // Make sure, the graphs have no unidirectional links
-        graphClone.removeUnidirectionalLinks();
-        intersectionGraphClone.removeUnidirectionalLinks();
-
-        // Lookup the neighbours
-        NodeGroup<T> revNeighbours = graphClone.nodes.get(root);
-        if (revNeighbours == null) {
+        // Lookup the roots
+        if (!nodes.containsKey(root)) {
             throw new IllegalArgumentException("Root does not exist");
+        } else if (!intersectionGraph.nodes.containsKey(root)) {
+            throw new IllegalArgumentException("Intersection root does not exist");
         }
 
-        // Lookup the neighbours in the intersection graph
-        NodeGroup<T> revIntersectionNeighbours = intersectionGraphClone.nodes.get(root);
-        if (revIntersectionNeighbours == null) {
-            throw new IllegalArgumentException("Intersection root does not exist");
+        // Intern all nodes of both graphs to dense indices
+        List<T> nodeList = new ArrayList<>(nodes.keySet());
+        intersectionGraph.nodes.keySet().stream().filter(n -> !nodes.containsKey(n)).forEach(nodeList::add);
+        Map<T, Integer> indices = new HashMap<>();
+        for (int i = 0; i < nodeList.size(); i++) {
+            indices.put(nodeList.get(i), i);
         }
 
-        // Make intersection
-        NodeGroup<T> revNeighboursIntersection = revNeighbours.intersection(revIntersectionNeighbours);
+        // Compute the meshes with bitsets
+        List<long[]> meshes = toBitGraph(indices).findMeshes(indices.get(root),
+                                                             intersectionGraph.toBitGraph(indices));
 
-        // Here we store all mesh candidates
+        // Map the meshes back to the nodes
         NodeGroups<T> meshCandidates = new NodeGroups<>();
-
-        // Iterate over all reverse neighbours in the intersection
-        revNeighboursIntersection.getNodes().forEach(revNeighbour -> {
-
-            // The next mesh candidate
-            NodeGroup<T> meshCandidate = graphClone.nodes.get(revNeighbour).intersection(revNeighboursIntersection);
-
-            // The next intersection mesh candidate
-            NodeGroup<T> intersectionMeshCandidate = intersectionGraphClone.nodes.get(revNeighbour).intersection(
-                    revNeighboursIntersection);
-
-            // Compute the intersection of both
-            NodeGroup<T> meshCandidateIntersection = meshCandidate.intersection(intersectionMeshCandidate);
-
-            // Add root and reverse neighbour
-            meshCandidateIntersection.getNodes().add(root);
-            meshCandidateIntersection.getNodes().add(revNeighbour);
-
-            // Insert the mesh candidate, if valid!
-            insertCandidate(meshCandidates, meshCandidateIntersection);
+        meshes.forEach(mesh -> {
+            NodeGroup<T> meshCandidate = new NodeGroup<>();
+            for (int i = BitGraph.nextSetBit(mesh, 0); i >= 0; i = BitGraph.nextSetBit(mesh, i + 1)) {
+                meshCandidate.getNodes().add(nodeList.get(i));
+            }
+            meshCandidates.getGroups().add(meshCandidate);
         });
-
-        // The final result should not contain the root!
-        meshCandidates.getGroups().forEach(ng -> ng.getNodes().remove(root));
-
-        // Sort according to the number of nodes per group (highest first)
-        meshCandidates.getGroups().sort(Comparator.comparing((NodeGroup<T> g) -> g.getNodes().size()).reversed());
-
         return meshCandidates;
     }
 
@@ -145,44 +116,52 @@ public final class Graph<T> implements Cloneable {
     }
 
     public static void main(String[] args) {
-        Graph<Integer> g = new Graph<>();
-        Graph<Integer> g2 = new Graph<>();
-        int count = 10000;
+        BitGraph g = new BitGraph(10000);
+        BitGraph g2 = new BitGraph(10000);
+        int count = g.getNodeCount();
 
         // Create g links
         for (int i = 0; i < count; i++) {
-            NodeGroup<Integer> neighbours = new NodeGroup<>();
             for (int j = 0; j < count; j++) {
                 if (i != j) {
-                    neighbours.getNodes().add(j);
+                    g.addLink(i, j);
                 }
             }
-
-            g.getNodes().put(i, neighbours);
         }
 
         // Create g2 links
         for (int i = 0; i < count; i += 2) {
-            NodeGroup<Integer> neighbours = new NodeGroup<>();
             for (int j = 0; j < count; j += 2) {
                 if (i != j) {
-                    neighbours.getNodes().add(j);
+                    g2.addLink(i, j);
                 }
             }
-
-            g2.getNodes().put(i, neighbours);
         }
+        g2.removeUnidirectionalLinks();
 
         // Create expected values
-        NodeGroup<Integer> expected = new NodeGroup<>();
-        for (int i = 0; i < count; i += 1) {
-            if (i != 0) {
-                expected.getNodes().add(i);
-            }
+        long[] expected = new long[g.getNeighbours(0).length];
+        for (int i = 1; i < count; i++) {
+            BitGraph.set(expected, i);
         }
 
         // Find all meshes of the nodes
-        NodeGroups<Integer> meshes = g.findMeshes(0, g);
-        System.out.println(meshes.equals(new NodeGroups<>(Collections.singletonList(expected))));
+        List<long[]> meshes = g.findMeshes(0, g);
+        System.out.println(meshes.size() == 1 && Arrays.equals(meshes.get(0), expected));
+
+        // The generic graph is just a facade
+        Graph<Integer> facade = new Graph<>();
+        for (int i = 0; i < 1000; i++) {
+            NodeGroup<Integer> neighbours = new NodeGroup<>();
+            for (int j = 0; j < 1000; j++) {
+                if (i != j) {
+                    neighbours.getNodes().add(j);
+                }
+            }
+            facade.getNodes().put(i, neighbours);
+        }
+        NodeGroup<Integer> facadeExpected = new NodeGroup<>();
+        facadeExpected.getNodes().addAll(facade.getNodes().get(0).getNodes());
+        System.out.println(facade.findMeshes(0).equals(new NodeGroups<>(Collections.singletonList(facadeExpected))));
     }
-}
\ No newline at end of file
+}
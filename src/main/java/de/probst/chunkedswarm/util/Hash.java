@@ -2,8 +2,6 @@ package de.probst.chunkedswarm.util;
 
 import java.io.Serializable;
 import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -13,10 +11,10 @@ import java.util.Objects;
  */
 public final class Hash implements Serializable {
 
-    public static Hash computeSHA1(ByteBuffer byteBuffer) throws NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance("sha1");
-        digest.update(byteBuffer);
-        return new Hash(digest.digest());
+    public static Hash compute(HashAlgorithm hashAlgorithm, ByteBuffer byteBuffer) {
+        Objects.requireNonNull(hashAlgorithm);
+        Objects.requireNonNull(byteBuffer);
+        return new Hash(hashAlgorithm.digest(byteBuffer));
     }
 
     private final byte[] bytes;
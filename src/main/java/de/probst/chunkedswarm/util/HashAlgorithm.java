@@ -0,0 +1,69 @@
+package de.probst.chunkedswarm.util;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * The algorithms used to hash chunks and blocks.
+ * <p>
+ * CRC32C and xxHash64 only detect corruption and should be used in trusted networks,
+ * SHA-1 and SHA-256 also protect against malicious peers.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 27.08.15
+ */
+public enum HashAlgorithm {
+
+    SHA1((byte) 0, "sha1"),
+    SHA256((byte) 1, "sha-256"),
+    CRC32C((byte) 2, null) {
+        @Override
+        public byte[] digest(ByteBuffer byteBuffer) {
+            return Checksums.crc32c(byteBuffer);
+        }
+    },
+    XXHASH64((byte) 3, null) {
+        @Override
+        public byte[] digest(ByteBuffer byteBuffer) {
+            return Checksums.xxHash64(byteBuffer);
+        }
+    };
+
+    public static HashAlgorithm fromID(byte id) {
+        for (HashAlgorithm hashAlgorithm : values()) {
+            if (hashAlgorithm.id == id) {
+                return hashAlgorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unknown hash algorithm: " + id);
+    }
+
+    private final byte id;
+
+    // Message digests are expensive to look up, so reuse them per thread
+    private final ThreadLocal<MessageDigest> messageDigest;
+
+    HashAlgorithm(byte id, String messageDigestName) {
+        this.id = id;
+        messageDigest = messageDigestName == null ? null : ThreadLocal.withInitial(() -> {
+            try {
+                return MessageDigest.getInstance(messageDigestName);
+            } catch (NoSuchAlgorithmException e) {
+                // Every java platform has to support sha-1 and sha-256
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    public byte getID() {
+        return id;
+    }
+
+    public byte[] digest(ByteBuffer byteBuffer) {
+        // Digesting resets the message digest
+        MessageDigest digest = messageDigest.get();
+        digest.update(byteBuffer);
+        return digest.digest();
+    }
+}
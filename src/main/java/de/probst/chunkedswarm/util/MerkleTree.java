@@ -0,0 +1,174 @@
+package de.probst.chunkedswarm.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A binary hash tree over chunk hashes.
+ * <p>
+ * Leaves hash the digest of their chunk, inner nodes hash their children,
+ * odd nodes are promoted to the next level. Both are prefixed differently,
+ * so a chunk can never pass for an inner node.
+ * The root identifies the whole block, while every single chunk can be
+ * verified against the root with a proof of log2(n) hashes.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 26.08.15
+ */
+public final class MerkleTree {
+
+    // Used to separate inner nodes from leaves
+    private static final byte LEAF_PREFIX = 0;
+    private static final byte INNER_NODE_PREFIX = 1;
+
+    public static Hash computeLeafHash(HashAlgorithm hashAlgorithm, ByteBuffer chunk) {
+        byte[] digest = hashAlgorithm.digest(chunk);
+        ByteBuffer leaf = ByteBuffer.allocate(1 + digest.length);
+        leaf.put(LEAF_PREFIX).put(digest).flip();
+        return Hash.compute(hashAlgorithm, leaf);
+    }
+
+    public static Hash computeInnerHash(HashAlgorithm hashAlgorithm, Hash left, Hash right) {
+        ByteBuffer node = ByteBuffer.allocate(1 + left.getBytes().length + right.getBytes().length);
+        node.put(INNER_NODE_PREFIX).put(left.getBytes()).put(right.getBytes()).flip();
+        return Hash.compute(hashAlgorithm, node);
+    }
+
+    public static Hash computeRoot(HashAlgorithm hashAlgorithm, List<Hash> leaves) {
+        return new MerkleTree(hashAlgorithm, leaves).getRoot();
+    }
+
+    public static boolean verify(HashAlgorithm hashAlgorithm,
+                                 Hash root,
+                                 int leafIndex,
+                                 int leafCount,
+                                 Hash leaf,
+                                 List<Hash> proof) {
+        Objects.requireNonNull(hashAlgorithm);
+        Objects.requireNonNull(root);
+        Objects.requireNonNull(leaf);
+        Objects.requireNonNull(proof);
+
+        if (leafIndex < 0 || leafIndex >= leafCount) {
+            throw new IllegalArgumentException("leafIndex < 0 || leafIndex >= leafCount");
+        }
+
+        // Walk up the tree
+        Hash current = leaf;
+        int index = leafIndex;
+        int count = leafCount;
+        int next = 0;
+        while (count > 1) {
+            int sibling = index ^ 1;
+
+            // Odd nodes are promoted without a sibling
+            if (sibling < count) {
+                if (next >= proof.size()) {
+                    return false;
+                }
+                Hash siblingHash = proof.get(next++);
+                current = (index & 1) == 0 ?
+                          computeInnerHash(hashAlgorithm, current, siblingHash) :
+                          computeInnerHash(hashAlgorithm, siblingHash, current);
+            }
+
+            index >>= 1;
+            count = (count + 1) >> 1;
+        }
+
+        return next == proof.size() && current.equals(root);
+    }
+
+    private final HashAlgorithm hashAlgorithm;
+
+    // All levels, starting with the leaves
+    private final List<List<Hash>> levels = new ArrayList<>();
+
+    public MerkleTree(HashAlgorithm hashAlgorithm, List<Hash> leaves) {
+        Objects.requireNonNull(hashAlgorithm);
+        Objects.requireNonNull(leaves);
+        this.hashAlgorithm = hashAlgorithm;
+
+        if (leaves.isEmpty()) {
+            throw new IllegalArgumentException("leaves.isEmpty()");
+        }
+
+        // Build all levels up to the root
+        List<Hash> level = Collections.unmodifiableList(new ArrayList<>(leaves));
+        levels.add(level);
+        while (level.size() > 1) {
+            List<Hash> parents = new ArrayList<>((level.size() + 1) / 2);
+            for (int i = 0; i < level.size(); i += 2) {
+                parents.add(i + 1 < level.size() ?
+                            computeInnerHash(hashAlgorithm, level.get(i), level.get(i + 1)) :
+                            level.get(i));
+            }
+            level = Collections.unmodifiableList(parents);
+            levels.add(level);
+        }
+    }
+
+    public HashAlgorithm getHashAlgorithm() {
+        return hashAlgorithm;
+    }
+
+    public Hash getRoot() {
+        return levels.get(levels.size() - 1).get(0);
+    }
+
+    public List<Hash> getLeaves() {
+        return levels.get(0);
+    }
+
+    public int getLeafCount() {
+        return getLeaves().size();
+    }
+
+    public List<Hash> getProof(int leafIndex) {
+        if (leafIndex < 0 || leafIndex >= getLeafCount()) {
+            throw new IllegalArgumentException("leafIndex < 0 || leafIndex >= getLeafCount()");
+        }
+
+        // Collect all siblings on the path to the root
+        List<Hash> proof = new ArrayList<>();
+        int index = leafIndex;
+        for (List<Hash> level : levels.subList(0, levels.size() - 1)) {
+            int sibling = index ^ 1;
+            if (sibling < level.size()) {
+                proof.add(level.get(sibling));
+            }
+            index >>= 1;
+        }
+        return proof;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        MerkleTree that = (MerkleTree) o;
+
+        if (hashAlgorithm != that.hashAlgorithm) return false;
+        return levels.equals(that.levels);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashAlgorithm.hashCode();
+        result = 31 * result + levels.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "MerkleTree{" +
+               "hashAlgorithm=" + hashAlgorithm +
+               ", root=" + getRoot() +
+               ", leafCount=" + getLeafCount() +
+               '}';
+    }
+}
@@ -0,0 +1,250 @@
+package de.probst.chunkedswarm.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A graph, which maintains its meshes incrementally.
+ * <p>
+ * Two nodes are linked, if both know each other as outbound and inbound neighbour.
+ * Every node spans a mesh candidate with all linked nodes. Like in
+ * {@link Graph#findMeshes(Object, Graph)}, only candidates without a smaller
+ * candidate inside are meshes.
+ * <p>
+ * Updating a node only touches the node and its old and new links. The meshes are
+ * refreshed lazily for all changed nodes and their links and cached until the next change.
+ * <p>
+ * Nodes are interned as dense indices, so the links are kept in a {@link BitGraph}
+ * and the sub mesh checks are word-wise operations.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 05.09.15
+ */
+public final class MeshGraph<T> {
+
+    // The reported neighbours of all nodes
+    private final Map<T, Set<T>> outboundNeighbours = new HashMap<>();
+    private final Map<T, Set<T>> inboundNeighbours = new HashMap<>();
+
+    // The initial node count of the link graph
+    private static final int INITIAL_NODE_COUNT = 64;
+
+    // The dense indices of all updated nodes
+    private final Map<T, Integer> indices = new HashMap<>();
+
+    // The nodes by index, null if the index is free
+    private final List<T> nodesByIndex = new ArrayList<>();
+
+    // Indices of removed nodes, which are reused first
+    private final Deque<Integer> freeIndices = new ArrayDeque<>();
+
+    // The mutual links of all nodes by index
+    private final BitGraph links = new BitGraph(INITIAL_NODE_COUNT);
+
+    // The nodes, which span a mesh
+    private final Set<T> meshNodes = new HashSet<>();
+
+    // Nodes, whose links changed since the meshes were computed
+    private final Set<T> changedNodes = new HashSet<>();
+
+    // The cached meshes, largest first
+    private NodeGroups<T> meshes;
+
+    /**
+     * @return true, if both nodes know each other as outbound and inbound neighbour
+     */
+    public boolean isLinked(T a, T b) {
+        Set<T> aOutbound = outboundNeighbours.get(a);
+        Set<T> aInbound = inboundNeighbours.get(a);
+        Set<T> bOutbound = outboundNeighbours.get(b);
+        Set<T> bInbound = inboundNeighbours.get(b);
+        return !a.equals(b) &&
+               aOutbound != null &&
+               bOutbound != null &&
+               aOutbound.contains(b) &&
+               aInbound.contains(b) &&
+               bOutbound.contains(a) &&
+               bInbound.contains(a);
+    }
+
+    private Set<T> computeLinks(T node) {
+        // Only outbound neighbours can be linked
+        Set<T> nodeLinks = new HashSet<>();
+        for (T neighbour : outboundNeighbours.get(node)) {
+            if (isLinked(node, neighbour)) {
+                nodeLinks.add(neighbour);
+            }
+        }
+        return nodeLinks;
+    }
+
+    private int intern(T node) {
+        Integer index = indices.get(node);
+        if (index != null) {
+            return index;
+        }
+
+        if (freeIndices.isEmpty()) {
+            index = nodesByIndex.size();
+            nodesByIndex.add(node);
+            links.ensureNodeCount(Math.max(links.getNodeCount(), Integer.highestOneBit(index) << 1));
+        } else {
+            index = freeIndices.poll();
+            nodesByIndex.set(index, node);
+        }
+        indices.put(node, index);
+        return index;
+    }
+
+    private Set<T> getLinks(int index) {
+        Set<T> nodeLinks = new HashSet<>();
+        long[] bits = links.getNeighbours(index);
+        for (int i = BitGraph.nextSetBit(bits, 0); i >= 0; i = BitGraph.nextSetBit(bits, i + 1)) {
+            nodeLinks.add(nodesByIndex.get(i));
+        }
+        return nodeLinks;
+    }
+
+    // True, if the mesh candidate of the inner node is a strict subset of the outer one
+    private boolean isStrictSubMesh(int inner, int outer) {
+        // The outer node is linked with the inner node, so both contain each other
+        return links.getLinkCount(inner) < links.getLinkCount(outer) && links.hasNeighboursWithin(inner, outer);
+    }
+
+    private boolean spansMesh(T node) {
+        Integer index = indices.get(node);
+        if (index == null) {
+            return false;
+        }
+
+        // A smaller candidate can only be spanned by a linked node
+        long[] bits = links.getNeighbours(index);
+        for (int i = BitGraph.nextSetBit(bits, 0); i >= 0; i = BitGraph.nextSetBit(bits, i + 1)) {
+            if (isStrictSubMesh(i, index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void refreshMesh(T node) {
+        if (spansMesh(node)) {
+            meshNodes.add(node);
+        } else {
+            meshNodes.remove(node);
+        }
+    }
+
+    private void refreshMeshes() {
+        // Nodes, whose candidate or linked candidates changed
+        Set<T> affectedNodes = new HashSet<>(changedNodes);
+        for (T changedNode : changedNodes) {
+            Integer index = indices.get(changedNode);
+            if (index != null) {
+                affectedNodes.addAll(getLinks(index));
+            }
+        }
+        affectedNodes.forEach(this::refreshMesh);
+        changedNodes.clear();
+    }
+
+    /**
+     * Adds or updates the node with its reported neighbours.
+     */
+    public void update(T node, Collection<T> outbound, Collection<T> inbound) {
+        Objects.requireNonNull(node);
+        Objects.requireNonNull(outbound);
+        Objects.requireNonNull(inbound);
+
+        outboundNeighbours.put(node, new HashSet<>(outbound));
+        inboundNeighbours.put(node, new HashSet<>(inbound));
+
+        // Only links with this node can change
+        int index = intern(node);
+        Set<T> oldLinks = getLinks(index);
+        Set<T> newLinks = computeLinks(node);
+        oldLinks.stream().filter(n -> !newLinks.contains(n)).map(indices::get).forEach(n -> {
+            links.removeLink(index, n);
+            links.removeLink(n, index);
+        });
+        newLinks.stream().filter(n -> !oldLinks.contains(n)).map(indices::get).forEach(n -> {
+            links.addLink(index, n);
+            links.addLink(n, index);
+        });
+
+        changedNodes.addAll(oldLinks);
+        changedNodes.addAll(newLinks);
+        changedNodes.add(node);
+        meshes = null;
+    }
+
+    /**
+     * Removes the node and all its links.
+     */
+    public void remove(T node) {
+        Objects.requireNonNull(node);
+
+        outboundNeighbours.remove(node);
+        inboundNeighbours.remove(node);
+        Integer index = indices.remove(node);
+        if (index == null) {
+            return;
+        }
+
+        Set<T> oldLinks = getLinks(index);
+        oldLinks.stream().map(indices::get).forEach(n -> links.removeLink(n, index));
+        links.removeLinks(index);
+        nodesByIndex.set(index, null);
+        freeIndices.push(index);
+        changedNodes.addAll(oldLinks);
+        changedNodes.add(node);
+        meshes = null;
+    }
+
+    public Set<T> getNodes() {
+        return Collections.unmodifiableSet(indices.keySet());
+    }
+
+    /**
+     * The returned meshes are shared until the next change and must not be modified.
+     *
+     * @return all distinct meshes, largest first
+     */
+    public NodeGroups<T> getMeshes() {
+        if (meshes == null) {
+            // Changes are collected until the meshes are needed
+            refreshMeshes();
+
+            // Equal candidates are spanned by every node of a full mesh
+            Set<NodeGroup<T>> distinctMeshes = new LinkedHashSet<>();
+            for (T meshNode : meshNodes) {
+                NodeGroup<T> mesh = new NodeGroup<>(getLinks(indices.get(meshNode)));
+                mesh.getNodes().add(meshNode);
+                distinctMeshes.add(mesh);
+            }
+
+            meshes = new NodeGroups<>(new ArrayList<>(distinctMeshes));
+            meshes.getGroups().sort(Comparator.comparing((NodeGroup<T> g) -> g.getNodes().size()).reversed());
+        }
+        return meshes;
+    }
+
+    @Override
+    public String toString() {
+        return "MeshGraph{" +
+               "nodes=" + indices.size() +
+               ", meshes=" + getMeshes().getGroups().size() +
+               '}';
+    }
+}
@@ -0,0 +1,114 @@
+package de.probst.chunkedswarm.util;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Scores the health of peers by their write history.
+ * <p>
+ * Every write is a sample between 0 and 1: Fast writes score 1, slow writes
+ * and writes to unwritable channels score a quarter, timed out writes score 0.
+ * The score is smoothed over all samples. Peers are demoted, when their
+ * score falls below the demotion threshold, and promoted back, when it
+ * recovers above the higher promotion threshold.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 11.09.15
+ */
+public final class PeerHealthTracker<T> {
+
+    // The weight of a new sample
+    public static final double SMOOTHING_FACTOR = 0.25;
+
+    // Writes, which take longer than this share of their deadline, are slow
+    public static final double SLOW_WRITE_RATIO = 0.5;
+
+    // The sample of slow writes, peers which are always slow are demoted
+    public static final double SLOW_WRITE_SAMPLE = 0.25;
+
+    public static final double DEMOTION_THRESHOLD = 0.5;
+    public static final double PROMOTION_THRESHOLD = 0.8;
+
+    // The smoothed scores, unknown peers are healthy
+    private final Map<T, Double> scores = new HashMap<>();
+
+    // The peers, whose score fell below the demotion threshold
+    private final Set<T> demotedPeers = new HashSet<>();
+
+    private boolean record(T peer, double sample) {
+        Objects.requireNonNull(peer);
+        double score = getScore(peer);
+        score += SMOOTHING_FACTOR * (sample - score);
+        scores.put(peer, score);
+
+        // The gap between both thresholds prevents flapping
+        if (score < DEMOTION_THRESHOLD) {
+            return demotedPeers.add(peer);
+        } else if (score > PROMOTION_THRESHOLD) {
+            return demotedPeers.remove(peer);
+        }
+        return false;
+    }
+
+    /**
+     * @return true, if the peer was demoted or promoted
+     */
+    public boolean recordWrite(T peer, Duration latency, Duration deadline) {
+        Objects.requireNonNull(latency);
+        Objects.requireNonNull(deadline);
+        return record(peer, latency.toNanos() <= deadline.toNanos() * SLOW_WRITE_RATIO ? 1 : SLOW_WRITE_SAMPLE);
+    }
+
+    /**
+     * @return true, if the peer was demoted or promoted
+     */
+    public boolean recordUnwritable(T peer) {
+        return record(peer, SLOW_WRITE_SAMPLE);
+    }
+
+    /**
+     * @return true, if the peer was demoted or promoted
+     */
+    public boolean recordTimeout(T peer) {
+        return record(peer, 0);
+    }
+
+    /**
+     * Peers without writes recover, so they get another chance after a while.
+     *
+     * @return true, if the peer was promoted
+     */
+    public boolean recordSkipped(T peer) {
+        return record(peer, 1);
+    }
+
+    public void remove(T peer) {
+        scores.remove(peer);
+        demotedPeers.remove(peer);
+    }
+
+    public double getScore(T peer) {
+        return scores.getOrDefault(peer, 1.0);
+    }
+
+    public boolean isDemoted(T peer) {
+        return demotedPeers.contains(peer);
+    }
+
+    public Set<T> getDemotedPeers() {
+        return Collections.unmodifiableSet(demotedPeers);
+    }
+
+    @Override
+    public String toString() {
+        return "PeerHealthTracker{" +
+               "peers=" + scores.size() +
+               ", demotedPeers=" + demotedPeers.size() +
+               '}';
+    }
+}
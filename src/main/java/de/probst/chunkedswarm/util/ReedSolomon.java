@@ -0,0 +1,247 @@
+package de.probst.chunkedswarm.util;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A systematic Reed-Solomon erasure code over GF(256).
+ * <p>
+ * The parity shards are computed with a cauchy matrix, so any
+ * data shards can be reconstructed from any k available shards.
+ * Data shards, which are shorter than the parity shards, are zero padded.
+ * <p>
+ * All arithmetic is table driven and works on (direct) byte buffers
+ * with absolute indices, so positions of the shards are never modified.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 03.09.15
+ */
+public final class ReedSolomon {
+
+    public static final int MAX_SHARD_COUNT = 256;
+
+    // The primitive polynomial x^8 + x^4 + x^3 + x^2 + 1
+    private static final int PRIMITIVE_POLYNOMIAL = 0x11D;
+
+    private static final int[] EXP = new int[510];
+    private static final int[] LOG = new int[256];
+
+    // The full multiplication table, indexed by [a][b]
+    private static final byte[][] MUL = new byte[256][256];
+
+    static {
+        int x = 1;
+        for (int i = 0; i < 255; i++) {
+            EXP[i] = EXP[i + 255] = x;
+            LOG[x] = i;
+            x <<= 1;
+            if (x >= 256) {
+                x ^= PRIMITIVE_POLYNOMIAL;
+            }
+        }
+
+        for (int a = 1; a < 256; a++) {
+            for (int b = 1; b < 256; b++) {
+                MUL[a][b] = (byte) EXP[LOG[a] + LOG[b]];
+            }
+        }
+    }
+
+    private static int mul(int a, int b) {
+        return MUL[a][b] & 0xFF;
+    }
+
+    private static int inv(int a) {
+        if (a == 0) {
+            throw new ArithmeticException("a == 0");
+        }
+        return EXP[255 - LOG[a]];
+    }
+
+    private static int[][] invert(int[][] matrix) {
+        int n = matrix.length;
+
+        // Gauss-Jordan elimination on [matrix | identity]
+        int[][] work = new int[n][2 * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(matrix[i], 0, work[i], 0, n);
+            work[i][n + i] = 1;
+        }
+
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            while (pivot < n && work[pivot][col] == 0) {
+                pivot++;
+            }
+            if (pivot == n) {
+                throw new ArithmeticException("Matrix is singular");
+            }
+            int[] tmp = work[pivot];
+            work[pivot] = work[col];
+            work[col] = tmp;
+
+            // Normalize the pivot row
+            int pivotInv = inv(work[col][col]);
+            for (int j = 0; j < 2 * n; j++) {
+                work[col][j] = mul(work[col][j], pivotInv);
+            }
+
+            // Eliminate the column in all other rows
+            for (int row = 0; row < n; row++) {
+                int factor = work[row][col];
+                if (row != col && factor != 0) {
+                    for (int j = 0; j < 2 * n; j++) {
+                        work[row][j] ^= mul(factor, work[col][j]);
+                    }
+                }
+            }
+        }
+
+        int[][] inverse = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(work[i], n, inverse[i], 0, n);
+        }
+        return inverse;
+    }
+
+    // Adds coefficient * source to the target, source bytes beyond the target are ignored
+    private static void mulAdd(int coefficient, ByteBuffer source, ByteBuffer target) {
+        if (coefficient == 0) {
+            return;
+        }
+
+        byte[] row = MUL[coefficient];
+        int sourcePosition = source.position();
+        int targetPosition = target.position();
+        int length = Math.min(source.remaining(), target.remaining());
+        for (int i = 0; i < length; i++) {
+            int t = targetPosition + i;
+            target.put(t, (byte) (target.get(t) ^ row[source.get(sourcePosition + i) & 0xFF]));
+        }
+    }
+
+    private static void clear(ByteBuffer buffer) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    private final int dataShardCount;
+    private final int parityShardCount;
+
+    // The parity rows of the generator matrix
+    private final int[][] parityMatrix;
+
+    private int[] getGeneratorRow(int shardIndex) {
+        if (shardIndex >= dataShardCount) {
+            return parityMatrix[shardIndex - dataShardCount];
+        }
+
+        int[] row = new int[dataShardCount];
+        row[shardIndex] = 1;
+        return row;
+    }
+
+    private void checkShards(List<ByteBuffer> shards, int count) {
+        Objects.requireNonNull(shards);
+        if (shards.size() != count) {
+            throw new IllegalArgumentException("Wrong number of shards: " + shards.size());
+        }
+    }
+
+    public ReedSolomon(int dataShardCount, int parityShardCount) {
+        if (dataShardCount <= 0) {
+            throw new IllegalArgumentException("dataShardCount <= 0");
+        } else if (parityShardCount < 0) {
+            throw new IllegalArgumentException("parityShardCount < 0");
+        } else if (dataShardCount + parityShardCount > MAX_SHARD_COUNT) {
+            throw new IllegalArgumentException("dataShardCount + parityShardCount > MAX_SHARD_COUNT");
+        }
+
+        this.dataShardCount = dataShardCount;
+        this.parityShardCount = parityShardCount;
+
+        // Cauchy matrix with x = dataShardCount + row and y = column
+        parityMatrix = new int[parityShardCount][dataShardCount];
+        for (int row = 0; row < parityShardCount; row++) {
+            for (int col = 0; col < dataShardCount; col++) {
+                parityMatrix[row][col] = inv((dataShardCount + row) ^ col);
+            }
+        }
+    }
+
+    public int getDataShardCount() {
+        return dataShardCount;
+    }
+
+    public int getParityShardCount() {
+        return parityShardCount;
+    }
+
+    public int getShardCount() {
+        return dataShardCount + parityShardCount;
+    }
+
+    /**
+     * Computes the parity shards from the data shards.
+     */
+    public void encode(List<ByteBuffer> dataShards, List<ByteBuffer> parityShards) {
+        checkShards(dataShards, dataShardCount);
+        checkShards(parityShards, parityShardCount);
+
+        for (int row = 0; row < parityShardCount; row++) {
+            ByteBuffer parityShard = parityShards.get(row);
+            clear(parityShard);
+            for (int col = 0; col < dataShardCount; col++) {
+                mulAdd(parityMatrix[row][col], dataShards.get(col), parityShard);
+            }
+        }
+    }
+
+    /**
+     * Reconstructs all missing data shards in place.
+     *
+     * @param shards  All data shards followed by all parity shards
+     * @param present The indices of all available shards
+     */
+    public void reconstructData(List<ByteBuffer> shards, BitSet present) {
+        checkShards(shards, getShardCount());
+        Objects.requireNonNull(present);
+        if (present.cardinality() < dataShardCount) {
+            throw new IllegalArgumentException("present.cardinality() < dataShardCount");
+        }
+
+        // Use the first k available shards, preferably data shards
+        int[] sourceIndices = new int[dataShardCount];
+        int[][] matrix = new int[dataShardCount][];
+        for (int i = 0, shardIndex = present.nextSetBit(0); i < dataShardCount; i++) {
+            sourceIndices[i] = shardIndex;
+            matrix[i] = getGeneratorRow(shardIndex);
+            shardIndex = present.nextSetBit(shardIndex + 1);
+        }
+
+        // The inverse maps the available shards back to the data shards
+        int[][] decodeMatrix = invert(matrix);
+        for (int dataIndex = 0; dataIndex < dataShardCount; dataIndex++) {
+            if (present.get(dataIndex)) {
+                continue;
+            }
+
+            ByteBuffer dataShard = shards.get(dataIndex);
+            clear(dataShard);
+            for (int i = 0; i < dataShardCount; i++) {
+                mulAdd(decodeMatrix[dataIndex][i], shards.get(sourceIndices[i]), dataShard);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReedSolomon{" +
+               "dataShardCount=" + dataShardCount +
+               ", parityShardCount=" + parityShardCount +
+               '}';
+    }
+}
@@ -0,0 +1,400 @@
+package de.probst.chunkedswarm.util;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Assigns every swarm id a bounded set of neighbours.
+ * <p>
+ * The swarm ids are grouped into clusters of at most max degree + 1 members,
+ * which are fully connected, so every cluster is a mesh for chunked pushes.
+ * New swarm ids fill up the fullest cluster, clusters of leaving swarm
+ * ids are merged, if they fit into another cluster.
+ * <p>
+ * Clusters are kept local: New swarm ids prefer clusters in the same subnet,
+ * clusters are merged with the closest cluster and swarm ids move to a cluster
+ * with free slots, if their measured round trip time is much lower there.
+ * <p>
+ * In tiered mode, the oldest member of every cluster is its head. The heads are
+ * clustered again, so the distributor only pushes to the head clusters and every
+ * head pushes to its own cluster. Heads have at most twice the max degree.
+ *
+ * @author Christopher Probst <christopher.probst@hhu.de>
+ * @version 1.0, 07.09.15
+ */
+public final class TopologyManager {
+
+    /**
+     * Determines, who receives blocks from the distributor.
+     */
+    public enum Mode {
+        // The distributor pushes to all clusters
+        Flat,
+
+        // The distributor pushes to the head clusters, the heads push to their clusters
+        Tiered
+    }
+
+    private static final class Cluster {
+
+        private final Set<SwarmID> members = new LinkedHashSet<>();
+
+        private SwarmID getHead() {
+            return members.iterator().next();
+        }
+    }
+
+    private final class Clustering {
+
+        private final int maxClusterSize;
+        private final List<Cluster> clusters = new ArrayList<>();
+        private final Map<SwarmID, Cluster> clusterBySwarmID = new HashMap<>();
+
+        private Clustering(int maxClusterSize) {
+            this.maxClusterSize = maxClusterSize;
+        }
+
+        private void add(SwarmID swarmID, Cluster cluster) {
+            cluster.members.add(swarmID);
+            clusterBySwarmID.put(swarmID, cluster);
+        }
+
+        private void remove(SwarmID swarmID) {
+            Cluster cluster = clusterBySwarmID.remove(swarmID);
+            cluster.members.remove(swarmID);
+            if (cluster.members.isEmpty()) {
+                clusters.remove(cluster);
+            }
+        }
+
+        private void moveMembers(Cluster from, Cluster to) {
+            for (SwarmID member : from.members) {
+                to.members.add(member);
+                clusterBySwarmID.put(member, to);
+            }
+            from.members.clear();
+            clusters.remove(from);
+        }
+
+        private void join(SwarmID swarmID) {
+            if (clusterBySwarmID.containsKey(swarmID)) {
+                throw new IllegalStateException("clusterBySwarmID.containsKey(swarmID)");
+            }
+
+            // Prefer the same subnet, then fill up the fullest cluster, so there are as few clusters as possible
+            Cluster cluster = clusters.stream()
+                                      .filter(c -> c.members.size() < maxClusterSize)
+                                      .max(Comparator.comparingLong((Cluster c) -> countSameSubnet(swarmID, c))
+                                                     .thenComparingInt(c -> c.members.size()))
+                                      .orElse(null);
+            if (cluster == null) {
+                cluster = new Cluster();
+                clusters.add(cluster);
+            }
+
+            add(swarmID, cluster);
+        }
+
+        private boolean leave(SwarmID swarmID) {
+            Cluster cluster = clusterBySwarmID.remove(swarmID);
+            if (cluster == null) {
+                return false;
+            }
+
+            cluster.members.remove(swarmID);
+            if (cluster.members.isEmpty()) {
+                clusters.remove(cluster);
+                return true;
+            }
+
+            // Merge with the closest other cluster, which fits into one cluster
+            Cluster closest = clusters.stream()
+                                      .filter(c -> c != cluster)
+                                      .filter(c -> c.members.size() + cluster.members.size() <= maxClusterSize)
+                                      .min(Comparator.comparingDouble((Cluster c) -> meanRtt(cluster.members, c))
+                                                     .thenComparingInt(c -> c.members.size()))
+                                      .orElse(null);
+            if (closest != null) {
+                if (closest.members.size() < cluster.members.size()) {
+                    moveMembers(closest, cluster);
+                } else {
+                    moveMembers(cluster, closest);
+                }
+            }
+            return true;
+        }
+
+        private boolean relocate(SwarmID swarmID) {
+            Cluster cluster = clusterBySwarmID.get(swarmID);
+            if (cluster == null) {
+                return false;
+            }
+
+            // Stay until the own cluster is measured
+            double currentRtt = meanRtt(Collections.singleton(swarmID), cluster);
+            if (Double.isInfinite(currentRtt)) {
+                return false;
+            }
+
+            // Only clusters with free slots and known round trip times are candidates
+            Cluster closest = clusters.stream()
+                                      .filter(c -> c != cluster)
+                                      .filter(c -> c.members.size() < maxClusterSize)
+                                      .min(Comparator.comparingDouble(c -> meanRtt(Collections.singleton(swarmID),
+                                                                                   c)))
+                                      .orElse(null);
+            if (closest == null ||
+                meanRtt(Collections.singleton(swarmID), closest) >= currentRtt * RELOCATION_RTT_RATIO) {
+                return false;
+            }
+
+            remove(swarmID);
+            add(swarmID, closest);
+            return true;
+        }
+
+        private Set<SwarmID> getNeighbours(SwarmID swarmID) {
+            Cluster cluster = clusterBySwarmID.get(swarmID);
+            if (cluster == null) {
+                return Collections.emptySet();
+            }
+
+            Set<SwarmID> neighbours = new HashSet<>(cluster.members);
+            neighbours.remove(swarmID);
+            return neighbours;
+        }
+    }
+
+    // A swarm id moves, if the round trip time to another cluster is below this share
+    public static final double RELOCATION_RTT_RATIO = 0.5;
+
+    // The maximum number of probe candidates per swarm id
+    public static final int MAX_PROBE_CANDIDATES = 8;
+
+    private static boolean isSameSubnet(SwarmID a, SwarmID b) {
+        if (!(a.getAddress() instanceof InetSocketAddress) || !(b.getAddress() instanceof InetSocketAddress)) {
+            return false;
+        }
+
+        // Compare the /24 prefix of ipv4 and the /64 prefix of ipv6 addresses
+        InetAddress aAddress = ((InetSocketAddress) a.getAddress()).getAddress();
+        InetAddress bAddress = ((InetSocketAddress) b.getAddress()).getAddress();
+        if (aAddress == null || bAddress == null) {
+            return false;
+        }
+        byte[] aBytes = aAddress.getAddress();
+        byte[] bBytes = bAddress.getAddress();
+        if (aBytes.length != bBytes.length) {
+            return false;
+        }
+        int prefixLength = aBytes.length == 4 ? 3 : 8;
+        for (int i = 0; i < prefixLength; i++) {
+            if (aBytes[i] != bBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The maximum number of neighbours per cluster
+    private final int maxDegree;
+
+    // The topology mode
+    private final Mode mode;
+
+    // The clusters of all swarm ids
+    private final Clustering clustering;
+
+    // The clusters of all heads, only used in tiered mode
+    private final Clustering headClustering;
+
+    // The measured round trip times in nanoseconds, reported by the first swarm id
+    private final Map<SwarmID, Map<SwarmID, Long>> rtts = new HashMap<>();
+
+    private long countSameSubnet(SwarmID swarmID, Cluster cluster) {
+        return cluster.members.stream().filter(m -> isSameSubnet(swarmID, m)).count();
+    }
+
+    private Long getRtt(SwarmID a, SwarmID b) {
+        // Either side might have measured the round trip time
+        Long rtt = rtts.getOrDefault(a, Collections.emptyMap()).get(b);
+        return rtt != null ? rtt : rtts.getOrDefault(b, Collections.emptyMap()).get(a);
+    }
+
+    // The mean known round trip time between the swarm ids and the cluster, infinite if unknown
+    private double meanRtt(Set<SwarmID> swarmIDs, Cluster cluster) {
+        OptionalDouble meanRtt = swarmIDs.stream()
+                                         .flatMap(s -> cluster.members.stream().map(m -> getRtt(s, m)))
+                                         .filter(Objects::nonNull)
+                                         .mapToLong(Long::longValue)
+                                         .average();
+        return meanRtt.orElse(Double.POSITIVE_INFINITY);
+    }
+
+    private void refreshHeads() {
+        Set<SwarmID> heads = clustering.clusters.stream().map(Cluster::getHead).collect(Collectors.toSet());
+
+        // Heads change, when they leave or their cluster is merged
+        new ArrayList<>(headClustering.clusterBySwarmID.keySet()).stream()
+                                                                 .filter(h -> !heads.contains(h))
+                                                                 .forEach(headClustering::leave);
+        heads.stream().filter(h -> !headClustering.clusterBySwarmID.containsKey(h)).forEach(headClustering::join);
+    }
+
+    public TopologyManager(int maxDegree, Mode mode) {
+        Objects.requireNonNull(mode);
+        if (maxDegree <= 0) {
+            throw new IllegalArgumentException("maxDegree <= 0");
+        }
+        this.maxDegree = maxDegree;
+        this.mode = mode;
+        clustering = new Clustering(maxDegree + 1);
+        headClustering = new Clustering(maxDegree + 1);
+    }
+
+    public int getMaxDegree() {
+        return maxDegree;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public synchronized void join(SwarmID swarmID) {
+        Objects.requireNonNull(swarmID);
+        clustering.join(swarmID);
+        if (mode == Mode.Tiered) {
+            refreshHeads();
+        }
+    }
+
+    /**
+     * @return false, if the swarm id never joined
+     */
+    public synchronized boolean leave(SwarmID swarmID) {
+        Objects.requireNonNull(swarmID);
+        if (!clustering.leave(swarmID)) {
+            return false;
+        }
+        rtts.remove(swarmID);
+        rtts.values().forEach(r -> r.remove(swarmID));
+        if (mode == Mode.Tiered) {
+            refreshHeads();
+        }
+        return true;
+    }
+
+    /**
+     * Stores the round trip times measured by the swarm id and moves
+     * the swarm id, if another cluster is much closer.
+     *
+     * @return true, if the neighbours of the swarm id changed
+     */
+    public synchronized boolean updateRtts(SwarmID swarmID, Map<SwarmID, Duration> measuredRtts) {
+        Objects.requireNonNull(swarmID);
+        Objects.requireNonNull(measuredRtts);
+        if (!clustering.clusterBySwarmID.containsKey(swarmID)) {
+            return false;
+        }
+
+        // Ignore round trip times of swarm ids, which already left
+        Map<SwarmID, Long> swarmIDRtts = rtts.computeIfAbsent(swarmID, k -> new HashMap<>());
+        measuredRtts.entrySet()
+                    .stream()
+                    .filter(e -> clustering.clusterBySwarmID.containsKey(e.getKey()))
+                    .forEach(e -> swarmIDRtts.put(e.getKey(), e.getValue().toNanos()));
+
+        if (!clustering.relocate(swarmID)) {
+            return false;
+        }
+        if (mode == Mode.Tiered) {
+            refreshHeads();
+        }
+        return true;
+    }
+
+    /**
+     * The neighbours are probed first, then one member of every cluster with free slots.
+     *
+     * @return the swarm ids, whose round trip time is not known to the swarm id yet
+     */
+    public synchronized Set<SwarmID> getProbeCandidates(SwarmID swarmID) {
+        Objects.requireNonNull(swarmID);
+        Cluster cluster = clustering.clusterBySwarmID.get(swarmID);
+        if (cluster == null) {
+            return Collections.emptySet();
+        }
+
+        Map<SwarmID, Long> swarmIDRtts = rtts.getOrDefault(swarmID, Collections.emptyMap());
+        Set<SwarmID> candidates = new LinkedHashSet<>(getNeighbours(swarmID));
+        clustering.clusters.stream()
+                           .filter(c -> c != cluster)
+                           .filter(c -> c.members.size() < clustering.maxClusterSize)
+                           .map(Cluster::getHead)
+                           .forEach(candidates::add);
+        return candidates.stream()
+                         .filter(c -> !swarmIDRtts.containsKey(c))
+                         .limit(MAX_PROBE_CANDIDATES)
+                         .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * @return a copy of the current neighbours of the swarm id in both tiers
+     */
+    public synchronized Set<SwarmID> getNeighbours(SwarmID swarmID) {
+        Objects.requireNonNull(swarmID);
+        Set<SwarmID> neighbours = clustering.getNeighbours(swarmID);
+        neighbours.addAll(getHeadNeighbours(swarmID));
+        return neighbours;
+    }
+
+    /**
+     * @return a copy of the other heads in the head cluster of the swarm id
+     */
+    public synchronized Set<SwarmID> getHeadNeighbours(SwarmID swarmID) {
+        Objects.requireNonNull(swarmID);
+        return headClustering.getNeighbours(swarmID);
+    }
+
+    /**
+     * @return the head of the cluster of the swarm id or null, if not tiered or unknown
+     */
+    public synchronized SwarmID getHead(SwarmID swarmID) {
+        Objects.requireNonNull(swarmID);
+        Cluster cluster = clustering.clusterBySwarmID.get(swarmID);
+        return mode == Mode.Tiered && cluster != null ? cluster.getHead() : null;
+    }
+
+    /**
+     * @return copies of all head clusters, empty if not tiered
+     */
+    public synchronized List<Set<SwarmID>> getHeadClusters() {
+        return headClustering.clusters.stream()
+                                      .map(c -> new LinkedHashSet<>(c.members))
+                                      .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TopologyManager{" +
+               "maxDegree=" + maxDegree +
+               ", mode=" + mode +
+               ", swarmIDs=" + clustering.clusterBySwarmID.size() +
+               ", clusters=" + clustering.clusters.size() +
+               ", headClusters=" + headClustering.clusters.size() +
+               '}';
+    }
+}